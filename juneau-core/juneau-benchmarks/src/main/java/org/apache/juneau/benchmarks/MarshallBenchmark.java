@@ -0,0 +1,105 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.marshall.*;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Serialize/parse throughput of the {@link Marshall} implementations over small, medium, and large bean graphs.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Run only the JSON and MsgPack benchmarks against the large graph.</jc>
+ * 	java -jar target/benchmarks.jar MarshallBenchmark -p format=Json,MsgPack -p size=large
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MarshallBenchmark {
+
+	/** The marshaller being measured. */
+	@Param({"Json", "SimpleJson", "Xml", "Html", "Uon", "UrlEncoding", "MsgPack", "OpenApi"})
+	public String format;
+
+	/** The size of the bean graph:  <js>"small"</js> (1 line item), <js>"medium"</js> (100), or <js>"large"</js> (10000). */
+	@Param({"small", "medium", "large"})
+	public String size;
+
+	private Marshall marshall;
+	private Order order;
+	private Object serialized;
+
+	/**
+	 * Creates the bean graph and its serialized form for the current parameters.
+	 *
+	 * @throws Exception If the bean graph could not be serialized.
+	 */
+	@Setup
+	public void setup() throws Exception {
+		marshall = getMarshall(format);
+		order = Order.create(getNumItems(size));
+		serialized = marshall.write(order);
+	}
+
+	/**
+	 * Serializes the bean graph.
+	 *
+	 * @return The serialized output (<code>String</code> or <code><jk>byte</jk>[]</code>).
+	 * @throws Exception If serialization failed.
+	 */
+	@Benchmark
+	public Object serialize() throws Exception {
+		return marshall.write(order);
+	}
+
+	/**
+	 * Parses the serialized bean graph.
+	 *
+	 * @return The parsed bean.
+	 * @throws Exception If parsing failed.
+	 */
+	@Benchmark
+	public Order parse() throws Exception {
+		return marshall.read(serialized, Order.class);
+	}
+
+	static Marshall getMarshall(String format) {
+		switch (format) {
+			case "Json": return Json.DEFAULT;
+			case "SimpleJson": return SimpleJson.DEFAULT;
+			case "Xml": return Xml.DEFAULT;
+			case "Html": return Html.DEFAULT;
+			case "Uon": return Uon.DEFAULT;
+			case "UrlEncoding": return UrlEncoding.DEFAULT;
+			case "MsgPack": return MsgPack.DEFAULT;
+			case "OpenApi": return OpenApi.DEFAULT;
+			default: throw new IllegalArgumentException("Unknown format: " + format);
+		}
+	}
+
+	static int getNumItems(String size) {
+		switch (size) {
+			case "small": return 1;
+			case "medium": return 100;
+			case "large": return 10000;
+			default: throw new IllegalArgumentException("Unknown size: " + size);
+		}
+	}
+}
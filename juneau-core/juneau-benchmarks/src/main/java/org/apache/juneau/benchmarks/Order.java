@@ -0,0 +1,104 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.benchmarks;
+
+import java.util.*;
+
+/**
+ * Bean graph used as the payload for marshalling benchmarks.
+ *
+ * <p>
+ * Contains the common property types (strings, numbers, booleans, enums, nested beans, collections and maps) so that
+ * all code paths of the serializers and parsers are exercised.
+ */
+public class Order {
+
+	/** Order state. */
+	@SuppressWarnings("javadoc")
+	public static enum Status { PENDING, SHIPPED, DELIVERED }
+
+	/** Customer who placed the order. */
+	@SuppressWarnings("javadoc")
+	public static class Customer {
+		public String name, email;
+		public Address address;
+		public boolean preferred;
+	}
+
+	/** Mailing address. */
+	@SuppressWarnings("javadoc")
+	public static class Address {
+		public String street, city, state, zip;
+	}
+
+	/** A single line in an order. */
+	@SuppressWarnings("javadoc")
+	public static class LineItem {
+		public String sku, description;
+		public int quantity;
+		public double price;
+		public List<String> tags;
+	}
+
+	@SuppressWarnings("javadoc") public String id;
+	@SuppressWarnings("javadoc") public Status status;
+	@SuppressWarnings("javadoc") public long created;
+	@SuppressWarnings("javadoc") public double total;
+	@SuppressWarnings("javadoc") public Customer customer;
+	@SuppressWarnings("javadoc") public List<LineItem> items;
+	@SuppressWarnings("javadoc") public Map<String,String> attributes;
+
+	/**
+	 * Creates an order with the specified number of line items.
+	 *
+	 * @param numItems The number of line items.
+	 * @return A new populated order.
+	 */
+	public static Order create(int numItems) {
+		Random r = new Random(numItems);
+
+		Address a = new Address();
+		a.street = "123 Main Street";
+		a.city = "Anytown";
+		a.state = "NY";
+		a.zip = "12345";
+
+		Customer c = new Customer();
+		c.name = "John Smith";
+		c.email = "john.smith@example.com";
+		c.address = a;
+		c.preferred = true;
+
+		Order o = new Order();
+		o.id = "order-" + numItems;
+		o.status = Status.SHIPPED;
+		o.created = 1546300800000L;
+		o.customer = c;
+		o.items = new ArrayList<>(numItems);
+		o.attributes = new LinkedHashMap<>();
+		o.attributes.put("channel", "web");
+		o.attributes.put("coupon", "SAVE10");
+
+		for (int i = 0; i < numItems; i++) {
+			LineItem li = new LineItem();
+			li.sku = "SKU-" + i;
+			li.description = "Item #" + i + " with \"quotes\" & <markup>";
+			li.quantity = 1 + r.nextInt(10);
+			li.price = r.nextInt(100000) / 100.0;
+			li.tags = Arrays.asList("tag" + (i % 7), "tag" + (i % 13));
+			o.items.add(li);
+			o.total += li.quantity * li.price;
+		}
+		return o;
+	}
+}
@@ -0,0 +1,30 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+
+/**
+ * JMH Benchmarks
+ *
+ * <p>
+ * Throughput benchmarks for the serializers and parsers.
+ *
+ * <p>
+ * This module is only built when the <code>benchmarks</code> profile is enabled:
+ * <p class='bcode w800'>
+ * 	mvn -Pbenchmarks -pl juneau-core/juneau-benchmarks -am package
+ * 	java -jar juneau-core/juneau-benchmarks/target/benchmarks.jar
+ * </p>
+ *
+ * <p>
+ * Standard JMH options can be passed on the command line (e.g. <code>-p format=Json -p size=large -prof gc</code>).
+ */
+package org.apache.juneau.benchmarks;
@@ -1933,4 +1933,50 @@ public class BeanMapTest {
 	public static class Z {
 		public String a, b, c;
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// Method-handle and reflection property access produce the same results.
+	//====================================================================================================
+	@Test
+	public void testUseMethodHandles() throws Exception {
+		for (boolean b : new boolean[]{true,false}) {
+			BeanSession bs = BeanContext.create().useMethodHandles(b).build().createSession();
+			BeanMap<MH> m = bs.newBeanMap(MH.class);
+			m.put("f1", 1);
+			m.put("f2", 2L);
+			m.put("f3", "foo");
+			m.put("f4", new String[]{"a","b"});
+			MH t = m.getBean();
+			assertEquals(1, t.f1);
+			assertEquals(2L, t.f2);
+			assertEquals("foo", m.get("f3"));
+			assertObjectEquals("['a','b']", m.get("f4"));
+
+			// Integer into a long setter requires a widening conversion.
+			m.getPropertyMeta("f2").set(m, "f2", 3);
+			assertEquals(3L, m.get("f2"));
+
+			try {
+				m.put("f5", "x");
+				fail();
+			} catch (BeanRuntimeException e) {
+				assertEquals("xxx", e.getCause().getCause().getMessage());
+			}
+		}
+	}
+
+	public static class MH {
+		public int f1;
+		private long f2;
+		private String f3;
+		private String[] f4;
+		public long getF2() {return f2;}
+		public void setF2(long f2) {this.f2 = f2;}
+		public String getF3() {return f3;}
+		public void setF3(String f3) {this.f3 = f3;}
+		public String[] getF4() {return f4;}
+		public void setF4(String...f4) {this.f4 = f4;}
+		public String getF5() {return null;}
+		public void setF5(String f5) {throw new RuntimeException("xxx");}
+	}
+}
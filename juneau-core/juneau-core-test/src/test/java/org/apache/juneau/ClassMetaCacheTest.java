@@ -0,0 +1,161 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+
+import java.lang.ref.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class ClassMetaCacheTest {
+
+	//====================================================================================================
+	// Beans that reference each other created concurrently on multiple threads.
+	//====================================================================================================
+	public static class A {
+		public B b;
+		public List<C> c;
+	}
+
+	public static class B {
+		public C c;
+		public A a;
+	}
+
+	public static class C {
+		public A a;
+		public B b;
+	}
+
+	@Test
+	public void testConcurrentRecursiveBeans() throws Exception {
+		for (int i = 0; i < 20; i++) {
+			// Unique settings so that each iteration gets a new cache.
+			final BeanContext bc = BeanContext.create().notBeanPackages("foo.bar" + System.nanoTime() + i).build();
+			final Class<?>[] classes = {A.class, B.class, C.class};
+			ExecutorService es = Executors.newFixedThreadPool(6);
+			try {
+				List<Future<ClassMeta<?>>> l = new ArrayList<>();
+				for (int j = 0; j < 6; j++) {
+					final Class<?> c = classes[j % 3];
+					l.add(es.submit(new Callable<ClassMeta<?>>() {
+						@Override
+						public ClassMeta<?> call() throws Exception {
+							return bc.getClassMeta(c);
+						}
+					}));
+				}
+				for (int j = 0; j < 6; j++) {
+					ClassMeta<?> cm = l.get(j).get(10, TimeUnit.SECONDS);
+					assertTrue(cm.isBean());
+					assertEquals(2, cm.getBeanMeta().getPropertyMetas().size());
+				}
+				assertSame(bc.getClassMeta(A.class), bc.getClassMeta(A.class));
+				assertEquals(B.class, bc.getClassMeta(A.class).getBeanMeta().getPropertyMeta("b").getClassMeta().getInnerClass());
+				assertEquals(C.class, bc.getClassMeta(B.class).getBeanMeta().getPropertyMeta("c").getClassMeta().getInnerClass());
+			} finally {
+				es.shutdownNow();
+			}
+		}
+	}
+
+	//====================================================================================================
+	// Cached ClassMetas don't prevent class loaders from being garbage collected.
+	//====================================================================================================
+	public static class D {
+		public String f;
+	}
+
+	@Test
+	public void testClassLoaderCanBeCollected() throws Exception {
+		BeanContext bc = BeanContext.create().notBeanPackages("foo.baz" + System.nanoTime()).build();
+		Reference<ClassLoader> ref = loadAndIntrospect(bc);
+		for (int i = 0; i < 50 && ref.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(ref.get());
+	}
+
+	//====================================================================================================
+	// ClassMetas of JRE classes don't keep their bean context reachable.
+	//====================================================================================================
+	@Test
+	public void testBeanContextCanBeCollected() throws Exception {
+		Reference<BeanContext> ref = createAndIntrospect();
+		for (int i = 0; i < 50 && ref.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(ref.get());
+	}
+
+	private Reference<BeanContext> createAndIntrospect() throws Exception {
+		// Not created through the builder since built contexts are cached.
+		BeanContext bc = new BeanContext(BeanContext.create().notBeanPackages("foo.qux" + System.nanoTime()).getPropertyStore());
+		assertFalse(bc.getClassMeta(String.class).isBean());
+		assertTrue(bc.getClassMeta(D.class).isBean());
+		assertSame(bc.getClassMeta(Integer.class), bc.getClassMeta(Integer.class));
+		return new WeakReference<>(bc);
+	}
+
+	//====================================================================================================
+	// Caching metadata and transforms for JRE classes doesn't prevent this library from being unloaded.
+	//====================================================================================================
+	@Test
+	public void testLibraryClassLoaderCanBeCollected() throws Exception {
+		Reference<ClassLoader> ref = loadLibraryAndSerialize();
+		for (int i = 0; i < 50 && ref.get() != null; i++) {
+			System.gc();
+			Thread.sleep(20);
+		}
+		assertNull(ref.get());
+	}
+
+	private Reference<ClassLoader> loadLibraryAndSerialize() throws Exception {
+		URL url = BeanContext.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader cl = new URLClassLoader(new URL[]{url}, null);
+		Class<?> c = cl.loadClass(BeanContext.class.getName());
+		assertNotSame(BeanContext.class, c);
+
+		Object bc = c.getField("DEFAULT").get(null);
+		Object session = c.getMethod("createSession").invoke(bc);
+		assertEquals(123, session.getClass().getMethod("convertToType", Object.class, Class.class).invoke(session, "123", Integer.class));
+
+		Map<String,Object> m = new LinkedHashMap<>();
+		m.put("a", 1);
+		m.put("b", Arrays.asList("x", true));
+		m.put("c", 2L);
+		Object s = cl.loadClass("org.apache.juneau.json.JsonSerializer").getField("DEFAULT").get(null);
+		assertEquals("{\"a\":1,\"b\":[\"x\",true],\"c\":2}", s.getClass().getMethod("serialize", Object.class).invoke(s, m));
+
+		cl.close();
+		return new WeakReference<ClassLoader>(cl);
+	}
+
+	private Reference<ClassLoader> loadAndIntrospect(BeanContext bc) throws Exception {
+		URL url = D.class.getProtectionDomain().getCodeSource().getLocation();
+		URLClassLoader cl = new URLClassLoader(new URL[]{url}, null);
+		Class<?> c = cl.loadClass(D.class.getName());
+		assertNotSame(D.class, c);
+		assertTrue(bc.getClassMeta(c).isBean());
+		assertSame(bc.getClassMeta(c), bc.getClassMeta(c));
+		cl.close();
+		return new WeakReference<ClassLoader>(cl);
+	}
+}
@@ -12,10 +12,14 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.util.*;
 
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.parser.*;
 import org.apache.juneau.serializer.*;
 import org.junit.*;
 
@@ -38,10 +42,138 @@ public class CsvTest {
 		assertEquals("b,c\nb1,1\nb2,2\n", r);
 	}
 
+
+	//====================================================================================================
+	// testSerializeQuoting
+	//====================================================================================================
+	@Test
+	public void testSerializeQuoting() throws Exception {
+		List<A> l = new LinkedList<>();
+		l.add(new A("x,\"y\"\nz",1));
+		l.add(new A("null",2));
+		l.add(new A(null,3));
+
+		String r = CsvSerializer.DEFAULT.serialize(l);
+		assertEquals("b,c\n\"x,\"\"y\"\"\nz\",1\n\"null\",2\nnull,3\n", r);
+
+		// Round trip.
+		A[] a = CsvParser.DEFAULT.parse(r, A[].class);
+		assertEquals("x,\"y\"\nz", a[0].b);
+		assertEquals("null", a[1].b);
+		assertNull(a[2].b);
+	}
+
+	//====================================================================================================
+	// testSerializeIterator
+	//====================================================================================================
+	@Test
+	public void testSerializeIterator() throws Exception {
+		List<A> l = new LinkedList<>();
+		l.add(new A("b1",1));
+		l.add(new A("b2",2));
+
+		assertEquals("b,c\nb1,1\nb2,2\n", CsvSerializer.DEFAULT.serialize(l.iterator()));
+		assertEquals("b,c\nb1,1\nb2,2\n", CsvSerializer.DEFAULT.serialize(Collections.enumeration(l)));
+		assertEquals("b,c\nb1,1\n", CsvSerializer.DEFAULT.serialize(l.get(0)));
+		assertEquals("", CsvSerializer.DEFAULT.serialize(new A[0]));
+	}
+
+	//====================================================================================================
+	// testSerializeMapsAndDynaBeans
+	//====================================================================================================
+	@Test
+	public void testSerializeMapsAndDynaBeans() throws Exception {
+		List<Object> l = new LinkedList<>();
+		l.add(new ObjectMap("{a:1,b:'x y'}"));
+		l.add(new ObjectMap("{a:2}"));
+		assertEquals("a,b\n1,\"x y\"\n2,null\n", CsvSerializer.DEFAULT.serialize(l));
+
+		l.clear();
+		l.add(new B().init("x1", 1));
+		l.add(new B().init("x2", 2));
+		assertEquals("f1,c1,c2\nx1,1,2\nx2,2,4\n", CsvSerializer.DEFAULT.serialize(l));
+	}
+
+	public static class B {
+		public String f1;
+		private Map<String,Object> extra = new LinkedHashMap<>();
+
+		B init(String f1, int i) {
+			this.f1 = f1;
+			extra.put("c1", i);
+			extra.put("c2", i*2);
+			return this;
+		}
+
+		@BeanProperty(name="*")
+		public Map<String,Object> getExtra() {
+			return extra;
+		}
+	}
+
+	//====================================================================================================
+	// testParseBeans
+	//====================================================================================================
+	@Test
+	public void testParseBeans() throws Exception {
+		ReaderParser p = CsvParser.DEFAULT;
+
+		List<A> l = p.parse("b,c\nb1,1\r\nb2,2\n", List.class, A.class);
+		assertEquals(2, l.size());
+		assertEquals("b1", l.get(0).b);
+		assertEquals(2, l.get(1).c);
+
+		A[] a = p.parse("c,b\n1,\"x,\"\"y\"\"\nz\"\n2,null", A[].class);
+		assertEquals("x,\"y\"\nz", a[0].b);
+		assertEquals(1, a[0].c);
+		assertNull(a[1].b);
+		assertEquals(2, a[1].c);
+	}
+
+	//====================================================================================================
+	// testParseMaps
+	//====================================================================================================
+	@Test
+	public void testParseMaps() throws Exception {
+		ObjectList l = (ObjectList)CsvParser.DEFAULT.parse("a,b\n1,\n\"\",null\n", Object.class);
+		assertObjectEquals("[{a:'1',b:''},{a:'',b:null}]", l);
+	}
+
+	//====================================================================================================
+	// testParseRows
+	//====================================================================================================
+	@Test
+	public void testParseRows() throws Exception {
+		final List<A> l = new ArrayList<>();
+		CsvParser.DEFAULT.parseRows("b,c\nb1,1\nb2,2\nb3,3\n", A.class, new ElementHandler<A>() {
+			@Override
+			public boolean onElement(A a) {
+				l.add(a);
+				return a.c < 2;
+			}
+		});
+		assertEquals(2, l.size());
+		assertEquals("b2", l.get(1).b);
+	}
+
+	@Test
+	public void testParseUnknownProperty() throws Exception {
+		try {
+			CsvParser.DEFAULT.parse("b,x\nb1,1", A[].class);
+			fail();
+		} catch (ParseException e) {
+			assertTrue(e.getLocalizedMessage().contains("Unknown property 'x'"));
+		}
+		A[] a = CsvParser.create().ignoreUnknownBeanProperties().build().parse("b,x\nb1,1", A[].class);
+		assertEquals("b1", a[0].b);
+	}
+
 	public static class A {
 		public String b;
 		public int c;
 
+		public A() {}
+
 		public A(String b, int c) {
 			this.b = b;
 			this.c = c;
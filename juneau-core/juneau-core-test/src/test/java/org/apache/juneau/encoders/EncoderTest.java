@@ -0,0 +1,90 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+@SuppressWarnings({"javadoc"})
+public class EncoderTest {
+
+	private static byte[] encode(Encoder e, byte[] b) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		try (OutputStream os = e.getOutputStream(baos)) {
+			os.write(b);
+		}
+		return baos.toByteArray();
+	}
+
+	private static byte[] decode(Encoder e, byte[] b) throws Exception {
+		return readBytes(e.getInputStream(new ByteArrayInputStream(b)), 1024);
+	}
+
+	private static byte[] testBytes() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 10000; i++)
+			sb.append("foo").append(i).append(',');
+		return sb.toString().getBytes();
+	}
+
+	//====================================================================================================
+	// Round trips
+	//====================================================================================================
+	@Test
+	public void testRoundTrips() throws Exception {
+		byte[] b = testBytes();
+		for (Encoder e : new Encoder[]{new GzipEncoder(), new GzipEncoder.Fast(), new GzipEncoder(9), new DeflateEncoder(), new DeflateEncoder.Fast(), new DeflateEncoder(0)}) {
+			byte[] b2 = encode(e, b);
+			assertArrayEquals(b, decode(e, b2));
+		}
+	}
+
+	@Test
+	public void testFastIsLarger() throws Exception {
+		byte[] b = testBytes();
+		assertTrue(encode(new GzipEncoder.Fast(), b).length >= encode(new GzipEncoder(9), b).length);
+		assertTrue(encode(new DeflateEncoder.Fast(), b).length >= encode(new DeflateEncoder(9), b).length);
+	}
+
+	@Test
+	public void testInvalidLevel() throws Exception {
+		try {
+			new GzipEncoder(10);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid compression level: 10", e.getLocalizedMessage());
+		}
+		try {
+			new DeflateEncoder(-2);
+			fail();
+		} catch (IllegalArgumentException e) {
+			assertEquals("Invalid compression level: -2", e.getLocalizedMessage());
+		}
+	}
+
+	//====================================================================================================
+	// Negotiation
+	//====================================================================================================
+	@Test
+	public void testDeflateMatching() throws Exception {
+		EncoderGroup g = EncoderGroup.create().append(GzipEncoder.Fast.class, DeflateEncoder.class).build();
+		assertInstanceOf(DeflateEncoder.class, g.getEncoder("deflate"));
+		assertInstanceOf(GzipEncoder.Fast.class, g.getEncoder("gzip"));
+		assertInstanceOf(DeflateEncoder.class, g.getEncoder("gzip;q=0.5,deflate"));
+	}
+}
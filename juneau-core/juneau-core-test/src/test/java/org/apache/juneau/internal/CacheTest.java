@@ -0,0 +1,168 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class CacheTest {
+
+	@Test
+	public void testGetPut() throws Exception {
+		Cache<String,String> c = new Cache<>(false, 10);
+		assertNull(c.get("a"));
+		assertEquals("A", c.put("a", "A"));
+		assertEquals("A", c.put("a", "B"));
+		assertEquals("A", c.get("a"));
+		assertEquals(1, c.size());
+		assertEquals(0, c.getHits());
+		assertEquals(0, c.getMisses());
+	}
+
+	@Test
+	public void testRecordStats() throws Exception {
+		Cache<String,String> c = new Cache<>(false, 10, -1, null, true);
+		assertNull(c.get("a"));
+		c.put("a", "A");
+		assertEquals("A", c.get("a"));
+		assertEquals("A", c.get("a"));
+		assertEquals(2, c.getHits());
+		assertEquals(1, c.getMisses());
+	}
+
+	@Test
+	public void testDisabled() throws Exception {
+		Cache<String,String> c = new Cache<>(true, 10);
+		assertEquals("A", c.put("a", "A"));
+		assertEquals("B", c.put("a", "B"));
+		assertNull(c.get("a"));
+		assertEquals(0, c.size());
+	}
+
+	@Test
+	public void testBoundedSize() throws Exception {
+		Cache<Integer,Integer> c = new Cache<>(false, 100);
+		for (int i = 0; i < 1000; i++)
+			c.put(i, i);
+		assertEquals(100, c.size());
+		assertEquals(900, c.getEvictions());
+		assertEquals(Integer.valueOf(999), c.get(999));
+		assertNull(c.get(0));
+	}
+
+	@Test
+	public void testRecentlyUsedEntriesKept() throws Exception {
+		Cache<Integer,Integer> c = new Cache<>(false, 10);
+		for (int i = 0; i < 10; i++)
+			c.put(i, i);
+		c.get(0);
+		c.get(1);
+		for (int i = 10; i < 15; i++)
+			c.put(i, i);
+		assertEquals(10, c.size());
+		assertEquals(Integer.valueOf(0), c.get(0));
+		assertEquals(Integer.valueOf(1), c.get(1));
+		assertNull(c.get(2));
+	}
+
+	@Test
+	public void testBoundedWeight() throws Exception {
+		Cache<String,byte[]> c = new Cache<>(false, 100, 1000, new Cache.Weigher<String,byte[]>() {
+			@Override
+			public int weigh(String key, byte[] value) {
+				return value.length;
+			}
+		});
+		for (int i = 0; i < 10; i++)
+			c.put("k"+i, new byte[300]);
+		assertEquals(3, c.size());
+		assertEquals(900, c.getWeight());
+		c.put("big", new byte[2000]);
+		assertEquals(0, c.size());
+		assertEquals(0, c.getWeight());
+	}
+
+	@Test
+	public void testRemoveAndClear() throws Exception {
+		Cache<String,byte[]> c = new Cache<>(false, 100, 1000, new Cache.Weigher<String,byte[]>() {
+			@Override
+			public int weigh(String key, byte[] value) {
+				return value.length;
+			}
+		});
+		c.put("a", new byte[10]);
+		c.put("b", new byte[20]);
+		assertEquals(10, c.remove("a").length);
+		assertNull(c.remove("a"));
+		assertEquals(20, c.getWeight());
+		c.clear();
+		assertEquals(0, c.size());
+		assertEquals(0, c.getWeight());
+		assertEquals(0, c.getEvictions());
+	}
+
+	@Test
+	public void testRemovedEntriesSkippedByEviction() throws Exception {
+		Cache<Integer,Integer> c = new Cache<>(false, 10);
+		for (int i = 0; i < 10; i++)
+			c.put(i, i);
+		for (int i = 0; i < 5; i++)
+			c.remove(i);
+		for (int i = 10; i < 15; i++)
+			c.put(i, i);
+		assertEquals(10, c.size());
+		assertEquals(0, c.getEvictions());
+		c.put(15, 15);
+		assertEquals(10, c.size());
+		assertEquals(1, c.getEvictions());
+		assertNull(c.get(5));
+		assertEquals(Integer.valueOf(6), c.get(6));
+
+		// Re-adding a removed key isn't affected by its dead entry.
+		c = new Cache<>(false, 10);
+		for (int i = 0; i < 10000; i++) {
+			c.put(i % 3, i);
+			assertEquals(Integer.valueOf(i), c.remove(i % 3));
+		}
+		for (int i = 0; i < 10; i++)
+			c.put(i, i);
+		assertEquals(10, c.size());
+		assertEquals(0, c.getEvictions());
+		assertEquals(Integer.valueOf(0), c.get(0));
+	}
+
+	@Test
+	public void testConcurrentPuts() throws Exception {
+		final Cache<Integer,Integer> c = new Cache<>(false, 50);
+		Thread[] t = new Thread[4];
+		for (int i = 0; i < t.length; i++) {
+			final int offset = i * 10000;
+			t[i] = new Thread() {
+				@Override
+				public void run() {
+					for (int j = 0; j < 10000; j++) {
+						c.put(offset + j, j);
+						c.get(offset + j/2);
+					}
+				}
+			};
+			t[i].start();
+		}
+		for (Thread tt : t)
+			tt.join();
+		c.put(-1, -1);
+		assertTrue(c.size() <= 50);
+	}
+}
@@ -0,0 +1,60 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+@SuppressWarnings("javadoc")
+public class StringIndexTest {
+
+	@Test
+	public void testGet() throws Exception {
+		String foo = new String("foo");
+		StringIndex si = new StringIndex(Arrays.asList(foo, "bar", "foobar", "", null));
+		char[] c = "xxfoobarxx".toCharArray();
+
+		assertSame(foo, si.get(c, 2, 3));
+		assertEquals("bar", si.get(c, 5, 3));
+		assertEquals("foobar", si.get(c, 2, 6));
+		assertEquals("", si.get(c, 0, 0));
+		assertNull(si.get(c, 2, 4));
+		assertNull(si.get(c, 0, 3));
+
+		assertSame(foo, si.get("foo"));
+		assertNull(si.get("baz"));
+	}
+
+	@Test
+	public void testManyStrings() throws Exception {
+		List<String> l = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+			l.add("p" + i);
+		StringIndex si = new StringIndex(l);
+		for (int i = 0; i < 1000; i++) {
+			char[] c = ("p" + i).toCharArray();
+			assertSame(l.get(i), si.get(c, 0, c.length));
+		}
+		assertNull(si.get("p1000".toCharArray(), 0, 5));
+	}
+
+	@Test
+	public void testEmpty() throws Exception {
+		StringIndex si = new StringIndex(Collections.<String>emptyList());
+		assertNull(si.get("foo".toCharArray(), 0, 3));
+		assertNull(si.get("foo"));
+	}
+}
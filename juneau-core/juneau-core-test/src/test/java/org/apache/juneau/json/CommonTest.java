@@ -15,6 +15,7 @@ package org.apache.juneau.json;
 import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
+import java.io.*;
 import java.net.*;
 import java.net.URI;
 import java.util.*;
@@ -360,4 +361,69 @@ public class CommonTest {
 			return ("J(f1: " + this.getF1() + ", f2: " + this.getF2() + ")");
 		}
 	}
+
+	//====================================================================================================
+	// Bean getter throws an exception
+	//====================================================================================================
+	@Test
+	public void testBeanGetterException() throws Exception {
+		// The exception is logged as a warning and the property is treated as null.
+		assertEquals("{f2:1}", JsonSerializer.DEFAULT_LAX.serialize(new K()));
+		assertEquals("{f2:1,f1:null}", JsonSerializer.create().ssq().trimNullProperties(false).build().serialize(new K()));
+	}
+
+	public static class K {
+		public String getF1() {
+			throw new RuntimeException("foo");
+		}
+		public void setF1(String f1) {}
+		public int f2 = 1;
+	}
+
+	//====================================================================================================
+	// Bean type names combined with trimmed properties
+	//====================================================================================================
+	@Test
+	public void testBeanTypeNameWithTrimmedProperties() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().addBeanTypes().addRootType().trimEmptyCollections().build();
+		L l = new L();
+		assertEquals("{_type:'L',f3:1}", s.serialize(l));
+		l.f1 = "foo";
+		l.f2 = new ArrayList<>(Arrays.asList("bar"));
+		assertEquals("{_type:'L',f1:'foo',f2:['bar'],f3:1}", s.serialize(l));
+		assertEquals("{f1:'foo',f2:['bar'],f3:1}", JsonSerializer.DEFAULT_LAX.serialize(l));
+	}
+
+	@Bean(typeName="L")
+	public static class L {
+		public String f1;
+		public List<String> f2 = new ArrayList<>();
+		public int f3 = 1;
+	}
+
+	//====================================================================================================
+	// Property names that must be quoted or escaped
+	//====================================================================================================
+	@Test
+	public void testPropertyNamesRequiringQuotes() throws Exception {
+		M m = new M();
+		assertEquals("{'a/b':1,'class':2,'c\\'d':3,f4:4}", JsonSerializer.DEFAULT_LAX.serialize(m));
+		assertEquals("{\"a/b\":1,\"class\":2,\"c'd\":3,\"f4\":4}", JsonSerializer.DEFAULT.serialize(m));
+		assertEquals("{'a\\/b':1,'class':2,'c\\'d':3,f4:4}", JsonSerializer.create().ssq().escapeSolidus().build().serialize(m));
+
+		// Cached names must not be used when writing to a writer with different settings.
+		StringWriter sw = new StringWriter();
+		JsonSerializer.DEFAULT_LAX.serialize(m, new JsonWriter(sw, false, 100, false, '"', false, false, null));
+		assertEquals("{\"a/b\":1,\"class\":2,\"c'd\":3,\"f4\":4}", sw.toString());
+	}
+
+	public static class M {
+		@BeanProperty(name="a/b")
+		public int f1 = 1;
+		@BeanProperty(name="class")
+		public int f2 = 2;
+		@BeanProperty(name="c'd")
+		public int f3 = 3;
+		public int f4 = 4;
+	}
 }
@@ -16,6 +16,7 @@ import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
@@ -370,6 +371,96 @@ public class JsonParserTest {
 		assertObjectEquals("[456]", x);
 	}
 
+	//====================================================================================================
+	// testBeanPropertyNames
+	// Property names are matched directly from the read buffer when possible.
+	//====================================================================================================
+	@Test
+	public void testBeanPropertyNames() throws Exception {
+		JsonParser p2 = JsonParser.create().ignoreUnknownBeanProperties().build();
+		D d;
+
+		d = p.parse("{foo:1,foobar:2}", D.class);
+		assertObjectEquals("{foo:1,foobar:2}", d);
+
+		d = p.parse("{'foo':1,\"foobar\":2}", D.class);
+		assertObjectEquals("{foo:1,foobar:2}", d);
+
+		d = p2.parse("{\"f\\u006fo\":1,\"foo\\\"bar\":2}", D.class);
+		assertObjectEquals("{foo:1,foobar:0}", d);
+
+		d = p.parse("{'fo'+'o':1,'foo' + 'bar':2}", D.class);
+		assertObjectEquals("{foo:1,foobar:2}", d);
+
+		d = p2.parse("{fooba:1,'foobarx':2,foo:3}", D.class);
+		assertObjectEquals("{foo:3,foobar:0}", d);
+
+		try {
+			p.parse("{fooba:1}", D.class);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("fooba"));
+		}
+	}
+
+	public static class D {
+		public int foo, foobar;
+	}
+
+	//====================================================================================================
+	// testParseElements
+	// Array elements are handed off one at a time as they're parsed.
+	//====================================================================================================
+	@Test
+	public void testParseElements() throws Exception {
+		final List<D> l = new ArrayList<>();
+		ElementHandler<D> h = new ElementHandler<D>() {
+			@Override
+			public boolean onElement(D d) {
+				l.add(d);
+				return true;
+			}
+		};
+
+		p.parseElements(reader(" /*x*/ [{foo:1},{foo:2,foobar:3}, {} ] "), D.class, h);
+		assertObjectEquals("[{foo:1,foobar:0},{foo:2,foobar:3},{foo:0,foobar:0}]", l);
+
+		l.clear();
+		p.parseElements("[]", D.class, h);
+		assertEquals(0, l.size());
+
+		// Stop after the first element.  The rest of the input is not read.
+		final List<Integer> l2 = new ArrayList<>();
+		JsonParser.DEFAULT_STRICT.parseElements("[1,2,{malformed", Integer.class, new ElementHandler<Integer>() {
+			@Override
+			public boolean onElement(Integer i) {
+				l2.add(i);
+				return false;
+			}
+		});
+		assertObjectEquals("[1]", l2);
+
+		try {
+			l.clear();
+			p.parseElements("[{foo:1},{foo:", D.class, h);
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertEquals(1, l.size());
+		}
+
+		try {
+			p.parseElements("[1,2]", Integer.class, new ElementHandler<Integer>() {
+				@Override
+				public boolean onElement(Integer i) throws Exception {
+					throw new IOException("foo");
+				}
+			});
+			fail("Exception expected");
+		} catch (ParseException e) {
+			assertTrue(e.getMessage().contains("foo"));
+		}
+	}
+
 	private Reader reader(String in) {
 		return new CloseableStringReader(in);
 	}
@@ -131,6 +131,24 @@ public class MsgPackParserTest {
 		assertObjectEquals("{'1':2}", r);
 	}
 
+	//====================================================================================================
+	// testIgnoreUnknownProperties
+	// Validates that values of unknown bean properties are skipped, including nested maps and arrays.
+	//====================================================================================================
+	@Test
+	public void testIgnoreUnknownProperties() throws Exception {
+		InputStreamParser p = MsgPackParser.DEFAULT.builder().ignoreUnknownBeanProperties().build();
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(new ObjectMap("{x:{y:[1,'foo',{z:null}],w:true},a:1,q:'bar',b:'b'}"));
+
+		A a = p.parse(b, A.class);
+		assertObjectEquals("{a:1,b:'b'}", a);
+	}
+
+	public static class A {
+		public int a;
+		public String b;
+	}
+
 	private InputStream is(String spacedHex) throws Exception {
 		return new CloseableByteArrayInputStream(StringUtils.fromSpacedHex(spacedHex));
 	}
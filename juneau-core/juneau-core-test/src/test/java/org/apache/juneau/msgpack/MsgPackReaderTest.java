@@ -0,0 +1,214 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.msgpack;
+
+import static org.apache.juneau.msgpack.DataType.*;
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link MsgPackReader} class.
+ */
+@SuppressWarnings("javadoc")
+public class MsgPackReaderTest {
+
+	//====================================================================================================
+	// testScalars
+	//====================================================================================================
+	@Test
+	public void testScalars() throws Exception {
+		MsgPackReader r = new MsgPackReader(StringUtils.fromSpacedHex(
+			"C0 C2 C3 05 FF CC FF CD FF FF CE FF FF FF FF D0 FE D1 FF FE D2 FF FF FF FD D3 FF FF FF FF FF FF FF FC CA 3F 80 00 00 CB BF F0 00 00 00 00 00 00 A3 61 62 63"
+		));
+		assertEquals(NULL, r.next());
+		assertEquals(BOOLEAN, r.next());
+		assertFalse(r.readBoolean());
+		assertEquals(BOOLEAN, r.next());
+		assertTrue(r.readBoolean());
+		assertEquals(INT, r.next());
+		assertEquals(5, r.readInt());
+		assertEquals(INT, r.next());
+		assertEquals(-1, r.readInt());
+		assertEquals(INT, r.next());
+		assertEquals(255, r.readInt());
+		assertEquals(INT, r.next());
+		assertEquals(65535, r.readInt());
+		assertEquals(LONG, r.next());
+		assertEquals(4294967295L, r.readLong());
+		assertEquals(INT, r.next());
+		assertEquals(-2, r.readInt());
+		assertEquals(INT, r.next());
+		assertEquals(-2, r.readInt());
+		assertEquals(INT, r.next());
+		assertEquals(-3, r.readInt());
+		assertEquals(LONG, r.next());
+		assertEquals(-4, r.readLong());
+		assertEquals(FLOAT, r.next());
+		assertEquals(1.0f, r.readFloat(), 0);
+		assertEquals(DOUBLE, r.next());
+		assertEquals(-1.0, r.readDouble(), 0);
+		assertEquals(STRING, r.next());
+		assertEquals(3, r.getLength());
+		assertEquals("abc", r.readString());
+		assertFalse(r.hasNext());
+
+		try {
+			r.next();
+			fail("Exception expected");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("Unexpected end of file"));
+		}
+	}
+
+	//====================================================================================================
+	// testSerializedBeans
+	// Reads selected properties from serialized beans, skipping the rest.
+	//====================================================================================================
+	@Test
+	public void testSerializedBeans() throws Exception {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < 3; i++)
+			l.add(new A().init(i));
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+
+		assertEquals("[0, 1, 2]", readIds(new MsgPackReader(b)).toString());
+
+		// Direct buffer with a non-zero position.
+		ByteBuffer bb = ByteBuffer.allocateDirect(b.length + 3);
+		bb.put(new byte[3]).put(b).position(3);
+		assertEquals("[0, 1, 2]", readIds(new MsgPackReader(bb)).toString());
+		assertEquals(3, bb.position());
+
+		// Memory-mapped file.
+		File f = File.createTempFile("MsgPackReaderTest", ".msgpack");
+		try {
+			try (FileOutputStream os = new FileOutputStream(f)) {
+				os.write(b);
+			}
+			assertEquals("[0, 1, 2]", readIds(new MsgPackReader(f)).toString());
+		} finally {
+			f.delete();
+		}
+	}
+
+	private static List<Long> readIds(MsgPackReader r) throws Exception {
+		List<Long> l = new ArrayList<>();
+		assertEquals(ARRAY, r.next());
+		for (long i = 0, n = r.getLength(); i < n; i++) {
+			assertEquals(MAP, r.next());
+			for (long j = 0, m = r.getLength(); j < m; j++) {
+				r.next();
+				if (r.readString().equals("id")) {
+					r.next();
+					l.add(r.readLong());
+				} else {
+					r.next();
+					r.skipValue();
+				}
+			}
+		}
+		assertFalse(r.hasNext());
+		return l;
+	}
+
+	public static class A {
+		public String name;
+		public List<Map<String,Object>> children;
+		public int id;
+		public byte[] data;
+
+		A init(int id) {
+			this.name = "a" + id;
+			this.children = new ArrayList<>();
+			this.children.add(new ObjectMap().append("x", new int[]{1,2,3}).append("y", new ObjectMap().append("z", "foo")));
+			this.children.add(new ObjectMap());
+			this.id = id;
+			this.data = new byte[]{1,2,3};
+			return this;
+		}
+	}
+
+	//====================================================================================================
+	// testReadBytes
+	// Strings and binaries are returned as views on the underlying buffer.
+	//====================================================================================================
+	@Test
+	public void testReadBytes() throws Exception {
+		byte[] b = StringUtils.fromSpacedHex("A2 68 69 C4 03 01 02 03 D5 07 0A 0B");
+		MsgPackReader r = new MsgPackReader(b);
+
+		assertEquals(STRING, r.next());
+		ByteBuffer bb = r.readBytes();
+		assertEquals(2, bb.remaining());
+		assertSame(b, bb.array());
+		assertEquals('h', bb.get(0));
+
+		assertEquals(BIN, r.next());
+		bb = r.readBytes();
+		assertEquals(3, bb.remaining());
+		assertEquals(3, bb.get(2));
+
+		assertEquals(EXT, r.next());
+		assertEquals(7, r.getExtType());
+		bb = r.readBytes();
+		assertEquals(2, bb.remaining());
+		assertEquals(0x0B, bb.get(1));
+
+		try {
+			r.readString();
+			fail("Exception expected");
+		} catch (IllegalStateException e) {
+			assertTrue(e.getMessage().contains("EXT"));
+		}
+	}
+
+	//====================================================================================================
+	// testPosition
+	//====================================================================================================
+	@Test
+	public void testPosition() throws Exception {
+		MsgPackReader r = new MsgPackReader(StringUtils.fromSpacedHex("92 91 01 A1 61 02"));
+		r.next();
+		r.next();
+		r.skipValue();
+		int p = r.getPosition();
+		assertEquals(STRING, r.next());
+		assertEquals("a", r.readString());
+		assertEquals(INT, r.next());
+		assertEquals(2, r.readInt());
+		r.setPosition(p);
+		assertEquals(STRING, r.next());
+		assertEquals("a", r.readString());
+	}
+
+	//====================================================================================================
+	// testTruncated
+	//====================================================================================================
+	@Test
+	public void testTruncated() throws Exception {
+		MsgPackReader r = new MsgPackReader(StringUtils.fromSpacedHex("A5 61 62"));
+		try {
+			r.next();
+			fail("Exception expected");
+		} catch (IOException e) {
+			assertTrue(e.getMessage().contains("Unexpected end of file"));
+		}
+	}
+}
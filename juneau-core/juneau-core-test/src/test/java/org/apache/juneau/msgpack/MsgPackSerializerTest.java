@@ -204,6 +204,56 @@ public class MsgPackSerializerTest {
 		test(new ObjectMap("{1:1,2:1,3:1,4:1,5:1,6:1,7:1,8:1,9:1,a:1,b:1,c:1,d:1,e:1,f:1,g:1}"), "DE 00 10 A1 31 01 A1 32 01 A1 33 01 A1 34 01 A1 35 01 A1 36 01 A1 37 01 A1 38 01 A1 39 01 A1 61 01 A1 62 01 A1 63 01 A1 64 01 A1 65 01 A1 66 01 A1 67 01");
 	}
 
+	//====================================================================================================
+	// testStrings
+	// Strings are UTF-8 encoded directly into the output buffer.
+	//====================================================================================================
+	@Test
+	public void testStrings() throws Exception {
+		String[] chars = {"a", "\u00e9", "\u20ac", "\ud83d\ude00", "\ud800"};
+		int[] lengths = {0, 1, 10, 11, 15, 16, 31, 32, 85, 86, 255, 256, 2730, 2731, 3000, 65535, 65536, 100000};
+		for (String c : chars) {
+			for (int len : lengths) {
+				StringBuilder sb = new StringBuilder();
+				for (int i = 0; i < len; i++)
+					sb.append(c);
+				String in = sb.toString();
+				assertArrayEquals("chars="+c+",len="+len, encode(in), MsgPackSerializer.DEFAULT.serialize(in));
+			}
+		}
+
+		// Mixed content spanning many output buffers.
+		ObjectList l = new ObjectList();
+		for (int i = 0; i < 5000; i++)
+			l.add("x" + i + "\u00e9\u20ac\ud83d\ude00");
+		byte[] b = MsgPackSerializer.DEFAULT.serialize(l);
+		assertEquals(l, MsgPackParser.DEFAULT.parse(b, ObjectList.class));
+	}
+
+	private static byte[] encode(String s) throws Exception {
+		byte[] b = s.getBytes("UTF-8");
+		int n = b.length;
+		java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+		if (n < 32) {
+			baos.write(0xA0 + n);
+		} else if (n < 256) {
+			baos.write(0xD9);
+			baos.write(n);
+		} else if (n < 65536) {
+			baos.write(0xDA);
+			baos.write(n>>8);
+			baos.write(n);
+		} else {
+			baos.write(0xDB);
+			baos.write(n>>24);
+			baos.write(n>>16);
+			baos.write(n>>8);
+			baos.write(n);
+		}
+		baos.write(b);
+		return baos.toByteArray();
+	}
+
 	public static class Person {
 		public String name = "John Smith";
 		public int age = 21;
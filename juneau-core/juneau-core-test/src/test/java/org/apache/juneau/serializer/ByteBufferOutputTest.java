@@ -0,0 +1,143 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.plaintext.*;
+import org.junit.*;
+
+/**
+ * Tests serializing to {@link ByteBuffer} and {@link WritableByteChannel} outputs.
+ */
+@SuppressWarnings("javadoc")
+public class ByteBufferOutputTest {
+
+	// Contains 1, 2, 3, and 4 byte UTF-8 characters.
+	private static final String TEXT = "aé€😀";
+
+	private static Map<String,Object> createMap(int size) {
+		Map<String,Object> m = new LinkedHashMap<>();
+		for (int i = 0; i < size; i++)
+			m.put("k" + i, TEXT + i);
+		return m;
+	}
+
+	private static byte[] toBytes(ByteBuffer b) {
+		b.flip();
+		byte[] b2 = new byte[b.remaining()];
+		b.get(b2);
+		return b2;
+	}
+
+	//====================================================================================================
+	// testWriterSerializerToByteBuffer
+	//====================================================================================================
+	@Test
+	public void testWriterSerializerToByteBuffer() throws Exception {
+		Map<String,Object> m = createMap(10);
+		byte[] expected = JsonSerializer.DEFAULT_LAX.serialize(m).getBytes(IOUtils.UTF8);
+
+		ByteBuffer b = ByteBuffer.allocate(1000);
+		JsonSerializer.DEFAULT_LAX.serialize(m, b);
+		assertArrayEquals(expected, toBytes(b));
+
+		b = ByteBuffer.allocateDirect(1000);
+		JsonSerializer.DEFAULT_LAX.serialize(m, b);
+		assertArrayEquals(expected, toBytes(b));
+	}
+
+	//====================================================================================================
+	// testWriterSerializerToChannel
+	//====================================================================================================
+	@Test
+	public void testWriterSerializerToChannel() throws Exception {
+		// Large enough to fill the channel buffer several times.
+		Map<String,Object> m = createMap(5000);
+		byte[] expected = JsonSerializer.DEFAULT_LAX.serialize(m).getBytes(IOUtils.UTF8);
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		WritableByteChannel c = Channels.newChannel(baos);
+		JsonSerializer.DEFAULT_LAX.serialize(m, c);
+		assertArrayEquals(expected, baos.toByteArray());
+		assertTrue(c.isOpen());
+	}
+
+	//====================================================================================================
+	// testOutputStreamSerializer
+	//====================================================================================================
+	@Test
+	public void testOutputStreamSerializer() throws Exception {
+		Map<String,Object> m = createMap(5000);
+		byte[] expected = MsgPackSerializer.DEFAULT.serialize(m);
+
+		ByteBuffer b = ByteBuffer.allocate(expected.length);
+		MsgPackSerializer.DEFAULT.serialize(m, b);
+		assertArrayEquals(expected, toBytes(b));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		MsgPackSerializer.DEFAULT.serialize(m, Channels.newChannel(baos));
+		assertArrayEquals(expected, baos.toByteArray());
+	}
+
+	//====================================================================================================
+	// testBufferOverflow
+	//====================================================================================================
+	@Test
+	public void testBufferOverflow() throws Exception {
+		try {
+			JsonSerializer.DEFAULT_LAX.serialize(createMap(10), ByteBuffer.allocate(10));
+			fail();
+		} catch (SerializeException e) {
+			assertTrue(e.getLocalizedMessage().contains("Buffer overflow"));
+		}
+	}
+
+	//====================================================================================================
+	// testUnpairedSurrogates
+	//====================================================================================================
+	@Test
+	public void testUnpairedSurrogates() throws Exception {
+		ByteBuffer b = ByteBuffer.allocate(100);
+		ByteBufferWriter w = new ByteBufferWriter(new ByteBufferOutputStream(b));
+		String s = "a\ud83db\ude00c\ud83d";
+		w.write(s);
+		w.close();
+		assertArrayEquals(s.getBytes(IOUtils.UTF8), toBytes(b));
+	}
+
+	//====================================================================================================
+	// testTrailingSurrogate
+	// Serializers never close the writer, so a trailing unpaired surrogate must be written on flush.
+	//====================================================================================================
+	@Test
+	public void testTrailingSurrogate() throws Exception {
+		String s = "a\ud83d";
+
+		ByteBuffer b = ByteBuffer.allocate(100);
+		PlainTextSerializer.DEFAULT.serialize(s, b);
+		assertArrayEquals(s.getBytes(IOUtils.UTF8), toBytes(b));
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		PlainTextSerializer.DEFAULT.serialize(s, Channels.newChannel(baos));
+		assertArrayEquals(s.getBytes(IOUtils.UTF8), baos.toByteArray());
+	}
+}
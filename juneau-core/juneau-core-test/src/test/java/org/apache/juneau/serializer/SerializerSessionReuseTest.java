@@ -0,0 +1,161 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.xml.*;
+import org.apache.juneau.xml.annotation.*;
+import org.junit.*;
+
+/**
+ * Tests reuse of sessions by the {@link Serializer} convenience methods.
+ */
+@SuppressWarnings("javadoc")
+public class SerializerSessionReuseTest {
+
+	//====================================================================================================
+	// testSessionReused
+	//====================================================================================================
+	@Test
+	public void testSessionReused() throws Exception {
+		Serializer s = JsonSerializer.create().ssq().build();
+
+		SerializerSession ss = s.borrowSession();
+		s.releaseSession(ss);
+		assertSame(ss, s.borrowSession());
+
+		// Sessions in use aren't handed out twice.
+		assertNotSame(ss, s.borrowSession());
+	}
+
+	//====================================================================================================
+	// testSessionResetWithArgs
+	//====================================================================================================
+	@Test
+	public void testSessionResetWithArgs() throws Exception {
+		Serializer s = JsonSerializer.create().ssq().build();
+		Map<String,Integer> m = Collections.singletonMap("a", 1);
+
+		SerializerSession ss = s.borrowSession(new SerializerSessionArgs().useWhitespace(true));
+		assertEquals("{\n\ta: 1\n}", ss.serialize(m));
+		s.releaseSession(ss);
+
+		// The pooled session is re-initialized with the new arguments.
+		SerializerSession ss2 = s.borrowSession(new SerializerSessionArgs().useWhitespace(false));
+		assertSame(ss, ss2);
+		assertEquals("{a:1}", ss2.serialize(m));
+		s.releaseSession(ss2);
+
+		ss2 = s.borrowSession(new SerializerSessionArgs().useWhitespace(true));
+		s.releaseSession(ss2);
+
+		// The convenience methods go back to the default arguments.
+		assertEquals("{a:1}", s.serialize(m));
+	}
+
+	//====================================================================================================
+	// testXmlSessionPropertiesReset
+	//====================================================================================================
+	@Test
+	public void testXmlSessionPropertiesReset() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().build();
+		ObjectMap p = new ObjectMap().append(XmlSerializer.XML_defaultNamespace, "foo:http://foo");
+
+		SerializerSession ss = s.borrowSession(new SerializerSessionArgs().properties(p));
+		assertEquals("<object xmlns='http://foo'><d>1</d></object>", ss.serialize(new D()));
+		s.releaseSession(ss);
+
+		ss = s.borrowSession(new SerializerSessionArgs());
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau'><d>1</d></object>", ss.serialize(new D()));
+		s.releaseSession(ss);
+	}
+
+	//====================================================================================================
+	// testListenerSessionsNotReused
+	//====================================================================================================
+	@Test
+	public void testListenerSessionsNotReused() throws Exception {
+		Serializer s = JsonSerializer.create().ssq().listener(SerializerListener.class).build();
+
+		SerializerSession ss = s.borrowSession();
+		s.releaseSession(ss);
+		assertNotSame(ss, s.borrowSession());
+	}
+
+	//====================================================================================================
+	// testReuseAfterError
+	//====================================================================================================
+	@Test
+	public void testReuseAfterError() throws Exception {
+		JsonSerializer s = JsonSerializer.create().ssq().detectRecursions().build();
+
+		A a = new A();
+		a.a = a;
+		try {
+			s.serialize(a);
+			fail();
+		} catch (SerializeException e) {
+			assertTrue(e.getLocalizedMessage().contains("Recursion occurred"));
+		}
+
+		// The stack from the failed call must not leak into the next one.
+		A a2 = new A();
+		a2.a = new A();
+		assertEquals("{a:{}}", s.serialize(a2));
+		assertEquals("{a:{}}", s.serialize(a2));
+	}
+
+	public static class A {
+		public A a;
+	}
+
+	//====================================================================================================
+	// testReentrant
+	//====================================================================================================
+	@Test
+	public void testReentrant() throws Exception {
+		assertEquals("{b:'{c:1}'}", SimpleJsonSerializer.DEFAULT.serialize(new B()));
+	}
+
+	public static class B {
+		public String getB() throws Exception {
+			// Serializes with the same serializer while the outer call is still in progress.
+			return SimpleJsonSerializer.DEFAULT.serialize(Collections.singletonMap("c", 1));
+		}
+	}
+
+	//====================================================================================================
+	// testXmlNamespacesNotCarriedOver
+	//====================================================================================================
+	@Test
+	public void testXmlNamespacesNotCarriedOver() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().autoDetectNamespaces(true).build();
+
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo'><foo:c>1</foo:c></object>", s.serialize(new C()));
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau'><d>1</d></object>", s.serialize(new D()));
+	}
+
+	public static class C {
+		@Xml(prefix="foo", namespace="http://foo")
+		public int c = 1;
+	}
+
+	public static class D {
+		public int d = 1;
+	}
+}
@@ -0,0 +1,177 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.serializer;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.msgpack.*;
+import org.apache.juneau.uon.*;
+import org.apache.juneau.xml.*;
+import org.junit.*;
+
+/**
+ * Tests serializing iterators, enumerations, and iterables that aren't collections.
+ */
+@SuppressWarnings("javadoc")
+public class StreamableSerializeTest {
+
+	//====================================================================================================
+	// testRootValues
+	//====================================================================================================
+	@Test
+	public void testRootValues() throws Exception {
+		List<String> l = Arrays.asList("a","b");
+
+		assertEquals("['a','b']", JsonSerializer.DEFAULT_LAX.serialize(l.iterator()));
+		assertEquals("['a','b']", JsonSerializer.DEFAULT_LAX.serialize(Collections.enumeration(l)));
+		assertEquals("['a','b']", JsonSerializer.DEFAULT_LAX.serialize(new A(l)));
+		assertEquals("[]", JsonSerializer.DEFAULT_LAX.serialize(Collections.emptyIterator()));
+
+		assertEquals("<array><string>a</string><string>b</string></array>", XmlSerializer.DEFAULT_SQ.serialize(l.iterator()));
+		assertEquals("@(a,b)", UonSerializer.DEFAULT.serialize(l.iterator()));
+		assertEquals("@()", UonSerializer.DEFAULT.serialize(Collections.emptyIterator()));
+		assertArrayEquals(MsgPackSerializer.DEFAULT.serialize(l), MsgPackSerializer.DEFAULT.serialize(l.iterator()));
+	}
+
+	//====================================================================================================
+	// testBeanProperties
+	//====================================================================================================
+	@Test
+	public void testBeanProperties() throws Exception {
+		B b = new B();
+		b.f1 = Arrays.asList(1,2).iterator();
+		b.f2 = new A(Arrays.asList("x"));
+		assertEquals("{f1:[1,2],f2:['x']}", JsonSerializer.DEFAULT_LAX.serialize(b));
+
+		b.f1 = Arrays.asList(1,2).iterator();
+		assertEquals("<object><f1><number>1</number><number>2</number></f1><f2><string>x</string></f2></object>", XmlSerializer.DEFAULT_SQ.serialize(b));
+
+		b.f1 = Arrays.asList(1,2).iterator();
+		assertEquals("(f1=@(1,2),f2=@(x))", UonSerializer.DEFAULT.serialize(b));
+	}
+
+	//====================================================================================================
+	// testSorted
+	//====================================================================================================
+	@Test
+	public void testSorted() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().sortCollections().build();
+		assertEquals("['a','b','c']", s.serialize(Arrays.asList("c","a","b").iterator()));
+	}
+
+	//====================================================================================================
+	// testLazy
+	// Elements are written as they're produced.
+	//====================================================================================================
+	@Test
+	public void testLazy() throws Exception {
+		final StringWriter sw = new StringWriter();
+		final List<String> seen = new ArrayList<>();
+		Iterator<Integer> i = new Iterator<Integer>() {
+			int n = 0;
+			@Override
+			public boolean hasNext() {
+				return n < 3;
+			}
+			@Override
+			public Integer next() {
+				seen.add(sw.toString());
+				return n++;
+			}
+			@Override
+			public void remove() {
+				throw new UnsupportedOperationException();
+			}
+		};
+		JsonSerializer.DEFAULT_LAX.serialize(i, sw);
+		assertEquals("[[, [0,, [0,1,]", seen.toString());
+		assertEquals("[0,1,2]", sw.toString());
+	}
+
+	//====================================================================================================
+	// testClosed
+	// Closeable sources (e.g. streams) are closed after being serialized, even on errors.
+	//====================================================================================================
+	@Test
+	public void testClosed() throws Exception {
+		List<String> l = Arrays.asList("a","b");
+		C c;
+
+		c = new C(l);
+		assertEquals("['a','b']", JsonSerializer.DEFAULT_LAX.serialize(c));
+		assertEquals(1, c.closed);
+
+		c = new C(l);
+		assertEquals("<array><string>a</string><string>b</string></array>", XmlSerializer.DEFAULT_SQ.serialize(c));
+		assertEquals(1, c.closed);
+
+		c = new C(l);
+		assertEquals("@(a,b)", UonSerializer.DEFAULT.serialize(c));
+		assertEquals(1, c.closed);
+
+		c = new C(l);
+		MsgPackSerializer.DEFAULT.serialize(c);
+		assertEquals(1, c.closed);
+
+		c = new C(null);
+		try {
+			JsonSerializer.DEFAULT_LAX.serialize(c);
+			fail();
+		} catch (SerializeException e) {
+			assertEquals(1, c.closed);
+		}
+	}
+
+	public static class A implements Iterable<String> {
+		private final List<String> l;
+
+		public A(List<String> l) {
+			this.l = l;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			return l.iterator();
+		}
+	}
+
+	public static class C implements Iterable<String>, Closeable {
+		private final List<String> l;
+		int closed;
+
+		public C(List<String> l) {
+			this.l = l;
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			if (l == null)
+				throw new RuntimeException("Broken");
+			return l.iterator();
+		}
+
+		@Override
+		public void close() {
+			closed++;
+		}
+	}
+
+	public static class B {
+		public Iterator<Integer> f1;
+		public Iterable<String> f2;
+	}
+}
@@ -16,6 +16,7 @@ import static org.apache.juneau.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.json.*;
@@ -424,4 +425,204 @@ public class PojoQueryTest {
 			this.f4 = new GregorianCalendar(year, month, day);
 		}
 	}
-}
\ No newline at end of file
+
+	//====================================================================================================
+	// testSortingNulls
+	//====================================================================================================
+	@Test
+	public void testSortingNulls() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		SearchArgs sa;
+		List results;
+
+		List<E> in = new AList<E>()
+			.append(new E(null, 1, true))
+			.append(new E("bar", 2, false))
+			.append(new E(null, 3, true))
+			.append(new E("foo", 4, false))
+		;
+
+		PojoQuery q = new PojoQuery(in, session);
+
+		sa = SearchArgs.builder().sort("f1").view("f2").build();
+		results = q.filter(sa);
+		assertObjectEquals("[{f2:2},{f2:4},{f2:1},{f2:3}]", results);
+
+		sa = SearchArgs.builder().sort("f1-").view("f2").build();
+		results = q.filter(sa);
+		assertObjectEquals("[{f2:1},{f2:3},{f2:4},{f2:2}]", results);
+
+		sa = SearchArgs.builder().sort("f3-,f1").view("f2").build();
+		results = q.filter(sa);
+		assertObjectEquals("[{f2:1},{f2:3},{f2:2},{f2:4}]", results);
+
+		sa = SearchArgs.builder().sort("f1").view("f2").position(1).limit(2).build();
+		results = q.filter(sa);
+		assertObjectEquals("[{f2:4},{f2:1}]", results);
+	}
+
+	//====================================================================================================
+	// testPaging
+	//====================================================================================================
+	@Test
+	public void testPaging() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		Random r = new Random(1);
+
+		List<E> in = new ArrayList<>();
+		for (int i = 0; i < 1000; i++)
+			in.add(new E("x" + r.nextInt(50), i, r.nextBoolean()));
+
+		PojoQuery q = new PojoQuery(in, session);
+
+		// A page of a sorted result must be the same as the same range of the fully-sorted result.
+		for (String sort : new String[]{"f1", "f1-", "f3,f1-", "f3-,f1,f2-"}) {
+			List all = q.filter(SearchArgs.builder().sort(sort).view("f2").build());
+			assertEquals(1000, all.size());
+			for (int[] p : new int[][]{{0,1},{0,10},{5,100},{990,20},{0,999},{0,1000},{1000,5},{2000,5}}) {
+				List page = q.filter(SearchArgs.builder().sort(sort).view("f2").position(p[0]).limit(p[1]).build());
+				int start = Math.min(p[0], 1000), end = Math.min(p[0]+p[1], 1000);
+				assertEqualObjects(all.subList(start, end), page);
+			}
+		}
+
+		// Unsorted paging with a search.
+		List all = q.filter(SearchArgs.builder().search("f1=x1*").view("f2").build());
+		List page = q.filter(SearchArgs.builder().search("f1=x1*").view("f2").position(3).limit(4).build());
+		assertEqualObjects(all.subList(3, 7), page);
+	}
+
+	//====================================================================================================
+	// testIndexedList
+	//====================================================================================================
+	@Test
+	public void testIndexedList() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		Random r = new Random(2);
+
+		List<E> in = new ArrayList<>();
+		for (int i = 0; i < 500; i++)
+			in.add(new E(r.nextInt(10) == 0 ? null : "x" + r.nextInt(20), r.nextInt(100), r.nextBoolean()));
+
+		IndexedList<E> il = new IndexedList<>(in, "f1", "f3");
+		assertTrue(il.isIndexed("f1"));
+		assertFalse(il.isIndexed("f2"));
+
+		PojoQuery q1 = new PojoQuery(in, session), q2 = new PojoQuery(il, session);
+
+		String[][] queries = {
+			{"f1=x1*", null},
+			{"f1=x1 x2,f2>50", null},
+			{"f1=x1*,f3=true", "f2"},
+			{null, "f1"},
+			{null, "f1-,f2"},
+			{"f2<30", "f3,f1-"},
+			{"f1=-x1*", "f3-,f2"},
+		};
+		for (String[] x : queries) {
+			for (int[] p : new int[][]{{0,0},{0,10},{7,13}}) {
+				SearchArgs sa = SearchArgs.builder().search(x[0]).sort(x[1]).position(p[0]).limit(p[1]).build();
+				assertEqualObjects(q1.filter(sa), q2.filter(sa));
+			}
+		}
+
+		// Indexes must be rebuilt after modifications.
+		SearchArgs sa = SearchArgs.builder().search("f1=foo").sort("f1").view("f2").build();
+		assertObjectEquals("[]", q2.filter(sa));
+		il.add(new E("foo", 1000, true));
+		il.set(0, new E("foo", 1001, true));
+		assertObjectEquals("[{f2:1001},{f2:1000}]", new PojoQuery(il, session).filter(sa));
+		il.remove(0);
+		assertObjectEquals("[{f2:1000}]", new PojoQuery(il, session).filter(sa));
+	}
+
+	//====================================================================================================
+	// testIndexedListSwappedColumn
+	//====================================================================================================
+	@Test
+	public void testIndexedListSwappedColumn() throws Exception {
+		BeanSession session = BeanContext.create().pojoSwaps(CalendarSwap.ISO8601DT.class).build().createSession();
+		Random r = new Random(4);
+
+		List<J> in = new ArrayList<>();
+		for (int i = 0; i < 500; i++)
+			in.add(new J("x" + r.nextInt(20), i, r.nextBoolean(), 2000 + r.nextInt(10), r.nextInt(12), 1 + r.nextInt(28)));
+
+		PojoQuery q1 = new PojoQuery(in, session), q2 = new PojoQuery(new IndexedList<>(in, "f4"), session);
+
+		String[][] queries = {
+			{"f4=2005", null},
+			{"f4>2005", "f4,f2"},
+			{"f4=2003.02 - 2007.11,f1=x1*", "f4-,f2"},
+			{null, "f4,f2"},
+		};
+		for (String[] x : queries) {
+			SearchArgs sa = SearchArgs.builder().search(x[0]).sort(x[1]).view("f2").build();
+			List l = q1.filter(sa);
+			assertFalse(l.isEmpty());
+			assertEqualObjects(l, q2.filter(sa));
+		}
+	}
+
+	//====================================================================================================
+	// testParallel
+	//====================================================================================================
+	@Test
+	public void testParallel() throws Exception {
+		BeanSession session = BeanContext.DEFAULT.createSession();
+		Random r = new Random(3);
+
+		List<J> in = new ArrayList<>();
+		for (int i = 0; i < 10000; i++)
+			in.add(new J(r.nextInt(20) == 0 ? null : "x" + r.nextInt(100), i, r.nextBoolean(), 2000 + r.nextInt(10), r.nextInt(12), 1 + r.nextInt(28)));
+
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try {
+			String[][] queries = {
+				{null, null},
+				{"f1=x1*", null},
+				{"f1=x1*,f4=2005", "f2-"},
+				{"f2>5000,f3=true", null},
+				{null, "f1,f4-"},
+				{"f4>=2003", "f3,f1-,f2"},
+			};
+			for (Object o : new Object[]{in, in.toArray(new J[0]), new IndexedList<>(in, "f1", "f3")}) {
+				PojoQuery q1 = new PojoQuery(o, session), q2 = new PojoQuery(o, session).parallel(1, pool);
+				for (String[] x : queries) {
+					for (int[] p : new int[][]{{0,0},{0,10},{7500,1000},{5,2500}}) {
+						SearchArgs sa = SearchArgs.builder().search(x[0]).sort(x[1]).view("f2").position(p[0]).limit(p[1]).build();
+						assertEqualObjects(q1.filter(sa), q2.filter(sa));
+					}
+				}
+			}
+
+		} finally {
+			pool.shutdown();
+		}
+
+		// Below the threshold, evaluation happens on the calling thread.
+		pool = new ForkJoinPool(4);
+		try {
+			new PojoQuery(in, session).parallel(100000, pool).filter(SearchArgs.builder().search("f1=x1*").sort("f1").build());
+			assertEquals(0, pool.getPoolSize());
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	public class J {
+		public String f1;
+		public int f2;
+		public boolean f3;
+		public Calendar f4;
+
+		J() {}
+
+		J(String f1, int f2, boolean f3, int year, int month, int day) {
+			this.f1 = f1;
+			this.f2 = f2;
+			this.f3 = f3;
+			this.f4 = new GregorianCalendar(year, month, day);
+		}
+	}
+}
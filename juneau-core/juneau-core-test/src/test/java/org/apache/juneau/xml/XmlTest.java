@@ -257,6 +257,30 @@ public class XmlTest {
 		public int f1 = 1;
 	}
 
+	//====================================================================================================
+	// Property name with invalid XML characters.
+	//====================================================================================================
+	@Test
+	public void testPropertyNameWithInvalidChars() throws Exception {
+		XmlSerializer s = XmlSerializer.DEFAULT_SQ;
+		XmlParser p = XmlParser.DEFAULT;
+		D2 t = new D2();
+		String r = s.serialize(t);
+		assertEquals("<object><a_x0020_b>1</a_x0020_b><_x0031_c>2</_x0031_c><f3>3</f3></object>", r);
+		assertEquals(r, s.serialize(t));
+		t = p.parse(r, D2.class);
+		assertEquals(1, t.f1);
+		assertEquals(2, t.f2);
+	}
+
+	public static class D2 {
+		@BeanProperty(name="a b")
+		public int f1 = 1;
+		@BeanProperty(name="1c")
+		public int f2 = 2;
+		public int f3 = 3;
+	}
+
 	//====================================================================================================
 	// Field of type collection with element name.
 	// Element name should be ignored.
@@ -979,6 +1003,103 @@ public class XmlTest {
 		validateXml(t, s.build());
 	}
 
+	//====================================================================================================
+	// Auto-detect namespaces from declared property types and from Object property values.
+	//====================================================================================================
+	@Test
+	public void testNsAutoDetectPropertyTypes() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().autoDetectNamespaces(true).build();
+		String r;
+
+		// Namespaces come from the declared types.
+		R1 t1 = new R1();
+		t1.f1 = new T1();
+		t1.f2 = new ArrayList<>(Arrays.asList(new T1()));
+		r = s.serialize(t1);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:foo='http://foo' xmlns:bar='http://bar' xmlns:baz='http://baz'><foo:f1><foo:f1>1</foo:f1><bar:f2>2</bar:f2><foo:f3>3</foo:f3><baz:f4>4</baz:f4></foo:f1><f2><object><foo:f1>1</foo:f1><bar:f2>2</bar:f2><foo:f3>3</foo:f3><baz:f4>4</baz:f4></object></f2></object>", r);
+
+		// Namespaces of Object property values are found by inspecting the values.
+		R2 t2 = new R2();
+		t2.f1 = new T1();
+		r = s.serialize(t2);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:r2='http://r2' xmlns:foo='http://foo' xmlns:bar='http://bar' xmlns:baz='http://baz'><r2:f1 _type='object'><foo:f1>1</foo:f1><bar:f2>2</bar:f2><foo:f3>3</foo:f3><baz:f4>4</baz:f4></r2:f1></object>", r);
+	}
+
+	//====================================================================================================
+	// Auto-detect namespaces of property values that are subclasses of the declared type.
+	//====================================================================================================
+	@Test
+	public void testNsAutoDetectSubclasses() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().autoDetectNamespaces(true).build();
+		String r;
+
+		// The subclass namespace is found by inspecting the value.
+		R3 t = new R3();
+		t.f1 = new R3b();
+		r = s.serialize(t);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:r3b='http://r3b'><r3b:f1 _type='object'><r3b:f1>1</r3b:f1></r3b:f1></object>", r);
+
+		// Final types are known from the declared type even when the value is null.
+		r = s.serialize(new R4());
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:r3c='http://r3c'/>", r);
+	}
+
+	//====================================================================================================
+	// Auto-detect namespaces by only inspecting the values whose types aren't known.
+	//====================================================================================================
+	@Test
+	public void testNsAutoDetectUnknownValuesOnly() throws Exception {
+		XmlSerializer s = XmlSerializer.create().sq().ns().addNamespaceUrisToRoot().autoDetectNamespaces(true).build();
+
+		R5 t = new R5();
+		t.f2 = new ArrayList<R3a>(Arrays.asList(new R3b()));
+		String r = s.serialize(t);
+		assertEquals("<object xmlns='http://www.apache.org/2013/Juneau' xmlns:r3c='http://r3c' xmlns:r3b='http://r3b'><f2><object><r3b:f1>1</r3b:f1></object></f2><r3c:f1><r3c:f1>1</r3c:f1></r3c:f1></object>", r);
+
+		// The final property type is known, so its getter is only called to serialize the value.
+		assertEquals(1, t.calls);
+	}
+
+	public static class R5 {
+		int calls;
+		public List<R3a> f2;
+		public R3c getF1() {
+			calls++;
+			return new R3c();
+		}
+	}
+
+	public static class R1 {
+		public T1 f1;
+		public List<T1> f2;
+	}
+
+	public static class R3 {
+		public R3a f1;
+	}
+
+	public static class R4 {
+		public R3c f1;
+	}
+
+	@Xml(prefix="r3a", namespace="http://r3a")
+	public static class R3a {
+		public int f1 = 1;
+	}
+
+	@Xml(prefix="r3b", namespace="http://r3b")
+	public static class R3b extends R3a {}
+
+	@Xml(prefix="r3c", namespace="http://r3c")
+	public static final class R3c {
+		public int f1 = 1;
+	}
+
+	public static class R2 {
+		@Xml(prefix="r2", namespace="http://r2")
+		public Object f1;
+	}
+
 	//====================================================================================================
 	// @Xml.format=ATTR
 	//====================================================================================================
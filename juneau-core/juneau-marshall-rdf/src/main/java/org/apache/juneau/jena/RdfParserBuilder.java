@@ -727,6 +727,12 @@ public class RdfParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RdfParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RdfParserBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
@@ -926,6 +926,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RdfSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RdfSerializerBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
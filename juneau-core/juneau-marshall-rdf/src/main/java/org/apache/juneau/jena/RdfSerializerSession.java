@@ -89,6 +89,12 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				writer.setProperty(k.substring(15 + propPrefix.length()), getProperty(k));
 	}
 
+	@Override /* Session */
+	protected boolean resetForReuse() {
+		// The model accumulates the statements of every serialize.
+		return false;
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -18,6 +18,7 @@ import static org.apache.juneau.internal.CollectionUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.lang.ref.*;
 import java.lang.reflect.*;
 import java.util.*;
 import java.util.concurrent.*;
@@ -1857,6 +1858,50 @@ public class BeanContext extends Context {
 	 */
 	public static final String BEAN_useJavaBeanIntrospector = PREFIX + "useJavaBeanIntrospector.b";
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"BeanContext.useMethodHandles.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>true</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link BeanContextBuilder#useMethodHandles(boolean)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * If <jk>true</jk>, bean property getters, setters, and fields are accessed through {@link java.lang.invoke.MethodHandle} objects
+	 * that are resolved once when the {@link BeanMeta} for a class is created.
+	 * <br>This avoids the argument-array allocation and per-call access checks of {@link Method#invoke(Object,Object...)}
+	 * and {@link Field#get(Object)} on every property read and write.
+	 * <br>If a method handle cannot be created for a property (e.g. because of a security manager), that property
+	 * silently falls back to reflection.
+	 *
+	 * <p>
+	 * If <jk>false</jk>, all bean property access is done through reflection.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that uses reflection for all bean property access.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.useMethodHandles(<jk>false</jk>)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>BEAN_useMethodHandles</jsf>, <jk>false</jk>)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String BEAN_useMethodHandles = PREFIX + "useMethodHandles.b";
+
 	/*
 	 * The default package pattern exclusion list.
 	 * Any beans in packages in this list will not be considered beans.
@@ -1892,8 +1937,10 @@ public class BeanContext extends Context {
 	// This map ensures that if the BeanContext properties in the Context are the same,
 	// then we reuse the same Class->ClassMeta cache map.
 	// This significantly reduces the number of times we need to construct ClassMeta objects which can be expensive.
-	private static final ConcurrentHashMap<Integer,Map<Class,ClassMeta>> cmCacheCache
+	// The caches are only weakly referenced so that they're evicted once no context uses them.
+	private static final ConcurrentHashMap<Integer,ClassMetaCacheRef> cmCacheCache
 		= new ConcurrentHashMap<>();
+	private static final ReferenceQueue<ClassMetaCache> cmCacheQueue = new ReferenceQueue<>();
 
 	/** Default config.  All default settings. */
 	public static final BeanContext DEFAULT = BeanContext.create().build();
@@ -1914,6 +1961,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters,
 		ignoreInvocationExceptionsOnSetters,
 		useJavaBeanIntrospector,
+		useMethodHandles,
 		useEnumNames,
 		sortProperties,
 		fluentSetters,
@@ -1941,7 +1989,7 @@ public class BeanContext extends Context {
 	private final String beanTypePropertyName;
 	private final int beanHashCode;
 
-	final Map<Class,ClassMeta> cmCache;
+	final ClassMetaCache cmCache;
 	private final ClassMeta<Object> cmObject;  // Reusable ClassMeta that represents general Objects.
 	private final ClassMeta<String> cmString;  // Reusable ClassMeta that represents general Strings.
 	private final ClassMeta<Class> cmClass;  // Reusable ClassMeta that represents general Classes.
@@ -1976,6 +2024,7 @@ public class BeanContext extends Context {
 		ignoreInvocationExceptionsOnGetters = getBooleanProperty(BEAN_ignoreInvocationExceptionsOnGetters, false);
 		ignoreInvocationExceptionsOnSetters = getBooleanProperty(BEAN_ignoreInvocationExceptionsOnSetters, false);
 		useJavaBeanIntrospector = getBooleanProperty(BEAN_useJavaBeanIntrospector, false);
+		useMethodHandles = getBooleanProperty(BEAN_useMethodHandles, true);
 		sortProperties = getBooleanProperty(BEAN_sortProperties, false);
 		fluentSetters = getBooleanProperty(BEAN_fluentSetters, false);
 		beanTypePropertyName = getStringProperty(BEAN_beanTypePropertyName, "_type");
@@ -2046,13 +2095,7 @@ public class BeanContext extends Context {
 		timeZone = getInstanceProperty(BEAN_timeZone, TimeZone.class, null);
 		mediaType = getInstanceProperty(BEAN_mediaType, MediaType.class, null);
 
-		if (! cmCacheCache.containsKey(beanHashCode)) {
-			ConcurrentHashMap<Class,ClassMeta> cm = new ConcurrentHashMap<>();
-			cm.putIfAbsent(String.class, new ClassMeta(String.class, this, null, null, findPojoSwaps(String.class), findChildPojoSwaps(String.class), findExample(String.class)));
-			cm.putIfAbsent(Object.class, new ClassMeta(Object.class, this, null, null, findPojoSwaps(Object.class), findChildPojoSwaps(Object.class), findExample(Object.class)));
-			cmCacheCache.putIfAbsent(beanHashCode, cm);
-		}
-		cmCache = cmCacheCache.get(beanHashCode);
+		cmCache = getClassMetaCache(beanHashCode);
 		cmString = cmCache.get(String.class);
 		cmObject = cmCache.get(Object.class);
 		cmClass = cmCache.get(Class.class);
@@ -2205,8 +2248,11 @@ public class BeanContext extends Context {
 	protected static void dumpCacheStats() {
 		try {
 			int ctCount = 0;
-			for (Map<Class,ClassMeta> cm : cmCacheCache.values())
-				ctCount += cm.size();
+			for (ClassMetaCacheRef r : cmCacheCache.values()) {
+				ClassMetaCache cm = r.get();
+				if (cm != null)
+					ctCount += cm.size();
+			}
 			System.out.println(format("ClassMeta cache: {0} instances in {1} caches", ctCount, cmCacheCache.size())); // NOT DEBUG
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -2241,6 +2287,36 @@ public class BeanContext extends Context {
 		return getClassMeta(type, true);
 	}
 
+	/*
+	 * Returns the ClassMeta cache shared by bean contexts with the specified settings, creating it if necessary.
+	 */
+	private ClassMetaCache getClassMetaCache(Integer beanHashCode) {
+		for (Reference<?> r = cmCacheQueue.poll(); r != null; r = cmCacheQueue.poll())
+			cmCacheCache.remove(((ClassMetaCacheRef)r).key, r);
+
+		while (true) {
+			ClassMetaCacheRef r = cmCacheCache.get(beanHashCode);
+			ClassMetaCache cm = r == null ? null : r.get();
+			if (cm != null)
+				return cm;
+			cm = new ClassMetaCache();
+			cm.put(String.class, new ClassMeta(String.class, this, null, null, findPojoSwaps(String.class), findChildPojoSwaps(String.class), findExample(String.class)));
+			cm.put(Object.class, new ClassMeta(Object.class, this, null, null, findPojoSwaps(Object.class), findChildPojoSwaps(Object.class), findExample(Object.class)));
+			ClassMetaCacheRef r2 = new ClassMetaCacheRef(beanHashCode, cm);
+			if (r == null ? cmCacheCache.putIfAbsent(beanHashCode, r2) == null : cmCacheCache.replace(beanHashCode, r, r2))
+				return cm;
+		}
+	}
+
+	private static final class ClassMetaCacheRef extends WeakReference<ClassMetaCache> {
+		final Integer key;
+
+		ClassMetaCacheRef(Integer key, ClassMetaCache cm) {
+			super(cm, cmCacheQueue);
+			this.key = key;
+		}
+	}
+
 	/**
 	 * Construct a {@code ClassMeta} wrapper around a {@link Class} object.
 	 *
@@ -2266,12 +2342,17 @@ public class BeanContext extends Context {
 
 		ClassMeta<T> cm = cmCache.get(type);
 		if (cm == null) {
-
-			synchronized (this) {
+			// Nested lookups while creating another ClassMeta on this thread (e.g. a bean property type) don't wait
+			// for the lock so that threads creating ClassMetas that reference each other can't deadlock.
+			boolean outer = cmCache.beginCreate(type);
+			try {
 				// Make sure someone didn't already set it while this thread was blocked.
 				cm = cmCache.get(type);
 				if (cm == null)
 					cm = new ClassMeta<>(type, this, findImplClass(type), findBeanFilter(type), findPojoSwaps(type), findChildPojoSwaps(type), findExample(type));
+			} finally {
+				if (outer)
+					cmCache.endCreate();
 			}
 		}
 		if (waitForInit)
@@ -2993,6 +3074,17 @@ public class BeanContext extends Context {
 		return useJavaBeanIntrospector;
 	}
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * @see #BEAN_useMethodHandles
+	 * @return
+	 * 	<jk>true</jk> if bean property getters, setters, and fields are accessed through pre-resolved method handles.
+	 */
+	protected final boolean isUseMethodHandles() {
+		return useMethodHandles;
+	}
+
 	/**
 	 * Configuration property:  Use enum names.
 	 *
@@ -3186,6 +3278,7 @@ public class BeanContext extends Context {
 				.append("useEnumNames", useEnumNames)
 				.append("useInterfaceProxies", useInterfaceProxies)
 				.append("useJavaBeanIntrospector", useJavaBeanIntrospector)
+				.append("useMethodHandles", useMethodHandles)
 			);
 	}
 }
\ No newline at end of file
@@ -1418,6 +1418,27 @@ public class BeanContextBuilder extends ContextBuilder {
 		return set(BEAN_useJavaBeanIntrospector, true);
 	}
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * <p>
+	 * If <jk>true</jk>, bean property getters, setters, and fields are accessed through method handles resolved once
+	 * per bean class instead of through reflection on every call.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link BeanContext#BEAN_useMethodHandles}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>true</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public BeanContextBuilder useMethodHandles(boolean value) {
+		return set(BEAN_useMethodHandles, value);
+	}
+
 	@Override /* ContextBuilder */
 	public BeanContextBuilder set(String name, Object value) {
 		super.set(name, value);
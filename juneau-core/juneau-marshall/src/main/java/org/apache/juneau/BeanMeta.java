@@ -24,6 +24,7 @@ import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.transform.*;
 import org.apache.juneau.utils.*;
 
@@ -98,6 +99,7 @@ public class BeanMeta<T> {
 	final BeanPropertyMeta dynaProperty;                   // "extras" property.
 	private final String dictionaryName;                   // The @Bean(typeName) annotation defined on this bean class.
 	final String notABeanReason;                           // Readable string explaining why this class wasn't a bean.
+	private final StringIndex propertyNameIndex;           // Property names for lookups from parser buffers.
 	final BeanRegistry beanRegistry;
 	final boolean sortProperties;
 	final boolean fluentSetters;
@@ -133,6 +135,12 @@ public class BeanMeta<T> {
 		this.typeProperty = BeanPropertyMeta.builder(this, typePropertyName).canRead().canWrite().rawMetaType(ctx.string()).beanRegistry(beanRegistry).build();
 		this.sortProperties = b.sortProperties;
 		this.fluentSetters = b.fluentSetters;
+
+		Set<String> names = new HashSet<>();
+		if (b.properties != null)
+			names.addAll(b.properties.keySet());
+		names.add(typePropertyName);
+		this.propertyNameIndex = new StringIndex(names);
 	}
 
 	private static final class Builder<T> {
@@ -787,6 +795,18 @@ public class BeanMeta<T> {
 		return extMeta.get(metaDataClass, this);
 	}
 
+	/**
+	 * Returns an index of the property names on this bean (including the type property name).
+	 *
+	 * <p>
+	 * Used by parsers to look up property names directly from their read buffers without creating new strings.
+	 *
+	 * @return An index of the property names on this bean.
+	 */
+	public StringIndex getPropertyNameIndex() {
+		return propertyNameIndex;
+	}
+
 	/**
 	 * Returns metadata about the specified property.
 	 *
@@ -18,6 +18,7 @@ import static org.apache.juneau.internal.CollectionUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.lang.annotation.*;
+import java.lang.invoke.*;
 import java.lang.reflect.*;
 import java.net.*;
 import java.net.URI;
@@ -52,6 +53,9 @@ public final class BeanPropertyMeta {
 	private final Field field;                                // The bean property field (if it has one).
 	private final Field innerField;                                // The bean property field (if it has one).
 	private final Method getter, setter, extraKeys;           // The bean property getter and setter.
+	private final MethodHandle getterHandle, setterHandle;    // Pre-resolved accessors for the getter/setter/field.
+	private final Class<?> setterHandleType;                  // The (wrapped) value type accepted by setterHandle.
+	private final boolean setterHandleAcceptsNull;            // False if the setter/field type is a primitive.
 	private final boolean isUri;                              // True if this is a URL/URI or annotated with @URI.
 	private final boolean isDyna, isDynaGetterMap;            // This is a dyna property (i.e. name="*")
 
@@ -388,6 +392,45 @@ public final class BeanPropertyMeta {
 		this.isDynaGetterMap = b.isDynaGetterMap;
 		this.canRead = b.canRead;
 		this.canWrite = b.canWrite;
+
+		boolean useHandles = beanContext.isUseMethodHandles() && ! isDyna;
+		this.getterHandle = useHandles ? findGetterHandle(getter, field) : null;
+		this.setterHandle = useHandles ? findSetterHandle(setter, field) : null;
+		Class<?> st = setterHandle == null ? null : setter != null ? setter.getParameterTypes()[0] : field.getType();
+		this.setterHandleType = st == null ? null : getWrapperIfPrimitive(st);
+		this.setterHandleAcceptsNull = st != null && ! st.isPrimitive();
+	}
+
+	/*
+	 * Returns a method handle of type (Object)Object for the getter or field, or null if one can't be created.
+	 */
+	private static MethodHandle findGetterHandle(Method getter, Field field) {
+		try {
+			MethodHandle mh = null;
+			if (getter != null)
+				mh = MethodHandles.lookup().unreflect(getter).asFixedArity();
+			else if (field != null)
+				mh = MethodHandles.lookup().unreflectGetter(field);
+			return mh == null ? null : mh.asType(MethodType.methodType(Object.class, Object.class));
+		} catch (Exception e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Returns a method handle of type (Object,Object)void for the setter or field, or null if one can't be created.
+	 */
+	private static MethodHandle findSetterHandle(Method setter, Field field) {
+		try {
+			MethodHandle mh = null;
+			if (setter != null)
+				mh = MethodHandles.lookup().unreflect(setter).asFixedArity();
+			else if (field != null && ! Modifier.isFinal(field.getModifiers()))
+				mh = MethodHandles.lookup().unreflectSetter(field);
+			return mh == null ? null : mh.asType(MethodType.methodType(void.class, Object.class, Object.class));
+		} catch (Exception e) {
+			return null;
+		}
 	}
 
 	/**
@@ -553,6 +596,35 @@ public final class BeanPropertyMeta {
 		}
 	}
 
+	/**
+	 * Same as {@link #get(BeanMap, String)}, but operates directly on a bean instance so that no {@link BeanMap} needs
+	 * to be created.
+	 *
+	 * <p>
+	 * Useful for serializers that read the same properties from many beans of the same type.
+	 *
+	 * @param session The current bean session.
+	 * @param bean The bean to get the transformed value from.
+	 * @param pName The property name.
+	 * @return The property value.
+	 */
+	public Object get(BeanSession session, Object bean, String pName) {
+		try {
+			if (overrideValue != null)
+				return overrideValue;
+
+			return toSerializedForm(session, invokeGetter(bean, pName));
+
+		} catch (Throwable e) {
+			if (beanContext.isIgnoreInvocationExceptionsOnGetters()) {
+				if (rawTypeMeta.isPrimitive())
+					return rawTypeMeta.getPrimitiveDefault();
+				return null;
+			}
+			throw new BeanRuntimeException(e, beanMeta.c, "Exception occurred while getting property ''{0}''", name);
+		}
+	}
+
 	/**
 	 * Equivalent to calling {@link BeanMap#getRaw(Object)}, but is faster since it avoids looking up the property meta.
 	 *
@@ -812,6 +884,13 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Getter or public field not defined on property ''{0}''", name);
 			return (m == null ? null : m.get(pName));
 		}
+		if (getterHandle != null) {
+			try {
+				return (Object)getterHandle.invokeExact(bean);
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (getter != null)
 			return getter.invoke(bean);
 		if (field != null)
@@ -832,6 +911,15 @@ public final class BeanPropertyMeta {
 				throw new BeanRuntimeException(beanMeta.c, "Cannot set property ''{0}'' of type ''{1}'' to object of type ''{2}'' because no setter is defined on this property, and the existing property value is null", name, this.getClassMeta().getInnerClass().getName(), findClassName(val));
 			return (m == null ? null : m.put(pName, val));
 		}
+		// Values that need widening conversions or that are invalid are left to reflection to handle/report.
+		if (setterHandle != null && (val == null ? setterHandleAcceptsNull : setterHandleType.isInstance(val))) {
+			try {
+				setterHandle.invokeExact(bean, val);
+				return null;
+			} catch (Throwable t) {
+				throw new InvocationTargetException(t);
+			}
+		}
 		if (setter != null)
 			return setter.invoke(bean, val);
 		if (field != null) {
@@ -40,11 +40,11 @@ import org.apache.juneau.transform.*;
 public class BeanSession extends Session {
 
 	private final BeanContext ctx;
-	private final Locale locale;
-	private final TimeZone timeZone;
-	private final MediaType mediaType;
-	private final boolean debug;
-	private final HttpPartSchema schema;
+	private Locale locale;
+	private TimeZone timeZone;
+	private MediaType mediaType;
+	private boolean debug, isDefaultLocale;
+	private HttpPartSchema schema;
 	private Stack<StringBuilder> sbStack = new Stack<>();
 
 	/**
@@ -59,13 +59,36 @@ public class BeanSession extends Session {
 	protected BeanSession(BeanContext ctx, BeanSessionArgs args) {
 		super(args);
 		this.ctx = ctx;
+		setArgs(args);
+	}
+
+	/**
+	 * Re-initializes this session with new runtime arguments so that it can be reused for another call.
+	 *
+	 * @param args The new runtime arguments.
+	 */
+	protected void reset(BeanSessionArgs args) {
+		super.reset(args);
+		setArgs(args);
+	}
+
+	private void setArgs(BeanSessionArgs args) {
 		locale = ObjectUtils.firstNonNull(args.locale, ctx.getLocale(), Locale.getDefault());
+		isDefaultLocale = args.locale == null && ctx.getLocale() == null;
 		timeZone = ObjectUtils.firstNonNull(args.timeZone, ctx.getTimeZone());
 		debug = ObjectUtils.firstNonNull(args.debug, ctx.isDebug(), false);
 		schema = args.schema;
 		mediaType = ObjectUtils.firstNonNull(args.mediaType, ctx.getMediaType());
 	}
 
+	@Override /* Session */
+	protected boolean resetForReuse() {
+		// The JVM default locale may have changed since this session was created.
+		if (isDefaultLocale && ! locale.equals(Locale.getDefault()))
+			return false;
+		return super.resetForReuse();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -1344,6 +1367,17 @@ public class BeanSession extends Session {
 		return ctx.isUseJavaBeanIntrospector();
 	}
 
+	/**
+	 * Configuration property:  Use method handles for bean property access.
+	 *
+	 * @see BeanContext#BEAN_useMethodHandles
+	 * @return
+	 * 	<jk>true</jk> if bean property getters, setters, and fields are accessed through pre-resolved method handles.
+	 */
+	protected final boolean isUseMethodHandles() {
+		return ctx.isUseMethodHandles();
+	}
+
 	/**
 	 * Configuration property:  Use enum names.
 	 *
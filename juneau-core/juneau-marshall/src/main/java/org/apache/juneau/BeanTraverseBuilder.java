@@ -492,6 +492,12 @@ public class BeanTraverseBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public BeanTraverseBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public BeanTraverseBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
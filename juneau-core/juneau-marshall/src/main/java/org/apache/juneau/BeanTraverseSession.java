@@ -38,7 +38,7 @@ import java.util.*;
 public class BeanTraverseSession extends BeanSession {
 
 	private final BeanTraverseContext ctx;
-	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
+	private Map<Object,Object> set;                                                 // Contains the current objects in the current branch of the model.
 	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
 
 	// Writable properties
@@ -68,8 +68,20 @@ public class BeanTraverseSession extends BeanSession {
 		args = args == null ? BeanSessionArgs.DEFAULT : args;
 		this.ctx = ctx;
 		this.indent = getInitialDepth();
+		initSet();
+	}
+
+	@Override /* BeanSession */
+	protected void reset(BeanSessionArgs args) {
+		super.reset(args);
+		// Debug mode may have changed.
+		initSet();
+	}
+
+	private void initSet() {
 		if (isDetectRecursions() || isDebug()) {
-			set = new IdentityHashMap<>();
+			if (! (set instanceof IdentityHashMap))
+				set = new IdentityHashMap<>();
 		} else {
 			set = Collections.emptyMap();
 		}
@@ -164,6 +176,18 @@ public class BeanTraverseSession extends BeanSession {
 		isBottom = false;
 	}
 
+	@Override /* Session */
+	protected boolean resetForReuse() {
+		// Clear anything left over from a serialize that failed partway through.
+		set.clear();
+		stack.clear();
+		isBottom = false;
+		currentProperty = null;
+		currentClass = null;
+		indent = getInitialDepth();
+		return super.resetForReuse();
+	}
+
 	/**
 	 * Logs a warning message.
 	 *
@@ -22,6 +22,7 @@ import java.lang.reflect.*;
 import java.lang.reflect.Proxy;
 import java.net.*;
 import java.net.URI;
+import java.nio.file.*;
 import java.util.*;
 import java.util.Date;
 import java.util.concurrent.*;
@@ -90,7 +91,8 @@ public final class ClassMeta<T> implements Type {
 	private final boolean
 		isDelegate,                                          // True if this class extends Delegate.
 		isAbstract,                                          // True if this class is abstract.
-		isMemberClass;                                       // True if this is a non-static member class.
+		isMemberClass,                                       // True if this is a non-static member class.
+		isStreamable;                                        // True if this is a non-collection sequence of values (e.g. Iterator).
 	private final Object primitiveDefault;                  // Default value for primitive type classes.
 	private final Map<String,Method>
 		publicMethods;                                       // All public methods, including static methods.
@@ -193,6 +195,7 @@ public final class ClassMeta<T> implements Type {
 			this.beanRegistry = builder.beanRegistry;
 			this.isMemberClass = builder.isMemberClass;
 			this.isAbstract = builder.isAbstract;
+			this.isStreamable = builder.isStreamable;
 			this.implClass = builder.implClass;
 			this.childUnswapMap = builder.childUnswapMap;
 			this.childSwapMap = builder.childSwapMap;
@@ -248,6 +251,7 @@ public final class ClassMeta<T> implements Type {
 		this.isDelegate = mainType.isDelegate;
 		this.isAbstract = mainType.isAbstract;
 		this.isMemberClass = mainType.isMemberClass;
+		this.isStreamable = mainType.isStreamable;
 		this.primitiveDefault = mainType.primitiveDefault;
 		this.publicMethods = mainType.publicMethods;
 		this.beanContext = mainType.beanContext;
@@ -301,6 +305,7 @@ public final class ClassMeta<T> implements Type {
 		this.isDelegate = false;
 		this.isAbstract = false;
 		this.isMemberClass = false;
+		this.isStreamable = false;
 		this.primitiveDefault = null;
 		this.publicMethods = null;
 		this.beanContext = null;
@@ -334,7 +339,8 @@ public final class ClassMeta<T> implements Type {
 		boolean
 			isDelegate = false,
 			isMemberClass = false,
-			isAbstract = false;
+			isAbstract = false,
+			isStreamable = false;
 		Method
 			fromStringMethod = null,
 			swapMethod = null,
@@ -685,6 +691,15 @@ public final class ClassMeta<T> implements Type {
 			if (beanMeta != null)
 				dictionaryName = beanMeta.getDictionaryName();
 
+			// Iterables that are also beans (or paths) keep being serialized as such.
+			if (cc == OTHER && beanMeta == null) {
+				isStreamable =
+					isParentClass(Iterator.class, c)
+					|| isParentClass(Enumeration.class, c)
+					|| isBaseStream(c)
+					|| (isParentClass(Iterable.class, c) && ! isParentClass(Path.class, c));
+			}
+
 			if (beanMeta != null && beanContext != null && beanContext.isUseInterfaceProxies() && innerClass.isInterface())
 				invocationHandler = new BeanProxyInvocationHandler<T>(beanMeta);
 
@@ -1144,6 +1159,20 @@ public final class ClassMeta<T> implements Type {
 		return cc == COLLECTION;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if this class is a sequence of values other than a collection or array.
+	 *
+	 * <p>
+	 * This includes {@link Iterator}, {@link Enumeration}, <code>java.util.stream.BaseStream</code>, and {@link Iterable}
+	 * classes that aren't beans.
+	 * <br>Serializers write the elements of these one at a time as they're produced instead of collecting them first.
+	 *
+	 * @return <jk>true</jk> if this class is a sequence of values other than a collection or array.
+	 */
+	public boolean isStreamable() {
+		return isStreamable;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if this class is a subclass of {@link Collection} or is an array.
 	 *
@@ -0,0 +1,204 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+
+/**
+ * Cache of {@link ClassMeta} objects shared by all bean contexts with identical bean settings.
+ *
+ * <p>
+ * Entries for application classes are attached to the {@link Class} objects themselves through a {@link ClassValue},
+ * so caching a class doesn't prevent the class (and its class loader) from being garbage collected once it's no longer
+ * used, for example when a web application or plugin is redeployed.
+ * <br>Entries for classes loaded by the class loader of this library or one of its parents (e.g. <code>String</code>)
+ * are only held by the cache itself.
+ * <br>Those classes are never unloaded before this library, and attaching values to them would keep this library's
+ * class loader and the bean context (and any classes it references) reachable forever.
+ *
+ * <p>
+ * Each class has its own lock used for creating its <code>ClassMeta</code>, so that threads creating metadata for
+ * different classes don't block each other.
+ * <br><code>ClassMetas</code> created while another <code>ClassMeta</code> is being created on the same thread
+ * (e.g. bean property types) are kept local to the thread until the outermost one is done.
+ * <br>This allows recursive references to resolve to partially-constructed objects on the creating thread only.
+ * <br>The locks of these nested classes are only acquired if they're free and are held until the outermost
+ * <code>ClassMeta</code> is published.
+ * <br>A thread never waits for a lock while holding another, so threads creating metadata for classes that
+ * reference each other can't deadlock.
+ * <br>In that case only, each thread uses its own copy of the contended <code>ClassMeta</code> and the first one
+ * published is cached.
+ */
+final class ClassMetaCache {
+
+	private final ClassValue<Slot> slots = new ClassValue<Slot>() {
+		@Override /* ClassValue */
+		protected Slot computeValue(Class<?> type) {
+			return new Slot();
+		}
+	};
+
+	// Slots of classes loaded by the class loader of this library or one of its parents.
+	private final ConcurrentHashMap<Class<?>,Slot> librarySlots = new ConcurrentHashMap<>();
+
+	// ClassMetas created by the current thread that haven't been published yet.
+	private final ThreadLocal<Creation> pending = new ThreadLocal<>();
+
+	private final AtomicInteger size = new AtomicInteger();
+
+	/**
+	 * Returns the cached <code>ClassMeta</code> for the specified class.
+	 *
+	 * <p>
+	 * Includes <code>ClassMetas</code> currently being created by this thread.
+	 *
+	 * @param c The class.
+	 * @return The cached <code>ClassMeta</code>, or <jk>null</jk> if it's not in the cache.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> ClassMeta<T> get(Class<T> c) {
+		ClassMeta<?> cm = slot(c).get();
+		if (cm == null) {
+			Creation p = pending.get();
+			if (p != null)
+				cm = p.metas.get(c);
+		}
+		return (ClassMeta<T>)cm;
+	}
+
+	/**
+	 * Adds a newly-constructed <code>ClassMeta</code> to this cache.
+	 *
+	 * <p>
+	 * Called at the start of the <code>ClassMeta</code> constructor so that recursive references can be resolved.
+	 * <br>If this thread is in the middle of creating other <code>ClassMetas</code>, the entry is only visible to this
+	 * thread until {@link #endCreate()} is called.
+	 *
+	 * @param c The class.
+	 * @param cm The class meta.
+	 */
+	void put(Class<?> c, ClassMeta<?> cm) {
+		Creation p = pending.get();
+		if (p != null)
+			p.metas.put(c, cm);
+		else
+			publish(c, cm);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this thread is currently creating a <code>ClassMeta</code> for this cache.
+	 *
+	 * @return <jk>true</jk> if this thread is currently creating a <code>ClassMeta</code> for this cache.
+	 */
+	boolean isCreating() {
+		return pending.get() != null;
+	}
+
+	/**
+	 * Locks the specified class for creating its <code>ClassMeta</code>.
+	 *
+	 * <p>
+	 * If this thread isn't already creating a <code>ClassMeta</code>, waits for the lock and starts collecting newly
+	 * constructed <code>ClassMetas</code> on this thread.
+	 * <br>Otherwise, only takes the lock if it's free.
+	 * <br>Locks are released by {@link #endCreate()}.
+	 *
+	 * @param c The class.
+	 * @return
+	 * 	<jk>true</jk> if this is the outermost creation on this thread and {@link #endCreate()} must be called when done.
+	 */
+	boolean beginCreate(Class<?> c) {
+		Slot s = slot(c);
+		Creation p = pending.get();
+		if (p == null) {
+			s.lock();
+			p = new Creation();
+			p.locks.add(s);
+			pending.set(p);
+			return true;
+		}
+		if (! s.isHeldByCurrentThread() && s.tryLock())
+			p.locks.add(s);
+		return false;
+	}
+
+	/**
+	 * Publishes all <code>ClassMetas</code> constructed on this thread since {@link #beginCreate(Class)} and releases
+	 * the locks.
+	 */
+	void endCreate() {
+		Creation p = pending.get();
+		pending.remove();
+		if (p != null) {
+			try {
+				for (Map.Entry<Class<?>,ClassMeta<?>> e : p.metas.entrySet())
+					publish(e.getKey(), e.getValue());
+			} finally {
+				for (Slot s : p.locks)
+					s.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of <code>ClassMetas</code> that have been added to this cache.
+	 *
+	 * @return The number of <code>ClassMetas</code> that have been added to this cache.
+	 */
+	int size() {
+		return size.get();
+	}
+
+	private void publish(Class<?> c, ClassMeta<?> cm) {
+		if (slot(c).ref.compareAndSet(null, cm))
+			size.incrementAndGet();
+	}
+
+	private Slot slot(Class<?> c) {
+		if (! isLibraryClass(c))
+			return slots.get(c);
+		Slot s = librarySlots.get(c);
+		if (s == null) {
+			s = new Slot();
+			Slot s2 = librarySlots.putIfAbsent(c, s);
+			if (s2 != null)
+				s = s2;
+		}
+		return s;
+	}
+
+	/*
+	 * Per-class lock and entry.
+	 */
+	@SuppressWarnings("serial")
+	private static final class Slot extends ReentrantLock {
+		final AtomicReference<ClassMeta<?>> ref = new AtomicReference<>();
+
+		ClassMeta<?> get() {
+			return ref.get();
+		}
+	}
+
+	/*
+	 * ClassMetas constructed and locks held by a thread.
+	 */
+	private static final class Creation {
+		final Map<Class<?>,ClassMeta<?>> metas = new LinkedHashMap<>();
+		final List<Slot> locks = new ArrayList<>();
+	}
+}
@@ -33,7 +33,7 @@ public abstract class Session {
 
 	private JuneauLogger logger;
 
-	private final ObjectMap properties;
+	private ObjectMap properties;
 	private Map<String,Object> cache;
 	private List<String> warnings;                 // Any warnings encountered.
 
@@ -310,6 +310,34 @@ public abstract class Session {
 		}
 	}
 
+	/**
+	 * Resets the state of this session so that it can be reused for another serialize or parse.
+	 *
+	 * <p>
+	 * Subclasses that keep state between calls must override this method to clear it, or return <jk>false</jk> if
+	 * it can't be cleared.
+	 *
+	 * @return <jk>true</jk> if this session can be reused.
+	 */
+	protected boolean resetForReuse() {
+		cache = null;
+		warnings = null;
+		return true;
+	}
+
+	/**
+	 * Re-initializes this session with new runtime arguments so that it can be reused for another call.
+	 *
+	 * <p>
+	 * Subclasses that compute state from the runtime arguments or session properties must override this method to
+	 * recompute it.
+	 *
+	 * @param args The new runtime arguments.
+	 */
+	protected void reset(SessionArgs args) {
+		this.properties = args.properties == null ? ObjectMap.EMPTY_MAP : args.properties;
+	}
+
 	/**
 	 * Throws a {@link BeanRuntimeException} if any warnings occurred in this session.
 	 */
@@ -0,0 +1,72 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.csv;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Metadata on beans specific to the CSV serializers and parsers.
+ *
+ * <p>
+ * Computed once per bean class and cached on the {@link BeanMeta} so that the column layout does not need to be
+ * rediscovered for every row.
+ */
+public class CsvBeanMeta extends BeanMetaExtended {
+
+	private final BeanPropertyMeta[] properties;   // Readable non-dyna properties in column order.
+	private final BeanPropertyMeta dynaProperty;   // The readable dyna property (i.e. name="*"), or null.
+
+	/**
+	 * Constructor.
+	 *
+	 * @param beanMeta The metadata on the bean that this metadata applies to.
+	 */
+	public CsvBeanMeta(BeanMeta<?> beanMeta) {
+		super(beanMeta);
+		List<BeanPropertyMeta> l = new ArrayList<>();
+		BeanPropertyMeta dyna = null;
+		for (BeanPropertyMeta pm : beanMeta.getPropertyMetas()) {
+			if (pm.canRead()) {
+				if (pm.isDyna())
+					dyna = pm;
+				else
+					l.add(pm);
+			}
+		}
+		this.properties = l.toArray(new BeanPropertyMeta[l.size()]);
+		this.dynaProperty = dyna;
+	}
+
+	/**
+	 * Returns the readable bean properties in the order they should be written as columns.
+	 *
+	 * <p>
+	 * Does not include the dyna property.
+	 *
+	 * @return The readable bean properties.  Never <jk>null</jk>.
+	 */
+	protected BeanPropertyMeta[] getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Returns the readable dyna property on this bean.
+	 *
+	 * @return The readable dyna property (i.e. <js>"*"</js>), or <jk>null</jk> if the bean doesn't have one.
+	 */
+	protected BeanPropertyMeta getDynaProperty() {
+		return dynaProperty;
+	}
+}
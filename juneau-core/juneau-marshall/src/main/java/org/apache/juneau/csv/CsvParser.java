@@ -12,11 +12,23 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import java.lang.reflect.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
 /**
- * TODO - Work in progress.  CSV parser.
+ * Parses RFC 4180 CSV into collections and arrays of beans or maps.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <code>Content-Type</code> types:  <code><b>text/csv</b></code>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * The first row of the input is the header row containing the bean property names or map keys.
+ * <br>Use {@link #parseRows(Object, Class, ElementHandler)} to process large inputs one row at a time without
+ * collecting the rows into memory first.
  */
 public class CsvParser extends ReaderParser {
 
@@ -59,8 +71,28 @@ public class CsvParser extends ReaderParser {
 		return new CsvParserBuilder();
 	}
 
+	/**
+	 * Parses CSV input one row at a time, passing each row to the specified handler as soon as it has been parsed.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>createSession(createDefaultSessionArgs()).parseRows(input, rowType, handler)</code>.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param rowType The class type of each row.
+	 * @param handler The handler to pass each row to.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type, or the handler
+	 * 	threw an exception.
+	 * @see CsvParserSession#parseRows(Object, Class, ElementHandler)
+	 */
+	public final <T> void parseRows(Object input, Class<T> rowType, ElementHandler<? super T> handler) throws ParseException {
+		createSession(createDefaultSessionArgs()).parseRows(input, rowType, handler);
+	}
+
 	@Override /* Parser */
-	public ReaderParserSession createSession(ParserSessionArgs args) {
+	public CsvParserSession createSession(ParserSessionArgs args) {
 		return new CsvParserSession(this, args);
 	}
 
@@ -438,6 +438,12 @@ public class CsvParserBuilder extends ReaderParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public CsvParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public CsvParserBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
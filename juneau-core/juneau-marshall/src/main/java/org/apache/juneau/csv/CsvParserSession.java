@@ -12,6 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.csv;
 
+import java.io.*;
+import java.lang.reflect.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
@@ -19,11 +23,22 @@ import org.apache.juneau.parser.*;
  * Session object that lives for the duration of a single use of {@link CsvParser}.
  *
  * <p>
+ * The first record in the input is treated as a header row containing the property names.
+ * <br>Each following record is converted to either a bean (if the row type is a bean) or a map keyed by the header
+ * names.
+ * <br>Fields are parsed per RFC 4180:  fields containing commas, quotes, or line breaks are enclosed in double quotes,
+ * and embedded double quotes are escaped by doubling them.
+ * <br>An unquoted <js>"null"</js> field represents a <jk>null</jk> value.
+ *
+ * <p>
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused against multiple inputs.
  */
+@SuppressWarnings({ "unchecked", "rawtypes" })
 public final class CsvParserSession extends ReaderParserSession {
 
+	private final StringBuilder sb = new StringBuilder();  // Reused buffer for field values.
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -42,12 +57,214 @@ public final class CsvParserSession extends ReaderParserSession {
 		try (ParserReader r = pipe.getParserReader()) {
 			if (r == null)
 				return null;
-			return parseAnything(type, r, getOuter(), null);
+			return parseAnything(type, r, getOuter());
 		}
 	}
 
-	@SuppressWarnings({})
-	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
-		throw new NoSuchMethodException("Not implemented.");
+	@Override /* ReaderParserSession */
+	protected <E> Collection<E> doParseIntoCollection(ParserPipe pipe, Collection<E> c, Type elementType) throws Exception {
+		try (ParserReader r = pipe.getParserReader()) {
+			if (r != null)
+				parseRows(r, (ClassMeta<E>)getClassMeta(elementType), getOuter(), collector(c));
+			return c;
+		}
+	}
+
+	/**
+	 * Parses CSV input one row at a time, passing each row to the specified handler as soon as it has been parsed.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Class)}, rows are never collected into a collection, so arbitrarily large inputs
+	 * can be processed in constant memory.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param rowType
+	 * 	The class type of each row.
+	 * 	<br>Can be a bean class, a map class, or <code>Object.<jk>class</jk></code> (for {@link ObjectMap ObjectMaps}).
+	 * @param handler The handler to pass each row to.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type, or the handler
+	 * 	threw an exception.
+	 */
+	public <T> void parseRows(Object input, Class<T> rowType, ElementHandler<? super T> handler) throws ParseException {
+		try (ParserPipe pipe = createPipe(input)) {
+			try (ParserReader r = pipe.getParserReader()) {
+				if (r != null)
+					parseRows(r, getClassMeta(rowType), getOuter(), handler);
+			}
+		} catch (ParseException e) {
+			throw e;
+		} catch (IOException e) {
+			throw new ParseException(this, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} catch (Exception e) {
+			throw new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} finally {
+			checkForWarnings();
+		}
+	}
+
+	private <T> T parseAnything(ClassMeta<T> eType, ParserReader r, Object outer) throws Exception {
+		if (eType.isObject()) {
+			return (T)parseRows(r, object(), outer, collector(new ObjectList(this)));
+		} else if (eType.isCollection()) {
+			Collection l = (eType.canCreateNewInstance(outer) ? (Collection)eType.newInstance() : new ObjectList(this));
+			return (T)parseRows(r, eType.getElementType(), outer, collector(l));
+		} else if (eType.isArray()) {
+			ArrayList l = (ArrayList)parseRows(r, eType.getElementType(), outer, collector(new ArrayList()));
+			return (T)toArray(eType, l);
+		}
+		throw new ParseException(this, "Class ''{0}'' cannot be parsed from CSV.  Only collections and arrays are supported.", eType);
+	}
+
+	private static <E> CollectingHandler<E> collector(Collection<E> c) {
+		return new CollectingHandler<>(c);
+	}
+
+	private static final class CollectingHandler<E> implements ElementHandler<E> {
+		final Collection<E> c;
+
+		CollectingHandler(Collection<E> c) {
+			this.c = c;
+		}
+
+		@Override /* ElementHandler */
+		public boolean onElement(E element) {
+			c.add(element);
+			return true;
+		}
+	}
+
+	/*
+	 * Reads the header row and then passes each following row to the handler.
+	 * Returns the collection of the handler if it's a CollectingHandler.
+	 */
+	private <E> Collection<E> parseRows(ParserReader r, ClassMeta<E> eType, Object outer, ElementHandler<? super E> handler) throws Exception {
+
+		if (eType == null)
+			eType = (ClassMeta<E>)object();
+
+		boolean isBean = eType.canCreateNewBean(outer), isMap = eType.isMap();
+		if (! (isBean || isMap || eType.isObject()))
+			throw new ParseException(this, "Class ''{0}'' cannot be used as a CSV row type.  Only beans and maps are supported.", eType);
+
+		List<String> row = new ArrayList<>();
+		Collection<E> result = handler instanceof CollectingHandler ? ((CollectingHandler)handler).c : null;
+
+		if (! readRow(r, row))
+			return result;
+		String[] header = row.toArray(new String[row.size()]);
+
+		// Resolve the bean properties for each column once up front.
+		BeanPropertyMeta[] pMetas = null;
+		if (isBean) {
+			BeanMeta<E> bm = (BeanMeta<E>)eType.getBeanMeta();
+			pMetas = new BeanPropertyMeta[header.length];
+			for (int i = 0; i < header.length; i++)
+				pMetas[i] = header[i] == null ? null : bm.getPropertyMeta(header[i]);
+		}
+
+		ClassMeta<?> valueType = isMap ? eType.getValueType() : object();
+
+		while (readRow(r, row)) {
+			int size = row.size();
+			if (size > header.length && isStrict())
+				throw new ParseException(this, "Row contains {0} fields but the header only contains {1}.", size, header.length);
+			size = Math.min(size, header.length);
+
+			Object o;
+			if (isBean) {
+				BeanMap<E> m = newBeanMap(outer, eType.getInnerClass());
+				for (int i = 0; i < size; i++) {
+					BeanPropertyMeta pMeta = pMetas[i];
+					if (pMeta == null) {
+						if (header[i] != null)
+							onUnknownProperty(header[i], m);
+					} else {
+						setCurrentProperty(pMeta);
+						String s = row.get(i);
+						pMeta.set(m, header[i], s == null || (s.isEmpty() && ! pMeta.getClassMeta().isCharSequence()) ? null : s);
+						setCurrentProperty(null);
+					}
+				}
+				o = m.getBean();
+			} else {
+				Map m = (isMap && eType.canCreateNewInstance(outer) ? (Map)eType.newInstance(outer) : new ObjectMap(this));
+				for (int i = 0; i < size; i++)
+					m.put(header[i], convertAttrToType(m, row.get(i), valueType));
+				o = m;
+			}
+
+			if (outer != null)
+				setParent(eType, o, outer);
+
+			if (! handler.onElement((E)o))
+				break;
+		}
+
+		return result;
+	}
+
+	/*
+	 * Reads a single record into the specified list, replacing its contents.
+	 * Blank lines are skipped.
+	 * Returns false if the end of the input was reached before any fields were found.
+	 */
+	private boolean readRow(ParserReader r, List<String> row) throws Exception {
+		row.clear();
+
+		int c = r.read();
+		while (c == '\n' || c == '\r')
+			c = r.read();
+		if (c == -1)
+			return false;
+
+		while (true) {
+			sb.setLength(0);
+			boolean quoted = false;
+
+			if (c == '"') {
+				quoted = true;
+				while (true) {
+					c = r.read();
+					if (c == -1)
+						throw new ParseException(this, "Unterminated quoted field.");
+					if (c == '"') {
+						c = r.read();
+						if (c != '"')
+							break;
+					}
+					sb.append((char)c);
+				}
+				// Characters between the closing quote and the next delimiter are not allowed in RFC 4180.
+				while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+					if (isStrict())
+						throw new ParseException(this, "Unexpected character ''{0}'' after closing quote.", (char)c);
+					sb.append((char)c);
+					c = r.read();
+				}
+			} else {
+				while (c != ',' && c != '\n' && c != '\r' && c != -1) {
+					sb.append((char)c);
+					c = r.read();
+				}
+			}
+
+			String s = sb.toString();
+			if (! quoted && "null".equals(s))
+				s = null;
+			row.add(trim(s));
+
+			if (c == ',') {
+				c = r.read();
+				continue;
+			}
+			if (c == '\r' && r.peek() == '\n')
+				r.read();
+			return true;
+		}
 	}
 }
@@ -16,7 +16,18 @@ import org.apache.juneau.*;
 import org.apache.juneau.serializer.*;
 
 /**
- * TODO - Work in progress.  CSV serializer.
+ * Serializes collections, arrays, iterators, and streams of beans or maps to RFC 4180 CSV.
+ *
+ * <h5 class='topic'>Media types</h5>
+ *
+ * Handles <code>Accept</code> types:  <code><b>text/csv</b></code>
+ * <p>
+ * Produces <code>Content-Type</code> types:  <code><b>text/csv</b></code>
+ *
+ * <h5 class='topic'>Description</h5>
+ *
+ * The first row of the output is a header row containing the bean property names or map keys.
+ * <br>Rows are written as they are read from the input, so iterators and streams are never collected into memory.
  */
 public final class CsvSerializer extends WriterSerializer {
 
@@ -552,6 +552,12 @@ public class CsvSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public CsvSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public CsvSerializerBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
@@ -17,16 +17,30 @@ import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.serializer.*;
+import org.apache.juneau.transform.*;
 
 /**
  * Session object that lives for the duration of a single use of {@link CsvSerializer}.
  *
  * <p>
+ * Rows are read one at a time from the input (a {@link Collection}, array, {@link Iterable}, {@link Iterator},
+ * {@link Enumeration}, or <code>java.util.stream.Stream</code>) and written immediately, so the input never needs to be
+ * held in memory.
+ * <br>The columns are determined by the first row.
+ * <br>Beans are written using the readable properties of the bean class (plus the dyna property keys of the first bean),
+ * and maps are written using the keys of the first map.
+ * <br>Values are quoted per RFC 4180.
+ *
+ * <p>
  * This class is NOT thread safe.
  * It is typically discarded after one-time use although it can be reused within the same thread.
  */
+@SuppressWarnings({ "rawtypes", "unchecked" })
 public final class CsvSerializerSession extends WriterSerializerSession {
 
+	// The writer is flushed after this many rows so that large outputs get streamed to the client.
+	private static final int FLUSH_INTERVAL = 1000;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -45,60 +59,153 @@ public final class CsvSerializerSession extends WriterSerializerSession {
 
 	@Override /* SerializerSession */
 	protected final void doSerialize(SerializerPipe pipe, Object o) throws Exception {
+		ClassMeta<?> type = getClassMetaForObject(o);
 		try (Writer w = pipe.getWriter()) {
-			ClassMeta<?> cm = getClassMetaForObject(o);
-			Collection<?> l = null;
-			if (cm.isArray()) {
-				l = Arrays.asList((Object[])o);
+			Iterator<?> i = toIterator(o);
+			if (i == null)
+				i = Collections.singleton(o).iterator();
+			if (! i.hasNext())
+				return;
+
+			Object first = swap(i.next());
+			ClassMeta<?> entryType = getClassMetaForObject(first);
+
+			if (entryType != null && entryType.isBean())
+				serializeBeans(w, first, entryType.getBeanMeta(), i);
+			else if (first instanceof Map)
+				serializeMaps(w, (Map)first, i);
+			else
+				serializeValues(w, first, i);
+		} finally {
+			if (type != null && type.isStreamable())
+				closeStreamable(o);
+		}
+	}
+
+	private void serializeBeans(Writer w, Object first, BeanMeta<?> bm, Iterator<?> i) throws Exception {
+		CsvBeanMeta cbm = bm.getExtendedMeta(CsvBeanMeta.class);
+		BeanPropertyMeta[] pMetas = cbm.getProperties();
+		BeanPropertyMeta dyna = cbm.getDynaProperty();
+		String[] dynaKeys = new String[0];
+		if (dyna != null) {
+			Map<String,Object> m = dyna.getDynaMap(first);
+			if (m != null)
+				dynaKeys = m.keySet().toArray(dynaKeys);
+		}
+
+		int col = 0;
+		for (BeanPropertyMeta pm : pMetas)
+			append(w, col++, pm.getName());
+		for (String k : dynaKeys)
+			append(w, col++, k);
+		w.append('\n');
+
+		Class<?> c = bm.getClassMeta().getInnerClass();
+		Object o = first;
+		for (int row = 1; ; row++) {
+			if (o != null && o.getClass() != c) {
+				// Different bean type than the first row, so look up the values by name.
+				BeanMap<?> m = toBeanMap(o);
+				col = 0;
+				for (BeanPropertyMeta pm : pMetas)
+					append(w, col++, m.get(pm.getName()));
+				for (String k : dynaKeys)
+					append(w, col++, m.get(k));
 			} else {
-				l = (Collection<?>)o;
-			}
-			// TODO - Doesn't support DynaBeans.
-			if (l.size() > 0) {
-				ClassMeta<?> entryType = getClassMetaForObject(l.iterator().next());
-				if (entryType.isBean()) {
-					BeanMeta<?> bm = entryType.getBeanMeta();
-					int i = 0;
-					for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-						if (pm.canRead()) {
-							if (i++ > 0)
-								w.append(',');
-							append(w, pm.getName());
-						}
-					}
-					w.append('\n');
-					for (Object o2 : l) {
-						i = 0;
-						BeanMap<?> bean = toBeanMap(o2);
-						for (BeanPropertyMeta pm : bm.getPropertyMetas()) {
-							if (pm.canRead()) {
-								if (i++ > 0)
-									w.append(',');
-								append(w, pm.get(bean, pm.getName()));
-							}
-						}
-						w.append('\n');
-					}
-				}
+				col = 0;
+				for (BeanPropertyMeta pm : pMetas)
+					append(w, col++, o == null ? null : pm.get(this, o, null));
+				for (String k : dynaKeys)
+					append(w, col++, o == null ? null : dyna.get(this, o, k));
 			}
+			w.append('\n');
+			if (! i.hasNext())
+				break;
+			o = swap(i.next());
+			flushIfNeeded(w, row);
+		}
+	}
+
+	private void serializeMaps(Writer w, Map first, Iterator<?> i) throws Exception {
+		Object[] keys = first.keySet().toArray();
+
+		int col = 0;
+		for (Object k : keys)
+			append(w, col++, k);
+		w.append('\n');
+
+		Object o = first;
+		for (int row = 1; ; row++) {
+			Map m = (Map)o;
+			col = 0;
+			for (Object k : keys)
+				append(w, col++, m == null ? null : m.get(k));
+			w.append('\n');
+			if (! i.hasNext())
+				break;
+			o = swap(i.next());
+			flushIfNeeded(w, row);
+		}
+	}
+
+	private void serializeValues(Writer w, Object first, Iterator<?> i) throws Exception {
+		Object o = first;
+		for (int row = 1; ; row++) {
+			append(w, 0, o);
+			w.append('\n');
+			if (! i.hasNext())
+				break;
+			o = swap(i.next());
+			flushIfNeeded(w, row);
 		}
 	}
 
-	private static void append(Writer w, Object o) throws IOException {
+	/*
+	 * Applies the POJO swap associated with the class of the specified row, if there is one.
+	 */
+	private Object swap(Object o) throws Exception {
 		if (o == null)
+			return null;
+		ClassMeta<?> cm = getClassMetaForObject(o);
+		PojoSwap swap = cm.getPojoSwap(this);
+		return swap == null ? o : swap.swap(this, o);
+	}
+
+	private static void flushIfNeeded(Writer w, int row) throws IOException {
+		if (row % FLUSH_INTERVAL == 0)
+			w.flush();
+	}
+
+	/*
+	 * Writes a single field, preceded by a comma if it's not the first column.
+	 * Fields containing commas, quotes, line breaks, or whitespace are quoted, with embedded quotes doubled per RFC 4180.
+	 * Null values are written as an unquoted null, so the string "null" is quoted to distinguish the two.
+	 */
+	private void append(Writer w, int col, Object o) throws IOException {
+		if (col > 0)
+			w.append(',');
+		if (o == null) {
 			w.append("null");
-		else {
-			String s = o.toString();
-			boolean mustQuote = false;
-			for (int i = 0; i < s.length() && ! mustQuote; i++) {
-				char c = s.charAt(i);
-				if (Character.isWhitespace(c) || c == ',')
-					mustQuote = true;
-			}
-			if (mustQuote)
-				w.append('"').append(s).append('"');
-			else
-				w.append(s);
+			return;
+		}
+		String s = toString(o);
+		boolean mustQuote = "null".equals(s);
+		for (int i = 0; i < s.length() && ! mustQuote; i++) {
+			char c = s.charAt(i);
+			if (c == ',' || c == '"' || Character.isWhitespace(c))
+				mustQuote = true;
+		}
+		if (! mustQuote) {
+			w.append(s);
+			return;
+		}
+		w.append('"');
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			if (c == '"')
+				w.append('"');
+			w.append(c);
 		}
+		w.append('"');
 	}
 }
@@ -0,0 +1,101 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Encoder for handling <js>"deflate"</js> encoding and decoding.
+ *
+ * <p>
+ * Uses the zlib format as specified by RFC 7230 section 4.2.2.
+ *
+ * <p>
+ * The compression level can be specified through the constructor, or by using one of the predefined subclasses
+ * (e.g. {@link DeflateEncoder.Fast}) when encoders are specified by class.
+ */
+public class DeflateEncoder extends Encoder {
+
+	private final int level;
+
+	/**
+	 * Constructor using the default compression level.
+	 */
+	public DeflateEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level
+	 * 	The compression level from <code>0</code> (no compression) to <code>9</code> (best compression), or
+	 * 	<code>-1</code> for the default level.
+	 */
+	public DeflateEncoder(int level) {
+		if (level < -1 || level > 9)
+			throw new FormattedIllegalArgumentException("Invalid compression level: {0}", level);
+		this.level = level;
+	}
+
+	/**
+	 * Deflate encoder using the fastest compression level.
+	 *
+	 * <p>
+	 * Trades compression ratio for less CPU time per response.
+	 */
+	public static class Fast extends DeflateEncoder {
+
+		/** Constructor. */
+		public Fast() {
+			super(Deflater.BEST_SPEED);
+		}
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return new FinishableDeflaterOutputStream(os, new Deflater(level));
+	}
+
+	@Override /* Encoder */
+	public InputStream getInputStream(InputStream is) throws IOException {
+		return new InflaterInputStream(is);
+	}
+
+	/**
+	 * Returns <code>[<js>"deflate"</js>]</code>.
+	 */
+	@Override /* Encoder */
+	public String[] getCodings() {
+		return new String[]{"deflate"};
+	}
+
+	private static class FinishableDeflaterOutputStream extends DeflaterOutputStream implements Finishable {
+		FinishableDeflaterOutputStream(OutputStream out, Deflater def) {
+			super(out, def, 8192);
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			try {
+				super.close();
+			} finally {
+				// Deflaters passed into the constructor aren't released by DeflaterOutputStream.
+				def.end();
+			}
+		}
+	}
+}
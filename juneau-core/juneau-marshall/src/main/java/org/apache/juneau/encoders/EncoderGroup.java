@@ -15,9 +15,9 @@ package org.apache.juneau.encoders;
 import static org.apache.juneau.internal.CollectionUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents the group of {@link Encoder encoders} keyed by codings.
@@ -62,7 +62,7 @@ public final class EncoderGroup {
 	public static final EncoderGroup DEFAULT = create().append(IdentityEncoder.class, GzipEncoder.class).build();
 
 	// Maps Accept-Encoding headers to matching encoders.
-	private final ConcurrentHashMap<String,EncoderMatch> cache = new ConcurrentHashMap<>();
+	private final Cache<String,EncoderMatch> cache = new Cache<>(false, 1000);
 
 	private final String[] encodings;
 	private final List<String> encodingsList;
@@ -135,10 +135,10 @@ public final class EncoderGroup {
 
 		if (match >= 0) {
 			em = new EncoderMatch(encodings[match], encodingsEncoders[match]);
-			cache.putIfAbsent(acceptEncoding, em);
+			em = cache.put(acceptEncoding, em);
 		}
 
-		return cache.get(acceptEncoding);
+		return em;
 	}
 
 	/**
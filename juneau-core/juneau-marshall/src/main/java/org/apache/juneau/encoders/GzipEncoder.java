@@ -15,14 +15,56 @@ package org.apache.juneau.encoders;
 import java.io.*;
 import java.util.zip.*;
 
+import org.apache.juneau.*;
+
 /**
  * Encoder for handling <js>"gzip"</js> encoding and decoding.
+ *
+ * <p>
+ * The compression level can be specified through the constructor, or by using one of the predefined subclasses
+ * (e.g. {@link GzipEncoder.Fast}) when encoders are specified by class.
  */
 public class GzipEncoder extends Encoder {
 
+	private final int level;
+
+	/**
+	 * Constructor using the default compression level.
+	 */
+	public GzipEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level
+	 * 	The compression level from <code>0</code> (no compression) to <code>9</code> (best compression), or
+	 * 	<code>-1</code> for the default level.
+	 */
+	public GzipEncoder(int level) {
+		if (level < -1 || level > 9)
+			throw new FormattedIllegalArgumentException("Invalid compression level: {0}", level);
+		this.level = level;
+	}
+
+	/**
+	 * Gzip encoder using the fastest compression level.
+	 *
+	 * <p>
+	 * Trades compression ratio for less CPU time per response.
+	 */
+	public static class Fast extends GzipEncoder {
+
+		/** Constructor. */
+		public Fast() {
+			super(Deflater.BEST_SPEED);
+		}
+	}
+
 	@Override /* Encoder */
 	public OutputStream getOutputStream(OutputStream os) throws IOException {
-		return new FinishableGZIPOutputStream(os);
+		return new FinishableGZIPOutputStream(os, level);
 	}
 
 	@Override /* Encoder */
@@ -39,8 +81,9 @@ public class GzipEncoder extends Encoder {
 	}
 
 	private static class FinishableGZIPOutputStream extends GZIPOutputStream implements Finishable {
-		FinishableGZIPOutputStream(OutputStream out) throws IOException {
-			super(out);
+		FinishableGZIPOutputStream(OutputStream out, int level) throws IOException {
+			super(out, 8192);
+			def.setLevel(level);
 		}
 	}
 }
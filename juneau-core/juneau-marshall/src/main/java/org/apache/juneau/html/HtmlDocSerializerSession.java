@@ -31,8 +31,8 @@ import org.apache.juneau.serializer.*;
 public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 
 	private final HtmlDocSerializer ctx;
-	private final String[] navlinks, head, header, nav, aside, footer;
-	private final Set<String> style, stylesheet, script;
+	private String[] navlinks, head, header, nav, aside, footer;
+	private Set<String> style, stylesheet, script;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -46,7 +46,16 @@ public class HtmlDocSerializerSession extends HtmlStrippedDocSerializerSession {
 	protected HtmlDocSerializerSession(HtmlDocSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
 		this.ctx = ctx;
+		initProperties();
+	}
+
+	@Override /* SerializerSession */
+	protected void reset(SerializerSessionArgs args) {
+		super.reset(args);
+		initProperties();
+	}
 
+	private void initProperties() {
 		header = getProperty(HTMLDOC_header, String[].class, ctx.getHeader());
 		nav = getProperty(HTMLDOC_nav, String[].class, ctx.getNav());
 		aside = getProperty(HTMLDOC_aside, String[].class, ctx.getAside());
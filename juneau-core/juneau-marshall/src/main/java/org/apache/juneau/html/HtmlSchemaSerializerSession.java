@@ -43,4 +43,10 @@ public class HtmlSchemaSerializerSession extends HtmlSerializerSession {
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
 		super.doSerialize(out, genSession.getSchema(o));
 	}
+
+	@Override /* Session */
+	protected boolean resetForReuse() {
+		// The generator session accumulates bean definitions.
+		return false;
+	}
 }
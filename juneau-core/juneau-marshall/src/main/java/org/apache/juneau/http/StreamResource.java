@@ -272,4 +272,19 @@ public class StreamResource implements Streamable {
 			bb.put(b);
 		return new ByteArrayInputStream(bb.array());
 	}
+
+	/**
+	 * Returns the length of the contents of this stream resource if it's known without reading the contents.
+	 *
+	 * @return The length of the contents in bytes, or <code>-1</code> if the contents are not cached byte arrays.
+	 */
+	public long getContentLength() {
+		long l = 0;
+		for (Object c : contents) {
+			if (! (c instanceof byte[]))
+				return -1;
+			l += ((byte[])c).length;
+		}
+		return l;
+	}
 }
@@ -351,6 +351,12 @@ public class SimpleUonPartSerializerBuilder extends UonPartSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SimpleUonPartSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SimpleUonPartSerializerBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
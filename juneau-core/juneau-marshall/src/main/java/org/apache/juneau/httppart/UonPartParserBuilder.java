@@ -196,6 +196,12 @@ public class UonPartParserBuilder extends UonParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public UonPartParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public UonPartParserBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
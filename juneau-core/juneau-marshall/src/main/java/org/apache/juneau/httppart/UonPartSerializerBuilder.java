@@ -323,6 +323,12 @@ public class UonPartSerializerBuilder extends UonSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public UonPartSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public UonPartSerializerBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
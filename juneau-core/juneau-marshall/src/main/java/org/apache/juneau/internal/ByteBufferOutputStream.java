@@ -0,0 +1,133 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+/**
+ * An {@link OutputStream} that writes to a {@link ByteBuffer} or a {@link WritableByteChannel}.
+ *
+ * <p>
+ * When writing to a buffer, bytes are written starting at the buffer's current position and the position is advanced.
+ * <br>An {@link IOException} is thrown if the buffer fills up.
+ *
+ * <p>
+ * When writing to a channel, bytes are collected in a heap buffer that's written to the channel when it fills up and
+ * when {@link #flush()} is called.
+ * <br>A heap buffer is used since a new stream is created for every serialization, and direct buffers are expensive to
+ * allocate and are only freed by the garbage collector.
+ * <br>Closing this stream does not close the channel.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class ByteBufferOutputStream extends OutputStream {
+
+	private final ByteBuffer buf;
+	private final WritableByteChannel channel;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param buf The buffer to write to.
+	 */
+	public ByteBufferOutputStream(ByteBuffer buf) {
+		this.buf = buf;
+		this.channel = null;
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param channel The channel to write to.
+	 * @param bufferSize The size of the buffer used to collect bytes before they're written to the channel.
+	 */
+	public ByteBufferOutputStream(WritableByteChannel channel, int bufferSize) {
+		this.buf = ByteBuffer.allocate(bufferSize);
+		this.channel = channel;
+	}
+
+	/**
+	 * Returns the buffer that bytes are written to.
+	 *
+	 * <p>
+	 * Callers can put bytes directly into this buffer after calling {@link #require(int)}.
+	 *
+	 * @return The buffer that bytes are written to.
+	 */
+	public ByteBuffer getBuffer() {
+		return buf;
+	}
+
+	/**
+	 * Makes sure there's room for the specified number of bytes in the buffer.
+	 *
+	 * @param n The number of bytes.
+	 * @return The buffer that bytes are written to.
+	 * @throws IOException If the buffer is full and there's no channel to drain it to.
+	 */
+	public ByteBuffer require(int n) throws IOException {
+		if (buf.remaining() < n) {
+			drain();
+			if (buf.remaining() < n)
+				throw new IOException("Buffer overflow.  Capacity=" + buf.capacity());
+		}
+		return buf;
+	}
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		require(1).put((byte)b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (channel != null && len >= buf.capacity()) {
+			// Too big to be worth copying.
+			drain();
+			writeFully(ByteBuffer.wrap(b, off, len));
+			return;
+		}
+		while (len > 0) {
+			int n = Math.min(require(1).remaining(), len);
+			buf.put(b, off, n);
+			off += n;
+			len -= n;
+		}
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		drain();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		flush();
+	}
+
+	private void drain() throws IOException {
+		if (channel == null || buf.position() == 0)
+			return;
+		buf.flip();
+		writeFully(buf);
+		buf.clear();
+	}
+
+	private void writeFully(ByteBuffer b) throws IOException {
+		while (b.hasRemaining())
+			channel.write(b);
+	}
+}
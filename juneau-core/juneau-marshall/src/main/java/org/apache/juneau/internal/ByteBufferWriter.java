@@ -0,0 +1,124 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+import java.nio.*;
+
+/**
+ * A {@link Writer} that encodes characters as UTF-8 directly into the buffer of a {@link ByteBufferOutputStream}.
+ *
+ * <p>
+ * Avoids the intermediate byte array and copy of an {@link OutputStreamWriter}.
+ * <br>Unpaired surrogate characters are written as <js>'?'</js>.
+ *
+ * <p>
+ * Note that this class is NOT thread safe.
+ */
+public final class ByteBufferWriter extends Writer {
+
+	private final ByteBufferOutputStream out;
+	private final ByteBuffer buf;
+	private char highSurrogate;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param out The stream to write to.
+	 */
+	public ByteBufferWriter(ByteBufferOutputStream out) {
+		this.out = out;
+		this.buf = out.getBuffer();
+		lock = null;
+	}
+
+	@Override /* Writer */
+	public void write(int c) throws IOException {
+		encode((char)c);
+	}
+
+	@Override /* Writer */
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		for (int i = off; i < off + len; i++) {
+			char c = cbuf[i];
+			if (c < 0x80 && highSurrogate == 0 && buf.hasRemaining())
+				buf.put((byte)c);
+			else
+				encode(c);
+		}
+	}
+
+	@Override /* Writer */
+	public void write(String str, int off, int len) throws IOException {
+		for (int i = off; i < off + len; i++) {
+			char c = str.charAt(i);
+			if (c < 0x80 && highSurrogate == 0 && buf.hasRemaining())
+				buf.put((byte)c);
+			else
+				encode(c);
+		}
+	}
+
+	private void encode(char c) throws IOException {
+		if (highSurrogate != 0) {
+			char hs = highSurrogate;
+			highSurrogate = 0;
+			if (Character.isLowSurrogate(c)) {
+				int cp = Character.toCodePoint(hs, c);
+				out.require(4)
+					.put((byte)(0xF0 | (cp >> 18)))
+					.put((byte)(0x80 | ((cp >> 12) & 0x3F)))
+					.put((byte)(0x80 | ((cp >> 6) & 0x3F)))
+					.put((byte)(0x80 | (cp & 0x3F)));
+				return;
+			}
+			out.require(1).put((byte)'?');
+		}
+		if (c < 0x80) {
+			out.require(1).put((byte)c);
+		} else if (c < 0x800) {
+			out.require(2)
+				.put((byte)(0xC0 | (c >> 6)))
+				.put((byte)(0x80 | (c & 0x3F)));
+		} else if (Character.isHighSurrogate(c)) {
+			highSurrogate = c;
+		} else if (Character.isLowSurrogate(c)) {
+			out.require(1).put((byte)'?');
+		} else {
+			out.require(3)
+				.put((byte)(0xE0 | (c >> 12)))
+				.put((byte)(0x80 | ((c >> 6) & 0x3F)))
+				.put((byte)(0x80 | (c & 0x3F)));
+		}
+	}
+
+	@Override /* Writer */
+	public void flush() throws IOException {
+		// Serializers write through a NoCloseWriter, so this is the last chance to write a trailing unpaired surrogate.
+		flushSurrogate();
+		out.flush();
+	}
+
+	@Override /* Writer */
+	public void close() throws IOException {
+		flushSurrogate();
+		out.close();
+	}
+
+	private void flushSurrogate() throws IOException {
+		if (highSurrogate != 0) {
+			highSurrogate = 0;
+			out.require(1).put((byte)'?');
+		}
+	}
+}
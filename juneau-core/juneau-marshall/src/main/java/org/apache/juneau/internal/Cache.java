@@ -12,35 +12,119 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.internal;
 
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
 
 /**
  * Simple in-memory cache of objects.
  *
  * <p>
- * Essentially just a wrapper around a ConcurrentHashMap.
+ * A bounded wrapper around a ConcurrentHashMap.
+ * <br>Lookups are lock-free.
+ * <br>When the maximum size (or optional maximum weight) is exceeded, entries are evicted using the CLOCK
+ * (second-chance) approximation of least-recently-used eviction, so that a burst of new keys only displaces entries
+ * that haven't been used since the last eviction pass.
+ * <br>Hit and miss counts are only kept when enabled in the constructor, since incrementing shared counters on every
+ * lookup makes concurrent readers contend on them.
  *
  * @param <K> The key type.
  * @param <V> The value type.
  */
 public class Cache<K,V> {
-	private final boolean nocache;
+	private final boolean nocache, recordStats;
 	private final int maxSize;
-	private final ConcurrentHashMap<K,V> cache;
+	private final long maxWeight;
+	private final Weigher<? super K,? super V> weigher;
+	private final ConcurrentHashMap<K,Entry<K,V>> cache;
+	private final Queue<Entry<K,V>> clock;
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final AtomicInteger size = new AtomicInteger(), dead = new AtomicInteger();
+	private final AtomicLong weight = new AtomicLong(), hits = new AtomicLong(), misses = new AtomicLong(), evictions = new AtomicLong();
+
+	/**
+	 * Computes the weight of a cache entry.
+	 *
+	 * @param <K> The key type.
+	 * @param <V> The value type.
+	 */
+	public interface Weigher<K,V> {
+
+		/**
+		 * Returns the weight of the specified entry.
+		 *
+		 * @param key The key.
+		 * @param value The value.
+		 * @return The weight of the entry.  Must not be negative.
+		 */
+		int weigh(K key, V value);
+	}
+
+	private static final class Entry<K,V> {
+		final K key;
+		final V value;
+		final int weight;
+		volatile boolean referenced, dead;
+
+		Entry(K key, V value, int weight) {
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
 
 	/**
 	 * Constructor.
 	 *
 	 * @param disabled If <jk>true</jk> then the cache is disabled.
-	 * @param maxSize The maximum size of the cache.  If this threshold is reached, the cache is flushed.
+	 * @param maxSize The maximum number of entries in the cache.  If this threshold is reached, entries are evicted.
 	 */
 	public Cache(boolean disabled, int maxSize) {
+		this(disabled, maxSize, -1, null);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param disabled If <jk>true</jk> then the cache is disabled.
+	 * @param maxSize The maximum number of entries in the cache.  If this threshold is reached, entries are evicted.
+	 * @param maxWeight
+	 * 	The maximum total weight of the entries in the cache as computed by the weigher.
+	 * 	<br>If this threshold is reached, entries are evicted.
+	 * 	<br>Ignored if <jk>null</jk> weigher or <code>-1</code>.
+	 * @param weigher The weigher for computing entry weights, or <jk>null</jk> if entries are not weighed.
+	 */
+	public Cache(boolean disabled, int maxSize, long maxWeight, Weigher<? super K,? super V> weigher) {
+		this(disabled, maxSize, maxWeight, weigher, false);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param disabled If <jk>true</jk> then the cache is disabled.
+	 * @param maxSize The maximum number of entries in the cache.  If this threshold is reached, entries are evicted.
+	 * @param maxWeight
+	 * 	The maximum total weight of the entries in the cache as computed by the weigher.
+	 * 	<br>If this threshold is reached, entries are evicted.
+	 * 	<br>Ignored if <jk>null</jk> weigher or <code>-1</code>.
+	 * @param weigher The weigher for computing entry weights, or <jk>null</jk> if entries are not weighed.
+	 * @param recordStats
+	 * 	If <jk>true</jk>, counts the hits and misses returned by {@link #getHits()} and {@link #getMisses()}.
+	 */
+	public Cache(boolean disabled, int maxSize, long maxWeight, Weigher<? super K,? super V> weigher, boolean recordStats) {
 		this.nocache = disabled;
+		this.recordStats = recordStats;
 		this.maxSize = maxSize;
-		if (! nocache)
+		this.maxWeight = weigher == null ? -1 : maxWeight;
+		this.weigher = weigher;
+		if (! nocache) {
 			cache = new ConcurrentHashMap<>();
-		else
+			clock = new ConcurrentLinkedQueue<>();
+		} else {
 			cache = null;
+			clock = null;
+		}
 	}
 
 	/**
@@ -52,7 +136,17 @@ public class Cache<K,V> {
 	public V get(K key) {
 		if (nocache)
 			return null;
-		return cache.get(key);
+		Entry<K,V> e = cache.get(key);
+		if (e == null) {
+			if (recordStats)
+				misses.incrementAndGet();
+			return null;
+		}
+		if (recordStats)
+			hits.incrementAndGet();
+		if (! e.referenced)
+			e.referenced = true;
+		return e.value;
 	}
 
 	/**
@@ -68,16 +162,158 @@ public class Cache<K,V> {
 		if (nocache)
 			return value;
 
-		// Prevent OOM in case of DDOS
-		if (cache.size() > maxSize)
-			cache.clear();
+		Entry<K,V> e = new Entry<>(key, value, weigher == null ? 0 : weigher.weigh(key, value));
+		Entry<K,V> e2 = cache.putIfAbsent(key, e);
+		if (e2 != null)
+			return e2.value;
 
-		while (true) {
-			V v = cache.get(key);
-			if (v != null)
-				return v;
-			cache.putIfAbsent(key, value);
-			return value;
+		clock.offer(e);
+		size.incrementAndGet();
+		weight.addAndGet(e.weight);
+		evict();
+		return value;
+	}
+
+	/**
+	 * Removes the value with the specified key from this cache.
+	 *
+	 * @param key The key.
+	 * @return The value that was removed, or <jk>null</jk> if the value was not in the cache.
+	 */
+	public V remove(K key) {
+		if (nocache)
+			return null;
+		Entry<K,V> e = cache.remove(key);
+		if (e == null)
+			return null;
+		// Removing the entry from the queue is O(n), so it's only marked dead and dropped by the next pass over it.
+		e.dead = true;
+		size.decrementAndGet();
+		weight.addAndGet(-e.weight);
+		if (dead.incrementAndGet() > Math.max(size.get(), 16))
+			sweep();
+		return e.value;
+	}
+
+	/**
+	 * Removes all entries from this cache.
+	 */
+	public void clear() {
+		if (nocache)
+			return;
+		evictionLock.lock();
+		try {
+			Entry<K,V> e;
+			while ((e = clock.poll()) != null) {
+				if (e.dead)
+					dead.decrementAndGet();
+				else if (cache.remove(e.key, e)) {
+					size.decrementAndGet();
+					weight.addAndGet(-e.weight);
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of entries in this cache.
+	 *
+	 * @return The number of entries in this cache.
+	 */
+	public int size() {
+		return nocache ? 0 : size.get();
+	}
+
+	/**
+	 * Returns the total weight of the entries in this cache.
+	 *
+	 * @return The total weight of the entries in this cache, or <code>0</code> if entries are not weighed.
+	 */
+	public long getWeight() {
+		return weight.get();
+	}
+
+	/**
+	 * Returns the number of times {@link #get(Object)} found a value.
+	 *
+	 * @return The number of cache hits, or <code>0</code> if statistics aren't recorded.
+	 */
+	public long getHits() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of times {@link #get(Object)} did not find a value.
+	 *
+	 * @return The number of cache misses, or <code>0</code> if statistics aren't recorded.
+	 */
+	public long getMisses() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of entries that have been evicted because the cache was full.
+	 *
+	 * @return The number of evictions.
+	 */
+	public long getEvictions() {
+		return evictions.get();
+	}
+
+	private boolean isOverflowing() {
+		return size.get() > maxSize || (maxWeight >= 0 && weight.get() > maxWeight);
+	}
+
+	/*
+	 * Evicts entries until the cache is within its bounds.
+	 * Entries that were read since the last pass get a second chance and are moved to the back of the queue.
+	 * Only one thread evicts at a time.  Other threads skip eviction, so the cache may briefly exceed its bounds.
+	 */
+	private void evict() {
+		if (! isOverflowing() || ! evictionLock.tryLock())
+			return;
+		try {
+			while (isOverflowing()) {
+				Entry<K,V> e = clock.poll();
+				if (e == null)
+					break;
+				if (e.dead) {
+					dead.decrementAndGet();
+					continue;
+				}
+				if (e.referenced) {
+					e.referenced = false;
+					clock.offer(e);
+				} else if (cache.remove(e.key, e)) {
+					size.decrementAndGet();
+					weight.addAndGet(-e.weight);
+					evictions.incrementAndGet();
+				}
+			}
+		} finally {
+			evictionLock.unlock();
+		}
+	}
+
+	/*
+	 * Drops the entries marked dead by remove() from the queue.
+	 * Only runs once dead entries outnumber live ones, so the cost is amortized over the removals.
+	 * The dead count is approximate under concurrent removals since it's only used to decide when to sweep.
+	 */
+	private void sweep() {
+		if (! evictionLock.tryLock())
+			return;
+		try {
+			for (Iterator<Entry<K,V>> i = clock.iterator(); i.hasNext();) {
+				if (i.next().dead) {
+					i.remove();
+					dead.decrementAndGet();
+				}
+			}
+		} finally {
+			evictionLock.unlock();
 		}
 	}
 }
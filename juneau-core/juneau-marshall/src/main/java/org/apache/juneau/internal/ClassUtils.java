@@ -31,6 +31,27 @@ public final class ClassUtils {
 
 	private static final Map<Class<?>,ConstructorCacheEntry> CONSTRUCTOR_CACHE = new ConcurrentHashMap<>();
 
+	// The class loader of this library and its parents.
+	private static final ClassLoader[] LIBRARY_LOADERS;
+	static {
+		List<ClassLoader> l = new ArrayList<>();
+		for (ClassLoader cl = ClassUtils.class.getClassLoader(); cl != null; cl = cl.getParent())
+			l.add(cl);
+		LIBRARY_LOADERS = l.toArray(new ClassLoader[l.size()]);
+	}
+
+	// The java.util.stream.BaseStream.iterator() method, or null if we're not running on Java 8+.
+	private static final Method BASE_STREAM_ITERATOR;
+	static {
+		Method m = null;
+		try {
+			m = Class.forName("java.util.stream.BaseStream").getMethod("iterator");
+		} catch (Exception e) {
+			// Not Java 8.
+		}
+		BASE_STREAM_ITERATOR = m;
+	}
+
 	/**
 	 * Given the specified list of objects, return readable names for the class types of the objects.
 	 *
@@ -166,6 +187,53 @@ public final class ClassUtils {
 		return false;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the specified class is loaded by the class loader of this library or one of its parents.
+	 *
+	 * <p>
+	 * These classes (e.g. <code>String</code>) live at least as long as this library.
+	 * <br>Caches must not attach objects to them through a {@link ClassValue}, since the values would keep the class
+	 * loader of this library from being garbage collected.
+	 *
+	 * @param c The class to check.
+	 * @return <jk>true</jk> if the specified class is loaded by the class loader of this library or one of its parents.
+	 */
+	public static boolean isLibraryClass(Class<?> c) {
+		ClassLoader cl = c.getClassLoader();
+		if (cl == null)
+			return true;
+		for (ClassLoader l : LIBRARY_LOADERS)
+			if (l == cl)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified class is a <code>java.util.stream.BaseStream</code>.
+	 *
+	 * <p>
+	 * Always returns <jk>false</jk> when not running on Java 8 or later.
+	 *
+	 * @param c The class to check.
+	 * @return <jk>true</jk> if the specified class is a <code>java.util.stream.BaseStream</code>.
+	 */
+	public static boolean isBaseStream(Class<?> c) {
+		return BASE_STREAM_ITERATOR != null && c != null && BASE_STREAM_ITERATOR.getDeclaringClass().isAssignableFrom(c);
+	}
+
+	/**
+	 * Returns an iterator over the elements of the specified <code>java.util.stream.BaseStream</code>.
+	 *
+	 * @param o The stream.
+	 * @return An iterator over the elements of the stream, or <jk>null</jk> if the object is not a stream.
+	 * @throws Exception If the iterator could not be retrieved.
+	 */
+	public static Iterator<?> getBaseStreamIterator(Object o) throws Exception {
+		if (o == null || ! isBaseStream(o.getClass()))
+			return null;
+		return (Iterator<?>)BASE_STREAM_ITERATOR.invoke(o);
+	}
+
 	/**
 	 * Returns the signature of the specified method.
 	 *
@@ -0,0 +1,102 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.util.*;
+
+/**
+ * An immutable set of strings that can be looked up directly from character arrays.
+ *
+ * <p>
+ * Used by parsers for matching names (e.g. bean property names) against the contents of their read buffers without
+ * having to create a new string for every name encountered.
+ * <br>Lookups return the canonical string instance from this set, so the only allocation occurs when a name is not
+ * found.
+ */
+public final class StringIndex {
+
+	private final String[] table;  // Open-addressing hash table with linear probing.
+	private final int mask;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param strings The strings in this set.  <jk>null</jk> entries are ignored.
+	 */
+	public StringIndex(Collection<String> strings) {
+		int size = 4;
+		while (size < strings.size() * 2)
+			size <<= 1;
+		this.table = new String[size];
+		this.mask = size - 1;
+		for (String s : strings) {
+			if (s == null)
+				continue;
+			int i = hash(s) & mask;
+			while (table[i] != null && ! table[i].equals(s))
+				i = (i + 1) & mask;
+			table[i] = s;
+		}
+	}
+
+	/**
+	 * Returns the string in this set that matches the specified characters.
+	 *
+	 * @param c The character array.
+	 * @param start The start position in the array.
+	 * @param len The number of characters.
+	 * @return The matching string in this set, or <jk>null</jk> if not found.
+	 */
+	public String get(char[] c, int start, int len) {
+		int h = 0;
+		for (int j = start, end = start + len; j < end; j++)
+			h = 31 * h + c[j];
+		for (int i = spread(h) & mask; ; i = (i + 1) & mask) {
+			String s = table[i];
+			if (s == null)
+				return null;
+			if (s.length() == len && equals(s, c, start))
+				return s;
+		}
+	}
+
+	/**
+	 * Returns the string in this set equal to the specified string.
+	 *
+	 * @param s The string to look up.
+	 * @return The matching string in this set, or <jk>null</jk> if not found.
+	 */
+	public String get(String s) {
+		for (int i = hash(s) & mask; ; i = (i + 1) & mask) {
+			String s2 = table[i];
+			if (s2 == null || s2.equals(s))
+				return s2;
+		}
+	}
+
+	private static boolean equals(String s, char[] c, int start) {
+		for (int i = 0; i < s.length(); i++)
+			if (s.charAt(i) != c[start + i])
+				return false;
+		return true;
+	}
+
+	// Same as String.hashCode() so that hashes can be computed over char arrays.
+	private static int hash(String s) {
+		return spread(s.hashCode());
+	}
+
+	private static int spread(int h) {
+		return h ^ (h >>> 16);
+	}
+}
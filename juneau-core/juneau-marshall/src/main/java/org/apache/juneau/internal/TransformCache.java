@@ -24,7 +24,46 @@ import java.util.*;
  * Cache of object that convert POJOs to and from common types such as strings, readers, and input streams.
  */
 public class TransformCache {
-	private static final ConcurrentHashMap<Class<?>,Map<Class<?>,Transform<?,?>>> CACHE = new ConcurrentHashMap<>();
+
+	// Transforms registered through add().  Never evicted.
+	private static final ConcurrentHashMap<Class<?>,Map<Class<?>,Transform<?,?>>> REGISTERED = new ConcurrentHashMap<>();
+
+	// Transforms (or NULL) computed through reflection between classes of this library's class loader or its parents.
+	// These classes aren't unloaded before this library, but attaching values to them would keep it from being unloaded.
+	private static final Cache<Key,Transform<?,?>> LIBRARY = new Cache<>(false, 10000);
+
+	// Transforms (or NULL) computed through reflection involving other classes.
+	// Attached to the output type (or the input type if the output type can't see it) so that they don't prevent
+	// classes from being unloaded.
+	private static final ClassValue<Map<Class<?>,Transform<?,?>>>
+		BY_OUTPUT_TYPE = new TransformMapClassValue(),
+		BY_INPUT_TYPE = new TransformMapClassValue();
+
+	private static final class TransformMapClassValue extends ClassValue<Map<Class<?>,Transform<?,?>>> {
+		@Override /* ClassValue */
+		protected Map<Class<?>,Transform<?,?>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	}
+
+	private static final class Key {
+		final Class<?> ic, oc;
+
+		Key(Class<?> ic, Class<?> oc) {
+			this.ic = ic;
+			this.oc = oc;
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return ic.hashCode() * 31 + oc.hashCode();
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			return o instanceof Key && ((Key)o).ic == ic && ((Key)o).oc == oc;
+		}
+	}
 
 	/**
 	 * Represents a non-existent transform.
@@ -86,14 +125,51 @@ public class TransformCache {
 	 * @param t The transform for converting the input to the output.
 	 */
 	public static synchronized void add(Class<?> ic, Class<?> oc, Transform<?,?> t) {
-		Map<Class<?>,Transform<?,?>> m = CACHE.get(oc);
+		Map<Class<?>,Transform<?,?>> m = REGISTERED.get(oc);
 		if (m == null) {
 			m = new ConcurrentHashMap<>();
-			CACHE.put(oc, m);
+			REGISTERED.put(oc, m);
 		}
 		m.put(ic, t);
 	}
 
+	private static Transform<?,?> find(Map<Class<?>,Transform<?,?>> m, Class<?> ic, Class<?> oc) {
+		Transform<?,?> t = m == null ? null : m.get(ic);
+		if (t != null)
+			return t;
+		boolean li = isLibraryClass(ic), lo = isLibraryClass(oc);
+		if (li && lo)
+			return LIBRARY.get(new Key(ic, oc));
+		if (! lo)
+			t = BY_OUTPUT_TYPE.get(oc).get(ic);
+		if (t == null && ! li)
+			t = BY_INPUT_TYPE.get(ic).get(oc);
+		return t;
+	}
+
+	private static Transform<?,?> cache(Class<?> ic, Class<?> oc, Transform<?,?> t) {
+		boolean li = isLibraryClass(ic), lo = isLibraryClass(oc);
+		if (li && lo)
+			return LIBRARY.put(new Key(ic, oc), t);
+		Transform<?,?> t2 = null;
+		if (! lo && isVisibleFrom(ic, oc))
+			t2 = BY_OUTPUT_TYPE.get(oc).putIfAbsent(ic, t);
+		else if (! li && isVisibleFrom(oc, ic))
+			t2 = BY_INPUT_TYPE.get(ic).putIfAbsent(oc, t);
+		return t2 == null ? t : t2;
+	}
+
+	// Returns true if c is loaded by the class loader of 'from' or one of its parents, meaning it lives at least as long.
+	private static boolean isVisibleFrom(Class<?> c, Class<?> from) {
+		ClassLoader cl = c.getClassLoader();
+		if (cl == null)
+			return true;
+		for (ClassLoader cl2 = from.getClassLoader(); cl2 != null; cl2 = cl2.getParent())
+			if (cl2 == cl)
+				return true;
+		return false;
+	}
+
 	/**
 	 * Returns the transform for converting the specified input type to the specified output type.
 	 *
@@ -107,22 +183,17 @@ public class TransformCache {
 		if (ic == null || oc == null)
 			return null;
 
-		Map<Class<?>,Transform<?,?>> m = CACHE.get(oc);
-		if (m == null) {
-			m = new ConcurrentHashMap<>();
-			CACHE.putIfAbsent(oc, m);
-			m = CACHE.get(oc);
-		}
+		Map<Class<?>,Transform<?,?>> m = REGISTERED.get(oc);
 
-		Transform t = m.get(ic);
+		Transform t = find(m, ic, oc);
 		if (t != null)
 			return t == NULL ? null : t;
 
 		for (Iterator<Class<?>> i = ClassUtils.getParentClasses(ic, false, true); i.hasNext(); ) {
 			Class pic = i.next();
-			t = m.get(pic);
+			t = find(m, pic, oc);
 			if (t != null) {
-				m.put(pic, t);
+				cache(ic, oc, t);
 				return t == NULL ? null : t;
 			}
 		}
@@ -217,7 +288,7 @@ public class TransformCache {
 		if (t == null)
 			t = NULL;
 
-		m.put(ic, t);
+		t = cache(ic, oc, t);
 
 		return t == NULL ? null : t;
 	}
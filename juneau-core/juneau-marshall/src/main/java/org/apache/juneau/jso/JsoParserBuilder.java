@@ -433,6 +433,12 @@ public class JsoParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsoParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsoParserBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
@@ -0,0 +1,96 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.json;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * Serialization plan for beans of a single type, computed once per {@link JsonSerializer}.
+ *
+ * <p>
+ * Contains the readable properties of the bean in serialization order along with the decisions that only depend on
+ * the property types and the serializer settings, so that they don't have to be made again for every bean.
+ */
+final class JsonBeanPlan {
+
+	/** Marker for bean types that can't be serialized with a plan (e.g. beans with dynamic properties). */
+	static final JsonBeanPlan NONE = new JsonBeanPlan(new Property[0], 0);
+
+	final Property[] properties;
+
+	// The JsonWriter.getAttrFormat() value of the writer used to render the property names.
+	final int attrFormat;
+
+	/**
+	 * A readable bean property.
+	 */
+	static final class Property {
+		final BeanPropertyMeta meta;
+		final ClassMeta<?> type;
+		final String name;
+
+		// The name as written by JsonWriter.attr(), quoted and escaped if necessary.
+		final char[] attr;
+
+		// If false, a non-null value of this property can never be trimmed so canIgnoreValue() can be skipped.
+		final boolean checkValue;
+
+		Property(BeanPropertyMeta meta, char[] attr, boolean checkValue) {
+			this.meta = meta;
+			this.type = meta.getClassMeta();
+			this.name = meta.getName();
+			this.attr = attr;
+			this.checkValue = checkValue;
+		}
+	}
+
+	private JsonBeanPlan(Property[] properties, int attrFormat) {
+		this.properties = properties;
+		this.attrFormat = attrFormat;
+	}
+
+	/**
+	 * Creates the plan for the specified bean type.
+	 *
+	 * @param bm The bean type.
+	 * @param sw The writer that <code>w</code> writes to.
+	 * @param w The writer used to render the property names.
+	 * @param trimEmptyCollections Whether empty collections and arrays are trimmed.
+	 * @param trimEmptyMaps Whether empty maps are trimmed.
+	 * @param trimRecursions Whether property values can be trimmed because they cause recursion.
+	 * @return The plan, or {@link #NONE} if beans of this type must be serialized through their bean map values.
+	 */
+	static JsonBeanPlan create(BeanMeta<?> bm, StringWriter sw, JsonWriter w, boolean trimEmptyCollections,
+			boolean trimEmptyMaps, boolean trimRecursions) throws IOException {
+		List<Property> l = new ArrayList<>();
+		for (BeanPropertyMeta pMeta : bm.getPropertyMetas()) {
+			if (pMeta.isDyna())
+				return NONE;
+			if (pMeta.canRead()) {
+				ClassMeta<?> cm = pMeta.getClassMeta();
+				boolean checkValue =
+					trimRecursions
+					|| (trimEmptyCollections && (cm.isArray() || cm.isCollection() || cm.isObject()))
+					|| (trimEmptyMaps && (cm.isMap() || cm.isObject()));
+				sw.getBuffer().setLength(0);
+				w.attr(pMeta.getName());
+				char[] attr = sw.toString().toCharArray();
+				l.add(new Property(pMeta, attr, checkValue));
+			}
+		}
+		return new JsonBeanPlan(l.toArray(new Property[l.size()]), w.getAttrFormat());
+	}
+}
@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import java.lang.reflect.*;
+
 import org.apache.juneau.*;
 import org.apache.juneau.parser.*;
 
@@ -236,8 +238,29 @@ public class JsonParser extends ReaderParser {
 		return new JsonParserBuilder();
 	}
 
+	/**
+	 * Parses a JSON array one element at a time, passing each element to the specified handler as soon as it has been
+	 * parsed.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>createSession(createDefaultSessionArgs()).parseElements(input, elementType, handler)</code>.
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param elementType The class type of each element.
+	 * @param handler The handler to pass each element to.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type, or the handler
+	 * 	threw an exception.
+	 * @see JsonParserSession#parseElements(Object, Class, ElementHandler)
+	 */
+	public final <T> void parseElements(Object input, Class<T> elementType, ElementHandler<? super T> handler) throws ParseException {
+		createSession(createDefaultSessionArgs()).parseElements(input, elementType, handler);
+	}
+
 	@Override /* Parser */
-	public ReaderParserSession createSession(ParserSessionArgs args) {
+	public JsonParserSession createSession(ParserSessionArgs args) {
 		return new JsonParserSession(this, args);
 	}
 
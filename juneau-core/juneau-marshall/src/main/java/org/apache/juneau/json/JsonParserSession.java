@@ -111,6 +111,55 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	/**
+	 * Parses a JSON array one element at a time, passing each element to the specified handler as soon as it has been
+	 * parsed.
+	 *
+	 * <p>
+	 * Unlike {@link #parse(Object, Class)}, the elements are not collected into a single result, so arbitrarily large
+	 * arrays can be processed in constant memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	JsonParser.<jsf>DEFAULT</jsf>.createSession().parseElements(reader, MyBean.<jk>class</jk>, <jk>new</jk> ElementHandler&lt;MyBean&gt;() {
+	 * 		<ja>@Override</ja>
+	 * 		<jk>public boolean</jk> onElement(MyBean b) {
+	 * 			<jsm>save</jsm>(b);
+	 * 			<jk>return true</jk>;
+	 * 		}
+	 * 	});
+	 * </p>
+	 *
+	 * @param input
+	 * 	The input.
+	 * 	See {@link #parse(Object, Type, Type...)} for supported input types.
+	 * @param elementType The class type of each element.
+	 * @param handler The handler to pass each element to.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type, or the handler
+	 * 	threw an exception.
+	 */
+	public <T> void parseElements(Object input, Class<T> elementType, ElementHandler<? super T> handler) throws ParseException {
+		try (ParserPipe pipe = createPipe(input)) {
+			try (ParserReader r = pipe.getParserReader()) {
+				if (r != null && parseIntoCollection2(r, null, getClassMeta(elementType), null, handler))
+					validateEnd(r);
+			}
+		} catch (ParseException e) {
+			throw e;
+		} catch (StackOverflowError e) {
+			throw new ParseException(this, "Depth too deep.  Stack overflow occurred.");
+		} catch (IOException e) {
+			throw new ParseException(this, e, "I/O exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} catch (Exception e) {
+			throw new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} finally {
+			checkForWarnings();
+		}
+	}
+
 	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
@@ -380,9 +429,17 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * set the position marker to the last character in the field name.
 	 */
 	private String parseFieldName(ParserReader r) throws Exception {
+		return parseFieldName(r, null);
+	}
+
+	/*
+	 * Same as above, but looks up the name in the specified index of known names (e.g. bean property names) so that
+	 * a new string is only created for unknown names.
+	 */
+	private String parseFieldName(ParserReader r, StringIndex names) throws Exception {
 		int c = r.peek();
 		if (c == '\'' || c == '"')
-			return parseString(r);
+			return parseString(r, names);
 		if (isStrict())
 			throw new ParseException(this, "Unquoted attribute detected.");
 		if (! VALID_BARE_CHARS.contains(c))
@@ -393,7 +450,7 @@ public final class JsonParserSession extends ReaderParserSession {
 			c = r.read();
 			if (! VALID_BARE_CHARS.contains(c)) {
 				r.unread();
-				String s = r.getMarked().intern();
+				String s = r.getMarked(0, 0, names);
 				return s.equals("null") ? null : s;
 			}
 		}
@@ -404,6 +461,17 @@ public final class JsonParserSession extends ReaderParserSession {
 
 	private <E> Collection<E> parseIntoCollection2(ParserReader r, Collection<E> l,
 			ClassMeta<?> type, BeanPropertyMeta pMeta) throws Exception {
+		parseIntoCollection2(r, l, type.isArgs() ? type : type.getElementType(), pMeta, null);
+		return l;
+	}
+
+	/*
+	 * Parses a JSON array.
+	 * Elements are added to the collection, or passed to the handler instead if one is specified.
+	 * Returns false if the handler stopped the parse before the end of the array.
+	 */
+	private <E> boolean parseIntoCollection2(ParserReader r, Collection<E> l,
+			ClassMeta<?> eType, BeanPropertyMeta pMeta, ElementHandler<? super E> handler) throws Exception {
 
 		int S0=0; // Looking for outermost [
 		int S1=1; // Looking for starting [ or { or " or ' or LITERAL or ]
@@ -411,6 +479,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		int S3=3; // Looking for starting [ or { or " or ' or LITERAL
 
 		int argIndex = 0;
+		boolean isArgs = eType != null && eType.isArgs();
 
 		int state = S0;
 		int c = 0;
@@ -425,11 +494,15 @@ public final class JsonParserSession extends ReaderParserSession {
 					break;  // Invalid character found.
 			} else if (state == S1) {
 				if (c == ']') {
-					return l;
+					return true;
 				} else if (isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(r.unread());
 				} else if (c != -1) {
-					l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
+					E e = (E)parseAnything(isArgs ? eType.getArg(argIndex++) : eType, r.unread(), l, pMeta);
+					if (handler == null)
+						l.add(e);
+					else if (! handler.onElement(e))
+						return false;
 					state = S2;
 				}
 			} else if (state == S2) {
@@ -438,7 +511,7 @@ public final class JsonParserSession extends ReaderParserSession {
 				} else if (isCommentOrWhitespace(c)) {
 					skipCommentsAndSpace(r.unread());
 				} else if (c == ']') {
-					return l;
+					return true;
 				} else {
 					break;  // Invalid character found.
 				}
@@ -448,7 +521,11 @@ public final class JsonParserSession extends ReaderParserSession {
 				} else if (c == ']') {
 					break;
 				} else if (c != -1) {
-					l.add((E)parseAnything(type.isArgs() ? type.getArg(argIndex++) : type.getElementType(), r.unread(), l, pMeta));
+					E e = (E)parseAnything(isArgs ? eType.getArg(argIndex++) : eType, r.unread(), l, pMeta);
+					if (handler == null)
+						l.add(e);
+					else if (! handler.onElement(e))
+						return false;
 					state = S2;
 				}
 			}
@@ -462,7 +539,7 @@ public final class JsonParserSession extends ReaderParserSession {
 		if (state == S3)
 			throw new ParseException(this, "Unexpected trailing comma in array.");
 
-		return null;  // Unreachable.
+		return false;  // Unreachable.
 	}
 
 	private <T> BeanMap<T> parseIntoBeanMap2(ParserReader r, BeanMap<T> m) throws Exception {
@@ -496,7 +573,7 @@ public final class JsonParserSession extends ReaderParserSession {
 					} else {
 						r.unread();
 						mark();
-						currAttr = parseFieldName(r);
+						currAttr = parseFieldName(r, m.getMeta().getPropertyNameIndex());
 						state = S3;
 					}
 				} else if (state == S3) {
@@ -558,6 +635,10 @@ public final class JsonParserSession extends ReaderParserSession {
 	 * will automatically concatenate the strings and return the result.
 	 */
 	private String parseString(ParserReader r) throws Exception  {
+		return parseString(r, null);
+	}
+
+	private String parseString(ParserReader r, StringIndex names) throws Exception  {
 		r.mark();
 		int qc = r.read();		// The quote character being used (" or ')
 		if (qc != '"' && isStrict()) {
@@ -607,12 +688,12 @@ public final class JsonParserSession extends ReaderParserSession {
 					r.delete();
 				} else if (isQuoted) {
 					if (c == qc) {
-						s = r.getMarked(1, -1);
+						s = r.getMarked(1, -1, names);
 						break;
 					}
 				} else {
 					if (c == ',' || c == '}' || c == ']' || isWhitespace(c)) {
-						s = r.getMarked(0, -1);
+						s = r.getMarked(0, -1, names);
 						r.unread();
 						break;
 					} else if (c == -1) {
@@ -47,4 +47,10 @@ public class JsonSchemaSerializerSession extends JsonSerializerSession {
 	protected void doSerialize(SerializerPipe out, Object o) throws Exception {
 		super.doSerialize(out, genSession.getSchema(o));
 	}
+
+	@Override /* Session */
+	protected boolean resetForReuse() {
+		// The generator session accumulates bean definitions.
+		return false;
+	}
 }
\ No newline at end of file
@@ -12,7 +12,9 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.json;
 
+import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -388,6 +390,8 @@ public class JsonSerializer extends WriterSerializer {
 
 	private volatile JsonSchemaSerializer schemaSerializer;
 
+	private final ConcurrentHashMap<BeanMeta<?>,JsonBeanPlan> beanPlans = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructor.
 	 *
@@ -464,6 +468,25 @@ public class JsonSerializer extends WriterSerializer {
 		return schemaSerializer;
 	}
 
+	/**
+	 * Returns the serialization plan for the specified bean type.
+	 *
+	 * @param bm The bean type.
+	 * @return The plan, or {@link JsonBeanPlan#NONE} if beans of this type can't be serialized with a plan.
+	 */
+	final JsonBeanPlan getBeanPlan(BeanMeta<?> bm) throws IOException {
+		JsonBeanPlan p = beanPlans.get(bm);
+		if (p == null) {
+			StringWriter sw = new StringWriter();
+			JsonWriter w = new JsonWriter(sw, false, 0, escapeSolidus, getQuoteChar(), simpleMode, isTrimStrings(), null);
+			p = JsonBeanPlan.create(bm, sw, w, isTrimEmptyCollections(), isTrimEmptyMaps(), isTrimNullProperties() && isDetectRecursions());
+			JsonBeanPlan p2 = beanPlans.putIfAbsent(bm, p);
+			if (p2 != null)
+				p = p2;
+		}
+		return p;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Entry point methods
 	//-----------------------------------------------------------------------------------------------------------------
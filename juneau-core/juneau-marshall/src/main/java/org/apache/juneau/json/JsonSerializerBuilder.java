@@ -647,6 +647,12 @@ public class JsonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsonSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonSerializerBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
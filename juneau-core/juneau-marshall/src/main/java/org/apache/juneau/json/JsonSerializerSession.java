@@ -150,6 +150,12 @@ public class JsonSerializerSession extends WriterSerializerSession {
 			serializeCollection(out, (Collection) o, eType);
 		} else if (sType.isArray()) {
 			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
+		} else if (sType.isStreamable()) {
+			try {
+				serializeCollection(out, sort(toIterator(o)), eType);
+			} finally {
+				closeStreamable(o);
+			}
 		} else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		} else {
@@ -198,6 +204,14 @@ public class JsonSerializerSession extends WriterSerializerSession {
 	}
 
 	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName) throws Exception {
+
+		// Subclasses of BeanMap can override the list of properties.
+		if (m.getClass() == BeanMap.class) {
+			JsonBeanPlan plan = ctx.getBeanPlan(m.getMeta());
+			if (plan != JsonBeanPlan.NONE)
+				return serializeBeanMap(out, m, typeName, plan);
+		}
+
 		int i = indent;
 		out.append('{');
 
@@ -229,16 +243,69 @@ public class JsonSerializerSession extends WriterSerializerSession {
 		return out;
 	}
 
+	/*
+	 * Same as above, but uses the precomputed plan for the bean type instead of going through BeanMap.getValues().
+	 */
+	private SerializerWriter serializeBeanMap(JsonWriter out, BeanMap<?> m, String typeName, JsonBeanPlan plan) throws Exception {
+		int i = indent;
+		out.append('{');
+
+		boolean addComma = false;
+		if (typeName != null) {
+			BeanPropertyMeta pMeta = m.getMeta().getTypeProperty();
+			out.cr(i).attr(pMeta.getName()).append(':').s(i);
+			serializeAnything(out, typeName, pMeta.getClassMeta(), pMeta.getName(), pMeta);
+			addComma = true;
+		}
+
+		boolean trimNulls = isTrimNullProperties(), isDebug = isDebug(), useAttrs = plan.attrFormat == out.getAttrFormat();
+		for (JsonBeanPlan.Property p : plan.properties) {
+			BeanPropertyMeta pMeta = p.meta;
+			Object value;
+			try {
+				value = pMeta.get(m, null);
+			} catch (Error e) {
+				// Errors should always be uncaught.
+				throw e;
+			} catch (Throwable t) {
+				onBeanGetterException(pMeta, t);
+				value = null;
+			}
+
+			if (value == null ? trimNulls : ((p.checkValue || isDebug) && canIgnoreValue(p.type, p.name, value)))
+				continue;
+
+			if (addComma)
+				out.append(',').smi(i);
+
+			out.cr(i);
+			if (useAttrs)
+				out.append(p.attr);
+			else
+				out.attr(p.name);
+			out.append(':').s(i);
+
+			serializeAnything(out, value, p.type, p.name, pMeta);
+
+			addComma = true;
+		}
+		out.cre(i-1).append('}');
+		return out;
+	}
+
 	@SuppressWarnings({"rawtypes", "unchecked"})
 	private SerializerWriter serializeCollection(JsonWriter out, Collection c, ClassMeta<?> type) throws Exception {
+		return serializeCollection(out, sort(c).iterator(), type);
+	}
 
-		ClassMeta<?> elementType = type.getElementType();
+	@SuppressWarnings({"rawtypes"})
+	private SerializerWriter serializeCollection(JsonWriter out, Iterator i, ClassMeta<?> type) throws Exception {
 
-		c = sort(c);
+		ClassMeta<?> elementType = type.getElementType();
 
 		out.append('[');
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		while (i.hasNext()) {
 			Object value = i.next();
 			out.cr(indent);
 			serializeAnything(out, value, elementType, "<iterator>", null);
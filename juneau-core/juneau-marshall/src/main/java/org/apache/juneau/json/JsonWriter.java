@@ -169,6 +169,18 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	/**
+	 * Returns a value identifying the settings that affect the output of {@link #attr(String)}.
+	 *
+	 * <p>
+	 * Attribute names rendered by a writer can be reused on another writer with the same value.
+	 *
+	 * @return A value identifying the attribute name format of this writer.
+	 */
+	int getAttrFormat() {
+		return quoteChar | (simpleMode ? 1<<16 : 0) | (trimStrings ? 1<<17 : 0) | (escapeSolidus ? 1<<18 : 0);
+	}
+
 	/**
 	 * Appends a URI to the output.
 	 *
@@ -282,6 +294,12 @@ public final class JsonWriter extends SerializerWriter {
 		return this;
 	}
 
+	@Override /* SerializerWriter */
+	public JsonWriter append(char[] characters) throws IOException {
+		super.append(characters);
+		return this;
+	}
+
 	@Override /* SerializerWriter */
 	public JsonWriter appendIf(boolean b, String text) throws IOException {
 		super.appendIf(b, text);
@@ -546,6 +546,12 @@ public class JsonSchemaGeneratorBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public JsonSchemaGeneratorBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public JsonSchemaGeneratorBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
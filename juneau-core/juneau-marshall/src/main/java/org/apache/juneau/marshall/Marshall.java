@@ -92,11 +92,15 @@ public abstract class Marshall {
 	 * 		<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
 	 * 		<li>{@link File} - Output will be written as system-default encoded stream.
 	 * 		<li>{@link StringBuilder} - Output will be written to the specified string builder.
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written as UTF-8 encoded bytes starting at the buffer's position.
+	 * 		<li>{@link java.nio.channels.WritableByteChannel} - Output will be written as UTF-8 encoded bytes.
 	 * 	</ul>
 	 * 	<br>Stream-based serializers can handle the following output class types:
 	 * 	<ul>
 	 * 		<li>{@link OutputStream}
 	 * 		<li>{@link File}
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written starting at the buffer's position.
+	 * 		<li>{@link java.nio.channels.WritableByteChannel}
 	 * 	</ul>
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
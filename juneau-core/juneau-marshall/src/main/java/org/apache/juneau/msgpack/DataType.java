@@ -14,8 +14,11 @@ package org.apache.juneau.msgpack;
 
 /**
  * Constants for the MessagePack format.
+ *
+ * <p>
+ * Also used as the token type returned by {@link MsgPackReader#next()}.
  */
-enum DataType {
+public enum DataType {
 	NULL, BOOLEAN, INT, LONG, FLOAT, DOUBLE, STRING, BIN, EXT, ARRAY, MAP, INVALID;
 
 	boolean isOneOf(DataType...dataTypes) {
@@ -37,7 +37,7 @@ public final class MsgPackInputStream extends ParserInputStream {
 	int pos = 0;
 
 	// Data type quick-lookup table.
-	private static final DataType[] TYPES = new DataType[] {
+	static final DataType[] TYPES = new DataType[] {
 		/*0x0?*/ INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,
 		/*0x1?*/ INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,
 		/*0x2?*/ INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,INT,
@@ -452,6 +452,41 @@ public final class MsgPackInputStream extends ParserInputStream {
 		return extType;
 	}
 
+	/**
+	 * Skips over the next value in the stream without decoding it.
+	 *
+	 * <p>
+	 * Arrays and maps are skipped along with all their entries.
+	 */
+	void skipValue() throws IOException {
+		long remaining = 1;
+		while (remaining > 0) {
+			remaining--;
+			DataType dt = readDataType();
+			if (dt == ARRAY)
+				remaining += length;
+			else if (dt == MAP)
+				remaining += length * 2;
+			else if (dt != NULL && dt != BOOLEAN && length > 0)
+				skipFully(length);
+		}
+	}
+
+	/**
+	 * Skips the specified number of bytes in the stream.
+	 */
+	private void skipFully(long n) throws IOException {
+		while (n > 0) {
+			long l = skip(n);
+			if (l <= 0) {
+				if (read() == -1)
+					throw new IOException("Unexpected end of file found at position " + pos);
+				l = 1;
+			}
+			n -= l;
+		}
+	}
+
 	/**
 	 * Read one byte from the stream.
 	 */
@@ -21,6 +21,10 @@ import java.util.concurrent.atomic.*;
 /**
  * Specialized output stream for serializing MessagePack streams.
  *
+ * <p>
+ * Values are encoded directly into an internal byte buffer which is written to the wrapped stream in large chunks.
+ * <br>The buffer is written when it's full and when {@link #flush()} or {@link #close()} is called.
+ *
  * <h5 class='section'>Notes:</h5>
  * <ul class='spaced-list'>
  * 	<li>
@@ -29,7 +33,11 @@ import java.util.concurrent.atomic.*;
  */
 public final class MsgPackOutputStream extends OutputStream {
 
+	private static final int BUFFER_SIZE = 8192;
+
 	private final OutputStream os;
+	private final byte[] buff = new byte[BUFFER_SIZE];
+	private int pos;
 
 	/**
 	 * Constructor.
@@ -42,22 +50,64 @@ public final class MsgPackOutputStream extends OutputStream {
 
 	@Override /* OutputStream */
 	public void write(int b) throws IOException {
-		os.write(b);
+		append1(b);
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		if (len > buff.length - pos) {
+			flushBuffer();
+			if (len >= buff.length) {
+				os.write(b, off, len);
+				return;
+			}
+		}
+		System.arraycopy(b, off, buff, pos, len);
+		pos += len;
+	}
+
+	@Override /* OutputStream */
+	public void flush() throws IOException {
+		flushBuffer();
+		os.flush();
+	}
+
+	@Override /* OutputStream */
+	public void close() throws IOException {
+		flushBuffer();
+		os.close();
+	}
+
+	/*
+	 * Writes the contents of the buffer to the wrapped stream.
+	 */
+	private void flushBuffer() throws IOException {
+		if (pos > 0) {
+			os.write(buff, 0, pos);
+			pos = 0;
+		}
+	}
+
+	/*
+	 * Makes sure there's room for the specified number of bytes in the buffer.
+	 */
+	private void ensure(int len) throws IOException {
+		if (len > buff.length - pos)
+			flushBuffer();
 	}
 
 	/**
 	 * Same as {@link #write(int)}.
 	 */
 	final MsgPackOutputStream append(byte b) throws IOException {
-		os.write(b);
-		return this;
+		return append1(b);
 	}
 
 	/**
 	 * Same as {@link #write(byte[])}.
 	 */
 	final MsgPackOutputStream append(byte[] b) throws IOException {
-		os.write(b);
+		write(b, 0, b.length);
 		return this;
 	}
 
@@ -65,7 +115,9 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends one byte to the stream.
 	 */
 	final MsgPackOutputStream append1(int i) throws IOException {
-		os.write(i);
+		if (pos == buff.length)
+			flushBuffer();
+		buff[pos++] = (byte)i;
 		return this;
 	}
 
@@ -73,21 +125,32 @@ public final class MsgPackOutputStream extends OutputStream {
 	 * Appends two bytes to the stream.
 	 */
 	final MsgPackOutputStream append2(int i) throws IOException {
-		return append1(i>>8).append1(i);
+		ensure(2);
+		buff[pos++] = (byte)(i>>8);
+		buff[pos++] = (byte)i;
+		return this;
 	}
 
 	/**
 	 * Appends four bytes to the stream.
 	 */
 	final MsgPackOutputStream append4(int i) throws IOException {
-		return append1(i>>24).append1(i>>16).append1(i>>8).append1(i);
+		ensure(4);
+		buff[pos++] = (byte)(i>>24);
+		buff[pos++] = (byte)(i>>16);
+		buff[pos++] = (byte)(i>>8);
+		buff[pos++] = (byte)i;
+		return this;
 	}
 
 	/**
 	 * Appends eight bytes to the stream.
 	 */
 	final MsgPackOutputStream append8(long l) throws IOException {
-		return append1((int)(l>>56)).append1((int)(l>>48)).append1((int)(l>>40)).append1((int)(l>>32)).append1((int)(l>>24)).append1((int)(l>>16)).append1((int)(l>>8)).append1((int)(l));
+		ensure(8);
+		for (int i = 56; i >= 0; i -= 8)
+			buff[pos++] = (byte)(l>>i);
+		return this;
 	}
 
 	/**
@@ -215,14 +278,107 @@ public final class MsgPackOutputStream extends OutputStream {
 		// * AAAAAAAA_AAAAAAAA_AAAAAAAA_AAAAAAAA is a 32-bit big-endian unsigned integer which represents N
 		// * N is the length of data
 
-		byte[] b = cs.toString().getBytes("UTF-8");
-		if (b.length < 32)
-			return append1(0xA0 + b.length).append(b);
-		if (b.length < (1<<8))
-			return append1(STR8).append1(b.length).append(b);
-		if (b.length < (1<<16))
-			return append1(STR16).append2(b.length).append(b);
-		return append1(STR32).append4(b.length).append(b);
+		int len = cs.length(), maxBytes = len * 3;
+
+		// Short strings are encoded straight into the buffer after a header sized for the worst case.
+		// The header is then written once the actual length is known, shifting the data if the header is smaller.
+		if (maxBytes + 5 <= buff.length) {
+			ensure(maxBytes + 5);
+			int start = pos, h = stringHeaderSize(maxBytes);
+			pos = start + h;
+			for (int i = 0; i < len; i++)
+				i = appendUtf8(cs, i, len);
+			int n = pos - start - h, h2 = stringHeaderSize(n);
+			if (h2 != h) {
+				System.arraycopy(buff, start + h, buff, start + h2, n);
+				pos = start + h2 + n;
+			}
+			writeStringHeader(start, n);
+			return this;
+		}
+
+		// Long strings need the length up front since they can span multiple buffers.
+		int n = 0;
+		for (int i = 0; i < len; i++) {
+			char c = cs.charAt(i);
+			if (c < 0x80)
+				n++;
+			else if (c < 0x800)
+				n += 2;
+			else if (Character.isHighSurrogate(c) && i+1 < len && Character.isLowSurrogate(cs.charAt(i+1))) {
+				n += 4;
+				i++;
+			} else if (Character.isSurrogate(c))
+				n++;
+			else
+				n += 3;
+		}
+		ensure(5);
+		int start = pos;
+		pos += stringHeaderSize(n);
+		writeStringHeader(start, n);
+		for (int i = 0; i < len; i++) {
+			ensure(4);
+			i = appendUtf8(cs, i, len);
+		}
+		return this;
+	}
+
+	private static int stringHeaderSize(int n) {
+		return n < 32 ? 1 : n < (1<<8) ? 2 : n < (1<<16) ? 3 : 5;
+	}
+
+	/*
+	 * Writes the str header for a string of n bytes at the specified position in the buffer.
+	 */
+	private void writeStringHeader(int p, int n) {
+		if (n < 32) {
+			buff[p] = (byte)(0xA0 + n);
+		} else if (n < (1<<8)) {
+			buff[p] = (byte)STR8;
+			buff[p+1] = (byte)n;
+		} else if (n < (1<<16)) {
+			buff[p] = (byte)STR16;
+			buff[p+1] = (byte)(n>>8);
+			buff[p+2] = (byte)n;
+		} else {
+			buff[p] = (byte)STR32;
+			buff[p+1] = (byte)(n>>24);
+			buff[p+2] = (byte)(n>>16);
+			buff[p+3] = (byte)(n>>8);
+			buff[p+4] = (byte)n;
+		}
+	}
+
+	/*
+	 * Encodes the character at the specified index as UTF-8 into the buffer.
+	 * Assumes there are at least 4 bytes available in the buffer.
+	 * Unpaired surrogates are encoded as '?' (same as String.getBytes()).
+	 * Returns the index of the last character consumed.
+	 */
+	private int appendUtf8(CharSequence cs, int i, int len) {
+		char c = cs.charAt(i);
+		if (c < 0x80) {
+			buff[pos++] = (byte)c;
+		} else if (c < 0x800) {
+			buff[pos++] = (byte)(0xC0 | (c>>6));
+			buff[pos++] = (byte)(0x80 | (c & 0x3F));
+		} else if (Character.isSurrogate(c)) {
+			if (Character.isHighSurrogate(c) && i+1 < len && Character.isLowSurrogate(cs.charAt(i+1))) {
+				int cp = Character.toCodePoint(c, cs.charAt(++i));
+				buff[pos++] = (byte)(0xF0 | (cp>>18));
+				buff[pos++] = (byte)(0x80 | ((cp>>12) & 0x3F));
+				buff[pos++] = (byte)(0x80 | ((cp>>6) & 0x3F));
+				buff[pos++] = (byte)(0x80 | (cp & 0x3F));
+			} else {
+				buff[pos++] = '?';
+			}
+		} else {
+			buff[pos++] = (byte)(0xE0 | (c>>12));
+			buff[pos++] = (byte)(0x80 | ((c>>6) & 0x3F));
+			buff[pos++] = (byte)(0x80 | (c & 0x3F));
+		}
+		return i;
 	}
 
 	/**
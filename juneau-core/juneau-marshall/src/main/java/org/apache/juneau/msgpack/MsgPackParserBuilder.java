@@ -433,6 +433,12 @@ public class MsgPackParserBuilder extends InputStreamParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public MsgPackParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public MsgPackParserBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
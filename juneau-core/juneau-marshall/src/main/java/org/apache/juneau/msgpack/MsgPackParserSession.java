@@ -126,8 +126,10 @@ public final class MsgPackParserSession extends InputStreamParserSession {
 						if (bpm == null) {
 							if (pName.equals(getBeanTypePropertyName(eType)))
 								parseAnything(string(), is, null, null);
-							else
+							else {
 								onUnknownProperty(pName, m);
+								is.skipValue();
+							}
 						} else {
 							ClassMeta<?> cm = bpm.getClassMeta();
 							Object value = parseAnything(cm, is, m.getBean(false), bpm);
@@ -0,0 +1,422 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.msgpack;
+
+import static org.apache.juneau.internal.IOUtils.*;
+import static org.apache.juneau.msgpack.DataType.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.FileChannel.*;
+
+/**
+ * Pull-style reader for MessagePack data held in a {@link ByteBuffer}.
+ *
+ * <p>
+ * Unlike {@link MsgPackParser}, this class does not convert the data into POJOs.
+ * <br>Instead, the caller steps through the values one token at a time using {@link #next()} and only decodes the
+ * values it's interested in.
+ * <br>Strings and binary values can be accessed as slices of the underlying buffer without copying, and arrays and maps
+ * can be skipped over without decoding their contents.
+ *
+ * <p>
+ * Arrays and maps are flattened into the token stream.
+ * <br>After {@link #next()} returns {@link DataType#ARRAY ARRAY} or {@link DataType#MAP MAP}, the following calls
+ * return the entries of the array (or the keys and values of the map) in order.
+ * <br>The number of entries is available through {@link #getLength()}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Read the "id" field of every bean in an array, skipping everything else.</jc>
+ * 	MsgPackReader r = <jk>new</jk> MsgPackReader(<jk>new</jk> File(<js>"archive.msgpack"</js>));
+ * 	r.next();
+ * 	<jk>for</jk> (<jk>long</jk> i = 0, n = r.getLength(); i &lt; n; i++) {
+ * 		r.next();
+ * 		<jk>for</jk> (<jk>long</jk> j = 0, m = r.getLength(); j &lt; m; j++) {
+ * 			r.next();
+ * 			<jk>if</jk> (r.readString().equals(<js>"id"</js>)) {
+ * 				r.next();
+ * 				<jsm>process</jsm>(r.readLong());
+ * 			} <jk>else</jk> {
+ * 				r.next();
+ * 				r.skipValue();
+ * 			}
+ * 		}
+ * 	}
+ * </p>
+ *
+ * <h5 class='section'>Notes:</h5>
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		This class is not thread safe.
+ * 	<li>
+ * 		Since buffer positions are ints, the data is limited to 2GB.
+ * </ul>
+ */
+public final class MsgPackReader {
+
+	private final ByteBuffer buf;
+	private DataType type;
+	private int flag, extType;
+	private long length;
+
+	// Start and end positions of the payload of the current value.
+	private int start, end;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Reading starts at the current position of the buffer and stops at its limit.
+	 * <br>The position and limit of the buffer itself are not modified.
+	 *
+	 * @param buffer The buffer containing the MessagePack data.
+	 */
+	public MsgPackReader(ByteBuffer buffer) {
+		this.buf = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+		this.end = buf.position();
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param bytes The MessagePack data.
+	 */
+	public MsgPackReader(byte[] bytes) {
+		this(ByteBuffer.wrap(bytes));
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * The file is memory-mapped so that it doesn't need to be loaded onto the heap.
+	 *
+	 * @param file The file containing the MessagePack data.
+	 * @throws IOException If the file could not be mapped.
+	 */
+	public MsgPackReader(File file) throws IOException {
+		this(map(file));
+	}
+
+	private static ByteBuffer map(File file) throws IOException {
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+			// The mapping remains valid after the file is closed.
+			return raf.getChannel().map(MapMode.READ_ONLY, 0, raf.length());
+		}
+	}
+
+	/**
+	 * Returns <jk>true</jk> if there are more tokens to read.
+	 *
+	 * @return <jk>true</jk> if there are more tokens to read.
+	 */
+	public boolean hasNext() {
+		return end < buf.limit();
+	}
+
+	/**
+	 * Advances to the next value and reads its header.
+	 *
+	 * <p>
+	 * Any part of the previous value that wasn't read is skipped.
+	 *
+	 * @return The data type of the value.  Never {@link DataType#INVALID INVALID}.
+	 * @throws IOException If the end of the buffer was reached or an invalid flag was encountered.
+	 */
+	public DataType next() throws IOException {
+		buf.position(end);
+		int i = readUInt1();
+		flag = i;
+		extType = 0;
+		type = MsgPackInputStream.TYPES[i];
+		switch (type) {
+			case NULL:
+			case BOOLEAN:
+				length = 0;
+				break;
+			case INT:
+				if (i <= POSFIXINT_U || i >= NEGFIXINT_L)
+					length = 0;
+				else if (i == INT8 || i == UINT8)
+					length = 1;
+				else if (i == INT16 || i == UINT16)
+					length = 2;
+				else
+					length = 4;
+				break;
+			case LONG:
+				length = (i == UINT32 ? 4 : 8);
+				break;
+			case FLOAT:
+				length = 4;
+				break;
+			case DOUBLE:
+				length = 8;
+				break;
+			case STRING:
+				if (i <= FIXSTR_U)
+					length = i & 0x1F;
+				else if (i == STR8)
+					length = readUInt1();
+				else if (i == STR16)
+					length = readUInt2();
+				else
+					length = readUInt4();
+				break;
+			case BIN:
+				if (i == BIN8)
+					length = readUInt1();
+				else if (i == BIN16)
+					length = readUInt2();
+				else
+					length = readUInt4();
+				break;
+			case EXT:
+				if (i >= FIXEXT1 && i <= FIXEXT16)
+					length = 1 << (i - FIXEXT1);
+				else if (i == EXT8)
+					length = readUInt1();
+				else if (i == EXT16)
+					length = readUInt2();
+				else
+					length = readUInt4();
+				extType = (byte)readUInt1();
+				break;
+			case ARRAY:
+				if (i <= FIXARRAY_U)
+					length = i & 0x0F;
+				else if (i == ARRAY16)
+					length = readUInt2();
+				else
+					length = readUInt4();
+				break;
+			case MAP:
+				if (i <= FIXMAP_U)
+					length = i & 0x0F;
+				else if (i == MAP16)
+					length = readUInt2();
+				else
+					length = readUInt4();
+				break;
+			default:
+				throw new IOException("Invalid flag 0xC1 detected at position " + (buf.position() - 1));
+		}
+		start = buf.position();
+		long size = (type == ARRAY || type == MAP ? 0 : length);
+		if (size > buf.limit() - start)
+			throw eof();
+		end = start + (int)size;
+		return type;
+	}
+
+	/**
+	 * Returns the data type of the current value.
+	 *
+	 * @return The data type of the current value, or <jk>null</jk> if {@link #next()} hasn't been called yet.
+	 */
+	public DataType getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the length of the current value.
+	 *
+	 * @return
+	 * 	The number of entries for arrays and maps, or the number of bytes of data for all other types.
+	 */
+	public long getLength() {
+		return length;
+	}
+
+	/**
+	 * Returns the extension type of the current {@link DataType#EXT EXT} value.
+	 *
+	 * @return The extension type, or <code>0</code> if the current value is not an extension.
+	 */
+	public int getExtType() {
+		return extType;
+	}
+
+	/**
+	 * Returns the position in the buffer where the next token starts.
+	 *
+	 * @return The position in the buffer where the next token starts.
+	 */
+	public int getPosition() {
+		return end;
+	}
+
+	/**
+	 * Moves the reader to the specified position in the buffer.
+	 *
+	 * <p>
+	 * Used along with {@link #getPosition()} to return to values found previously.
+	 *
+	 * @param position The position of a token in the buffer.
+	 * @return This object (for method chaining).
+	 */
+	public MsgPackReader setPosition(int position) {
+		if (position < 0 || position > buf.limit())
+			throw new IllegalArgumentException("Position " + position + " is outside the buffer.");
+		end = position;
+		return this;
+	}
+
+	/**
+	 * Reads the current {@link DataType#BOOLEAN BOOLEAN} value.
+	 *
+	 * @return The value.
+	 */
+	public boolean readBoolean() {
+		check(BOOLEAN);
+		return flag == TRUE;
+	}
+
+	/**
+	 * Reads the current {@link DataType#INT INT} or {@link DataType#LONG LONG} value.
+	 *
+	 * @return The value.
+	 */
+	public long readLong() {
+		check(INT, LONG);
+		int i = flag;
+		if (i <= POSFIXINT_U || i >= NEGFIXINT_L)
+			return (byte)i;
+		switch (i) {
+			case UINT8:  return buf.get(start) & 0xFF;
+			case UINT16: return buf.getShort(start) & 0xFFFF;
+			case UINT32: return buf.getInt(start) & 0xFFFFFFFFL;
+			case INT8:   return buf.get(start);
+			case INT16:  return buf.getShort(start);
+			case INT32:  return buf.getInt(start);
+			default:     return buf.getLong(start);
+		}
+	}
+
+	/**
+	 * Reads the current {@link DataType#INT INT} value.
+	 *
+	 * @return The value.
+	 */
+	public int readInt() {
+		return (int)readLong();
+	}
+
+	/**
+	 * Reads the current numeric value as a double.
+	 *
+	 * @return The value.
+	 */
+	public double readDouble() {
+		check(FLOAT, DOUBLE, INT, LONG);
+		if (type == FLOAT)
+			return buf.getFloat(start);
+		if (type == DOUBLE)
+			return buf.getDouble(start);
+		return readLong();
+	}
+
+	/**
+	 * Reads the current numeric value as a float.
+	 *
+	 * @return The value.
+	 */
+	public float readFloat() {
+		return (float)readDouble();
+	}
+
+	/**
+	 * Reads the current {@link DataType#STRING STRING} value.
+	 *
+	 * @return The value.
+	 */
+	public String readString() {
+		check(STRING);
+		if (buf.hasArray())
+			return new String(buf.array(), buf.arrayOffset() + start, end - start, UTF8);
+		return UTF8.decode(slice()).toString();
+	}
+
+	/**
+	 * Returns the data of the current {@link DataType#STRING STRING}, {@link DataType#BIN BIN}, or
+	 * {@link DataType#EXT EXT} value.
+	 *
+	 * <p>
+	 * The returned buffer is a view on the underlying buffer.  No data is copied.
+	 *
+	 * @return The data as a buffer whose position is zero and whose limit is the length of the data.
+	 */
+	public ByteBuffer readBytes() {
+		check(STRING, BIN, EXT);
+		return slice();
+	}
+
+	/**
+	 * Skips the contents of the current value.
+	 *
+	 * <p>
+	 * If the current value is an array or map, all of its entries are skipped (including nested arrays and maps)
+	 * without decoding them, and the next call to {@link #next()} returns the value that follows it.
+	 * <br>Otherwise, this is a no-op since {@link #next()} already skips any unread data.
+	 *
+	 * @throws IOException If the end of the buffer was reached or an invalid flag was encountered.
+	 */
+	public void skipValue() throws IOException {
+		if (type == null)
+			throw new IllegalStateException("next() has not been called.");
+		long remaining = entries();
+		while (remaining > 0) {
+			remaining--;
+			next();
+			remaining += entries();
+		}
+	}
+
+	private long entries() {
+		return type == ARRAY ? length : type == MAP ? length * 2 : 0;
+	}
+
+	private ByteBuffer slice() {
+		ByteBuffer b = buf.duplicate();
+		b.limit(end).position(start);
+		return b.slice();
+	}
+
+	private void check(DataType...dataTypes) {
+		if (type == null || ! type.isOneOf(dataTypes))
+			throw new IllegalStateException("Current value is of type " + type + ".");
+	}
+
+	private int readUInt1() throws IOException {
+		if (! buf.hasRemaining())
+			throw eof();
+		return buf.get() & 0xFF;
+	}
+
+	private int readUInt2() throws IOException {
+		if (buf.remaining() < 2)
+			throw eof();
+		return buf.getShort() & 0xFFFF;
+	}
+
+	private long readUInt4() throws IOException {
+		if (buf.remaining() < 4)
+			throw eof();
+		return buf.getInt() & 0xFFFFFFFFL;
+	}
+
+	private IOException eof() {
+		return new IOException("Unexpected end of file found at position " + buf.position());
+	}
+}
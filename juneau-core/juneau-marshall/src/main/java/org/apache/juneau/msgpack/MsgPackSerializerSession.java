@@ -134,6 +134,17 @@ public final class MsgPackSerializerSession extends OutputStreamSerializerSessio
 		else if (sType.isArray()) {
 			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
 		}
+		else if (sType.isStreamable()) {
+			// MessagePack arrays are prefixed with their length, so the elements have to be collected first.
+			List<Object> l = new ArrayList<>();
+			try {
+				for (Iterator<?> i = toIterator(o); i.hasNext();)
+					l.add(i.next());
+			} finally {
+				closeStreamable(o);
+			}
+			serializeCollection(out, l, eType);
+		}
 		else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		}
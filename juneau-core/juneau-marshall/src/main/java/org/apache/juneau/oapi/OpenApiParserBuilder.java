@@ -415,6 +415,12 @@ public class OpenApiParserBuilder extends UonParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public OpenApiParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public OpenApiParserBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
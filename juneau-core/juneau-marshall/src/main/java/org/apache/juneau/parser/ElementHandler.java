@@ -0,0 +1,45 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.parser;
+
+/**
+ * Callback interface for parse methods that hand off elements one at a time as they are parsed instead of collecting
+ * them into a single result.
+ *
+ * <p>
+ * Used for processing arbitrarily large inputs in constant memory.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	CsvParser.<jsf>DEFAULT</jsf>.parseRows(reader, MyBean.<jk>class</jk>, <jk>new</jk> ElementHandler&lt;MyBean&gt;() {
+ * 		<ja>@Override</ja>
+ * 		<jk>public boolean</jk> onElement(MyBean b) {
+ * 			<jsm>save</jsm>(b);
+ * 			<jk>return true</jk>;
+ * 		}
+ * 	});
+ * </p>
+ *
+ * @param <T> The element type.
+ */
+public interface ElementHandler<T> {
+
+	/**
+	 * Called once for each element as soon as it has been parsed.
+	 *
+	 * @param element The parsed element.
+	 * @return <jk>true</jk> to continue parsing, <jk>false</jk> to stop parsing and ignore the remaining input.
+	 * @throws Exception Any exception.  Gets wrapped in a {@link ParseException}.
+	 */
+	boolean onElement(T element) throws Exception;
+}
@@ -443,6 +443,12 @@ public class InputStreamParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public InputStreamParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public InputStreamParserBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
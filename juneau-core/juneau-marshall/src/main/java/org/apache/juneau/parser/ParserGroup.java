@@ -15,10 +15,10 @@ package org.apache.juneau.parser;
 import static org.apache.juneau.internal.CollectionUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Parser Parsers} that can be looked up by media type.
@@ -79,7 +79,7 @@ public final class ParserGroup extends BeanContext {
 	public static final ParserGroup EMPTY = create().build();
 
 	// Maps Content-Type headers to matches.
-	private final ConcurrentHashMap<String,ParserMatch> cache = new ConcurrentHashMap<>();
+	private final Cache<String,ParserMatch> cache = new Cache<>(false, 1000);
 
 	private final MediaType[] mediaTypes;            // List of media types
 	private final List<MediaType> mediaTypesList;
@@ -156,10 +156,10 @@ public final class ParserGroup extends BeanContext {
 
 		if (match >= 0) {
 			pm = new ParserMatch(mediaTypes[match], mediaTypeParsers[match]);
-			cache.putIfAbsent(contentTypeHeader, pm);
+			pm = cache.put(contentTypeHeader, pm);
 		}
 
-		return cache.get(contentTypeHeader);
+		return pm;
 	}
 
 	/**
@@ -698,6 +698,12 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public ParserGroupBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public ParserGroupBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
@@ -47,6 +47,14 @@ public class ParserInputStream extends InputStream implements Positionable {
 		return i;
 	}
 
+	@Override /* InputStream */
+	public long skip(long n) throws IOException {
+		long l = is.skip(n);
+		if (l > 0)
+			pos += l;
+		return l;
+	}
+
 	@Override /* Positionable */
 	public Position getPosition() {
 		return new Position(pos);
@@ -304,6 +304,29 @@ public class ParserReader extends Reader implements Positionable {
 	 * @return The contents of the reusable character buffer as a string.
 	 */
 	public final String getMarked(int offsetStart, int offsetEnd) {
+		return getMarked(offsetStart, offsetEnd, null);
+	}
+
+	/**
+	 * Same as {@link #getMarked(int, int)} except returns the matching string from the specified index if found.
+	 *
+	 * <p>
+	 * Avoids creating a new string when the marked characters are a known name such as a bean property name.
+	 *
+	 * @param offsetStart The offset of the start position.
+	 * @param offsetEnd The offset of the end position.
+	 * @param index The index of known strings.  Can be <jk>null</jk>.
+	 * @return The contents of the reusable character buffer as a string.
+	 */
+	public final String getMarked(int offsetStart, int offsetEnd, StringIndex index) {
+		if (index != null && ! holesExist) {
+			String s = index.get(buff, iMark + offsetStart, iCurrent - iMark + offsetEnd - offsetStart);
+			if (s != null) {
+				iMark = -1;
+				return s;
+			}
+		}
+
 		int offset = 0;
 
 		// Holes are \u00FF 'delete' characters that we need to get rid of now.
@@ -508,6 +508,12 @@ public abstract class ReaderParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public ReaderParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public ReaderParserBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
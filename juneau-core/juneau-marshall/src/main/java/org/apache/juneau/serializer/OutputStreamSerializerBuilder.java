@@ -383,6 +383,12 @@ public class OutputStreamSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public OutputStreamSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public OutputStreamSerializerBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
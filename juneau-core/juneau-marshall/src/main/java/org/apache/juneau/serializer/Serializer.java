@@ -13,6 +13,7 @@
 package org.apache.juneau.serializer;
 
 import java.io.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
@@ -721,6 +722,11 @@ public abstract class Serializer extends BeanTraverseContext {
 	private final MediaType[] accepts;
 	private final MediaType produces;
 
+	// Idle sessions created with the default session arguments, reused by the convenience methods.
+	// Slots are picked by thread ID so that threads rarely contend for the same session.
+	private static final int SESSION_POOL_SIZE = 8;
+	private final AtomicReferenceArray<SerializerSession> sessionPool = new AtomicReferenceArray<>(SESSION_POOL_SIZE);
+
 	/**
 	 * Constructor
 	 *
@@ -830,16 +836,25 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * 		<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
 	 * 		<li>{@link File} - Output will be written as system-default encoded stream.
 	 * 		<li>{@link StringBuilder} - Output will be written to the specified string builder.
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written as UTF-8 encoded bytes starting at the buffer's position.
+	 * 		<li>{@link java.nio.channels.WritableByteChannel} - Output will be written as UTF-8 encoded bytes.
 	 * 	</ul>
 	 * 	<br>Stream-based serializers can handle the following output class types:
 	 * 	<ul>
 	 * 		<li>{@link OutputStream}
 	 * 		<li>{@link File}
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written starting at the buffer's position.
+	 * 		<li>{@link java.nio.channels.WritableByteChannel}
 	 * 	</ul>
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final void serialize(Object o, Object output) throws SerializeException {
-		createSession().serialize(o, output);
+		SerializerSession s = borrowSession();
+		try {
+			s.serialize(o, output);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -870,7 +885,86 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final String serializeToString(Object o) throws SerializeException {
-		return createSession().serializeToString(o);
+		SerializerSession s = borrowSession();
+		try {
+			return s.serializeToString(o);
+		} finally {
+			releaseSession(s);
+		}
+	}
+
+	/**
+	 * Returns an idle session created with the default session arguments, or a new one if none are available.
+	 *
+	 * <p>
+	 * The session is taken out of the pool while in use so that reentrant calls (e.g. from swaps) get their own
+	 * session.
+	 * <br>It must be handed back through {@link #releaseSession(SerializerSession)} when done.
+	 *
+	 * @return A session created with the default session arguments.
+	 */
+	final SerializerSession borrowSession() {
+		SerializerSession s = sessionPool.getAndSet(getSessionPoolSlot(), null);
+		if (s == null)
+			s = createSession(createDefaultSessionArgs());
+		else if (! s.hasDefaultArgs)
+			s.reset(createDefaultSessionArgs());
+		s.hasDefaultArgs = true;
+		return s;
+	}
+
+	/**
+	 * Returns an idle session re-initialized with the specified session arguments, or a new one if none are
+	 * available.
+	 *
+	 * <p>
+	 * Same as {@link #createSession(SerializerSessionArgs)}, but avoids creating a new session on every call for
+	 * callers that serialize often with different session arguments (e.g. once per HTTP response).
+	 * <br>The session is taken out of the pool while in use so that reentrant calls (e.g. from swaps) get their own
+	 * session.
+	 * <br>It must be handed back through {@link #releaseSession(SerializerSession)} when done, and must not be used
+	 * afterwards.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	SerializerSession s = serializer.borrowSession(args);
+	 * 	<jk>try</jk> {
+	 * 		s.serialize(o, out);
+	 * 	} <jk>finally</jk> {
+	 * 		serializer.releaseSession(s);
+	 * 	}
+	 * </p>
+	 *
+	 * @param args
+	 * 	Runtime arguments.
+	 * 	These specify session-level information such as locale and URI context.
+	 * 	It also include session-level properties that override the properties defined on the bean and
+	 * 	serializer contexts.
+	 * @return A session initialized with the specified session arguments.
+	 */
+	public final SerializerSession borrowSession(SerializerSessionArgs args) {
+		SerializerSession s = sessionPool.getAndSet(getSessionPoolSlot(), null);
+		if (s == null)
+			s = createSession(args);
+		else
+			s.reset(args);
+		s.hasDefaultArgs = false;
+		return s;
+	}
+
+	/**
+	 * Resets a session obtained through {@link #borrowSession(SerializerSessionArgs)} and puts it back in the pool if
+	 * it can be reused.
+	 *
+	 * @param s The session to release.
+	 */
+	public final void releaseSession(SerializerSession s) {
+		if (s.resetForReuse())
+			sessionPool.compareAndSet(getSessionPoolSlot(), null, s);
+	}
+
+	private static int getSessionPoolSlot() {
+		return (int)(Thread.currentThread().getId() & (SESSION_POOL_SIZE - 1));
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -892,6 +892,12 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SerializerBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
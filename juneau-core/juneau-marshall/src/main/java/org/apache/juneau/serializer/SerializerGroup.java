@@ -15,10 +15,10 @@ package org.apache.juneau.serializer;
 import static org.apache.juneau.internal.CollectionUtils.*;
 
 import java.util.*;
-import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.*;
+import org.apache.juneau.internal.*;
 
 /**
  * Represents a group of {@link Serializer Serializers} that can be looked up by media type.
@@ -71,7 +71,7 @@ public final class SerializerGroup extends BeanTraverseContext {
 	public static final SerializerGroup EMPTY = create().build();
 
 	// Maps Accept headers to matching serializers.
-	private final ConcurrentHashMap<String,SerializerMatch> cache = new ConcurrentHashMap<>();
+	private final Cache<String,SerializerMatch> cache = new Cache<>(false, 1000);
 
 	private final MediaTypeRange[] mediaTypeRanges;
 	private final Serializer[] mediaTypeRangeSerializers;
@@ -165,10 +165,10 @@ public final class SerializerGroup extends BeanTraverseContext {
 		int match = a.findMatch(mediaTypeRanges);
 		if (match >= 0) {
 			sm = new SerializerMatch(mediaTypeRanges[match].getMediaType(), mediaTypeRangeSerializers[match]);
-			cache.putIfAbsent(acceptHeader, sm);
+			sm = cache.put(acceptHeader, sm);
 		}
 
-		return cache.get(acceptHeader);
+		return sm;
 	}
 
 	/**
@@ -971,6 +971,12 @@ public class SerializerGroupBuilder extends BeanTraverseBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public SerializerGroupBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public SerializerGroupBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
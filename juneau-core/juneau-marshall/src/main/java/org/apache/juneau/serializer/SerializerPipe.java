@@ -15,6 +15,8 @@ package org.apache.juneau.serializer;
 import static org.apache.juneau.internal.IOUtils.*;
 
 import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
@@ -29,6 +31,8 @@ import org.apache.juneau.internal.*;
  * 	<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
  * 	<li>{@link File} - Output will be written as system-default encoded stream.
  * 	<li>{@link StringBuilder}
+ * 	<li>{@link ByteBuffer} - Output will be written as UTF-8 encoded bytes starting at the buffer's position.
+ * 	<li>{@link WritableByteChannel} - Output will be written as UTF-8 encoded bytes.
  * </ul>
  *
  * <p>
@@ -36,10 +40,14 @@ import org.apache.juneau.internal.*;
  * <ul>
  * 	<li>{@link OutputStream}
  * 	<li>{@link File}
+ * 	<li>{@link ByteBuffer} - Output will be written starting at the buffer's position.
+ * 	<li>{@link WritableByteChannel}
  * </ul>
  */
 public final class SerializerPipe implements Closeable {
 
+	private static final int CHANNEL_BUFFER_SIZE = 8192;
+
 	private final Object output;
 	private final boolean autoClose;
 
@@ -67,6 +75,8 @@ public final class SerializerPipe implements Closeable {
 	 * <ul>
 	 * 	<li>{@link OutputStream}
 	 * 	<li>{@link File}
+	 * 	<li>{@link ByteBuffer}
+	 * 	<li>{@link WritableByteChannel}
 	 * </ul>
 	 *
 	 * @return
@@ -83,6 +93,8 @@ public final class SerializerPipe implements Closeable {
 			outputStream = (OutputStream)output;
 		else if (output instanceof File)
 			outputStream = new BufferedOutputStream(new FileOutputStream((File)output));
+		else if (output instanceof ByteBuffer || output instanceof WritableByteChannel)
+			outputStream = newByteBufferOutputStream();
 		else
 			throw new IOException("Cannot convert object of type "+output.getClass().getName()+" to an OutputStream.");
 
@@ -102,6 +114,9 @@ public final class SerializerPipe implements Closeable {
 	 * 	<li>{@link Writer}
 	 * 	<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
 	 * 	<li>{@link File} - Output will be written as system-default encoded stream.
+	 * 	<li>{@link StringBuilder}
+	 * 	<li>{@link ByteBuffer} - Output will be written as UTF-8 encoded bytes.
+	 * 	<li>{@link WritableByteChannel} - Output will be written as UTF-8 encoded bytes.
 	 * </ul>
 	 *
 	 * @return
@@ -122,12 +137,20 @@ public final class SerializerPipe implements Closeable {
 			writer = new OutputStreamWriter(new BufferedOutputStream(new FileOutputStream((File)output)));
 		else if (output instanceof StringBuilder)
 			writer = new StringBuilderWriter((StringBuilder)output);
+		else if (output instanceof ByteBuffer || output instanceof WritableByteChannel)
+			writer = new ByteBufferWriter(newByteBufferOutputStream());
 		else
 			throw new IOException("Cannot convert object of type "+output.getClass().getName()+" to a Writer.");
 
 		return new NoCloseWriter(writer);
 	}
 
+	private ByteBufferOutputStream newByteBufferOutputStream() {
+		if (output instanceof ByteBuffer)
+			return new ByteBufferOutputStream((ByteBuffer)output);
+		return new ByteBufferOutputStream((WritableByteChannel)output, CHANNEL_BUFFER_SIZE);
+	}
+
 	/**
 	 * Overwrites the writer in this pipe.
 	 *
@@ -49,14 +49,18 @@ import org.apache.juneau.transform.*;
 public abstract class SerializerSession extends BeanTraverseSession {
 
 	private final Serializer ctx;
-	private final UriResolver uriResolver;
+	private UriResolver uriResolver;
 
-	private final Method javaMethod;                                                // Java method that invoked this serializer.
+	private Method javaMethod;                                                      // Java method that invoked this serializer.
 
 	// Writable properties
-	private final boolean useWhitespace;
+	private boolean useWhitespace;
 	private final SerializerListener listener;
 
+	// True if this session was last initialized with the default session arguments of the serializer.
+	// Maintained by the session pool in Serializer.
+	boolean hasDefaultArgs;
+
 	/**
 	 * Create a new session using properties specified in the context.
 	 *
@@ -73,11 +77,8 @@ public abstract class SerializerSession extends BeanTraverseSession {
 	protected SerializerSession(Serializer ctx, SerializerSessionArgs args) {
 		super(ctx, args == null ? SerializerSessionArgs.DEFAULT : args);
 		this.ctx = ctx;
-		args = args == null ? SerializerSessionArgs.DEFAULT : args;
-		this.javaMethod = args.javaMethod;
-		this.uriResolver = new UriResolver(ctx.getUriResolution(), ctx.getUriRelativity(), args.uriContext == null ? ctx.getUriContext() : args.uriContext);
 		this.listener = newInstance(SerializerListener.class, ctx.getListener());
-		this.useWhitespace = args.useWhitespace != null ? args.useWhitespace : ctx.isUseWhitespace();
+		setArgs(args == null ? SerializerSessionArgs.DEFAULT : args);
 	}
 
 	/**
@@ -93,6 +94,33 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		this(Serializer.DEFAULT, args);
 	}
 
+	@Override /* Session */
+	protected boolean resetForReuse() {
+		// Listeners may keep their own state.
+		return listener == null && super.resetForReuse();
+	}
+
+	/**
+	 * Re-initializes this session with new runtime arguments so that it can be reused for another serialize.
+	 *
+	 * <p>
+	 * Used by {@link Serializer#borrowSession(SerializerSessionArgs)} to avoid creating a new session per call.
+	 * <br>Subclasses that compute state from the runtime arguments or session properties must override this method to
+	 * recompute it.
+	 *
+	 * @param args The new runtime arguments.
+	 */
+	protected void reset(SerializerSessionArgs args) {
+		super.reset(args);
+		setArgs(args);
+	}
+
+	private void setArgs(SerializerSessionArgs args) {
+		this.javaMethod = args.javaMethod;
+		this.uriResolver = new UriResolver(ctx.getUriResolution(), ctx.getUriRelativity(), args.uriContext == null ? ctx.getUriContext() : args.uriContext);
+		this.useWhitespace = args.useWhitespace != null ? args.useWhitespace : ctx.isUseWhitespace();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -113,11 +141,15 @@ public abstract class SerializerSession extends BeanTraverseSession {
 	 * 		<li>{@link OutputStream} - Output will be written as UTF-8 encoded stream.
 	 * 		<li>{@link File} - Output will be written as system-default encoded stream.
 	 * 		<li>{@link StringBuilder}
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written as UTF-8 encoded bytes starting at the buffer's position.
+	 * 		<li>{@link java.nio.channels.WritableByteChannel} - Output will be written as UTF-8 encoded bytes.
 	 * 	</ul>
 	 * 	<br>For byte-based serializers, this can be any of the following types:
 	 * 	<ul>
 	 * 		<li>{@link OutputStream}
 	 * 		<li>{@link File}
+	 * 		<li>{@link java.nio.ByteBuffer} - Output will be written starting at the buffer's position.
+	 * 		<li>{@link java.nio.channels.WritableByteChannel}
 	 * 	</ul>
 	 * @return
 	 * 	A new {@link ParserPipe} wrapper around the specified input object.
@@ -363,6 +395,25 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return c;
 	}
 
+	/**
+	 * Sorts the elements of the specified iterator if {@link SerializerSession#isSortCollections()} returns <jk>true</jk>.
+	 *
+	 * <p>
+	 * Sorting requires all the elements to be read first, so the iterator is only consumed up-front when sorting is
+	 * enabled.
+	 *
+	 * @param i The iterator being sorted.
+	 * @return An iterator over the sorted elements, or the same iterator if sorting is disabled.
+	 */
+	public final <E> Iterator<E> sort(Iterator<E> i) {
+		if (! isSortCollections() || i == null)
+			return i;
+		List<E> l = new ArrayList<>();
+		while (i.hasNext())
+			l.add(i.next());
+		return sort(l).iterator();
+	}
+
 	/**
 	 * Converts the contents of the specified object array to a list.
 	 *
@@ -390,6 +441,70 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		return Arrays.asList((Object[])array);
 	}
 
+	/**
+	 * Returns an iterator over the elements of the specified object if it's a sequence of values.
+	 *
+	 * <p>
+	 * Supported types are arrays (both object and primitive), {@link Iterable}, {@link Iterator}, {@link Enumeration},
+	 * and <code>java.util.stream.BaseStream</code> (when running on Java 8 or later).
+	 * <br>Elements are not copied, so iterators and streams are consumed lazily as they're serialized.
+	 *
+	 * @param o The object to iterate over.
+	 * @return An iterator over the elements, or <jk>null</jk> if the object is not one of the types above.
+	 * @throws SerializeException If the stream iterator could not be retrieved.
+	 */
+	protected static final Iterator<?> toIterator(Object o) throws SerializeException {
+		if (o == null)
+			return null;
+		if (o instanceof Iterator)
+			return (Iterator<?>)o;
+		if (o instanceof Iterable)
+			return ((Iterable<?>)o).iterator();
+		if (o.getClass().isArray())
+			return ArrayUtils.iterator(o);
+		if (o instanceof Enumeration) {
+			final Enumeration<?> e = (Enumeration<?>)o;
+			return new Iterator<Object>() {
+				@Override /* Iterator */
+				public boolean hasNext() {
+					return e.hasMoreElements();
+				}
+				@Override /* Iterator */
+				public Object next() {
+					return e.nextElement();
+				}
+				@Override /* Iterator */
+				public void remove() {
+					throw new UnsupportedOperationException();
+				}
+			};
+		}
+		try {
+			return getBaseStreamIterator(o);
+		} catch (Exception e) {
+			throw new SerializeException(e);
+		}
+	}
+
+	/**
+	 * Closes the specified sequence of values after it has been serialized if it holds resources that must be released.
+	 *
+	 * <p>
+	 * Streams (e.g. the lines of a file) are {@link AutoCloseable} and are closed by this method.
+	 * <br>Exceptions thrown while closing are ignored.
+	 *
+	 * @param o The object that was passed to {@link #toIterator(Object)}.
+	 */
+	protected static final void closeStreamable(Object o) {
+		if (o instanceof AutoCloseable) {
+			try {
+				((AutoCloseable)o).close();
+			} catch (Exception e) {
+				// Ignore.
+			}
+		}
+	}
+
 	/**
 	 * Converts a String to an absolute URI based on the {@link UriContext} on this session.
 	 *
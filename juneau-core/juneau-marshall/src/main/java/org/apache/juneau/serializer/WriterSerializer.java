@@ -179,7 +179,12 @@ public abstract class WriterSerializer extends Serializer {
 	 */
 	@Override /* Serializer */
 	public final String serialize(Object o) throws SerializeException {
-		return createSession(createDefaultSessionArgs()).serialize(o);
+		WriterSerializerSession s = (WriterSerializerSession)borrowSession();
+		try {
+			return s.serialize(o);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
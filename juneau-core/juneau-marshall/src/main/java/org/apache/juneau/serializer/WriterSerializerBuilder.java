@@ -423,6 +423,12 @@ public class WriterSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public WriterSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public WriterSerializerBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
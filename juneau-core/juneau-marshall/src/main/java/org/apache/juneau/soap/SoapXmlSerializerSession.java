@@ -29,7 +29,8 @@ import org.apache.juneau.xml.*;
  */
 public class SoapXmlSerializerSession extends XmlSerializerSession {
 
-	private final String soapAction;
+	private final SoapXmlSerializer ctx;
+	private String soapAction;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -45,7 +46,13 @@ public class SoapXmlSerializerSession extends XmlSerializerSession {
 	 */
 	public SoapXmlSerializerSession(SoapXmlSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
+		this.ctx = ctx;
+		soapAction = getProperty(SOAPXML_SOAPAction, String.class, ctx.soapAction);
+	}
 
+	@Override /* SerializerSession */
+	protected void reset(SerializerSessionArgs args) {
+		super.reset(args);
 		soapAction = getProperty(SOAPXML_SOAPAction, String.class, ctx.soapAction);
 	}
 
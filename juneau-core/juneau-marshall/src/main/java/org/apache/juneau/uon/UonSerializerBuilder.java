@@ -628,6 +628,12 @@ public class UonSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public UonSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public UonSerializerBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
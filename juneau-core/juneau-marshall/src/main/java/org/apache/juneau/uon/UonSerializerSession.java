@@ -159,6 +159,13 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 		else if (sType.isArray()) {
 			serializeCollection(out, toList(sType.getInnerClass(), o), eType);
 		}
+		else if (sType.isStreamable()) {
+			try {
+				serializeCollection(out, sort(toIterator(o)), eType);
+			} finally {
+				closeStreamable(o);
+			}
+		}
 		else if (sType.isReader() || sType.isInputStream()) {
 			IOUtils.pipe(o, out);
 		}
@@ -244,22 +251,27 @@ public class UonSerializerSession extends WriterSerializerSession implements Htt
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	private SerializerWriter serializeCollection(UonWriter out, Collection c, ClassMeta<?> type) throws Exception {
+		return serializeCollection(out, sort(c).iterator(), type);
+	}
 
-		ClassMeta<?> elementType = type.getElementType();
+	@SuppressWarnings({"rawtypes"})
+	private SerializerWriter serializeCollection(UonWriter out, Iterator i, ClassMeta<?> type) throws Exception {
 
-		c = sort(c);
+		ClassMeta<?> elementType = type.getElementType();
 
 		if (! plainTextParams)
 			out.append('@').append('(');
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
+		boolean isEmpty = ! i.hasNext();
+
+		while (i.hasNext()) {
 			out.cr(indent);
 			serializeAnything(out, i.next(), elementType, "<iterator>", null);
 			if (i.hasNext())
 				out.append(',');
 		}
 
-		if (c.size() > 0)
+		if (! isEmpty)
 			out.cre(indent-1);
 		if (! plainTextParams)
 			out.append(')');
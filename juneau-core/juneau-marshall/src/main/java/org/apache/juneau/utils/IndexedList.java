@@ -0,0 +1,223 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+
+/**
+ * A list of beans or maps that maintains column indexes for searching and sorting through {@link PojoQuery}.
+ *
+ * <p>
+ * Intended for large tabular datasets that are queried repeatedly, such as lists returned by REST methods using the
+ * <code>Queryable</code> converter.
+ * <br>For each indexed column, rows are grouped by distinct value so that search patterns are matched once per value
+ * instead of once per row, and values are ranked so that sorting compares integers instead of column values.
+ *
+ * <p>
+ * Indexes are built on the first query that uses them and are discarded whenever the list is modified.
+ * <br>Like {@link ArrayList}, this class is not synchronized.
+ * Concurrent queries are safe, but the list must not be modified while it's being queried.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// A list of beans indexed on the 'status' and 'name' columns.</jc>
+ * 	IndexedList&lt;Order&gt; orders = <jk>new</jk> IndexedList&lt;&gt;(loadOrders(), <js>"status"</js>, <js>"name"</js>);
+ *
+ * 	<jc>// Uses the 'status' index for the search and the 'name' index for the sort.</jc>
+ * 	SearchArgs sa = SearchArgs.<jsm>builder</jsm>().search(<js>"status=OPEN"</js>).sort(<js>"name"</js>).limit(100).build();
+ * 	List l = <jk>new</jk> PojoQuery(orders, session).filter(sa);
+ * </p>
+ *
+ * @param <E> The element type.
+ */
+public class IndexedList<E> extends AbstractList<E> implements RandomAccess {
+
+	private final ArrayList<E> list;
+	private final Set<String> columns;
+	private final Map<String,Index> indexes = new HashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param columns The names of the columns to index.
+	 */
+	public IndexedList(String...columns) {
+		this(Collections.<E>emptyList(), columns);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param c The initial contents of this list.
+	 * @param columns The names of the columns to index.
+	 */
+	public IndexedList(Collection<? extends E> c, String...columns) {
+		this.list = new ArrayList<>(c);
+		this.columns = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(columns)));
+	}
+
+	/**
+	 * Returns the names of the indexed columns.
+	 *
+	 * @return An unmodifiable set of column names.
+	 */
+	public Set<String> getIndexedColumns() {
+		return columns;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified column is indexed.
+	 *
+	 * @param column The column name.
+	 * @return <jk>true</jk> if the specified column is indexed.
+	 */
+	public boolean isIndexed(String column) {
+		return columns.contains(column);
+	}
+
+	@Override /* List */
+	public E get(int index) {
+		return list.get(index);
+	}
+
+	@Override /* List */
+	public int size() {
+		return list.size();
+	}
+
+	@Override /* List */
+	public E set(int index, E element) {
+		E e = list.set(index, element);
+		invalidate();
+		return e;
+	}
+
+	@Override /* List */
+	public void add(int index, E element) {
+		list.add(index, element);
+		modCount++;
+		invalidate();
+	}
+
+	@Override /* List */
+	public E remove(int index) {
+		E e = list.remove(index);
+		modCount++;
+		invalidate();
+		return e;
+	}
+
+	@Override /* List */
+	public void clear() {
+		list.clear();
+		modCount++;
+		invalidate();
+	}
+
+	/**
+	 * Discards the column indexes.
+	 *
+	 * <p>
+	 * Must be called if elements in this list are changed in place so that their indexed column values change.
+	 * <br>Indexes are rebuilt on the next query.
+	 */
+	public synchronized void invalidate() {
+		indexes.clear();
+	}
+
+	/*
+	 * Returns the index on the specified column, building it if necessary.
+	 * Indexes are specific to a bean context since it determines the property values.
+	 */
+	synchronized Index getIndex(String column, BeanSession session) {
+		BeanContext bc = session.getClassMetaForObject(this).getBeanContext();
+		Index index = indexes.get(column);
+		if (index == null || index.beanContext != bc) {
+			index = new Index(bc, column, session);
+			indexes.put(column, index);
+		}
+		return index;
+	}
+
+	/*
+	 * An index on a single column.
+	 */
+	@SuppressWarnings({"rawtypes","unchecked"})
+	final class Index {
+		final BeanContext beanContext;
+
+		// The distinct values of the column as matched by searches, and the rows containing each value in ascending order.
+		final Object[] values;
+		final int[][] rows;
+
+		// The rank of each row's value in sort order.  Null values are ranked last.
+		final int[] ranks;
+
+		Index(BeanContext beanContext, String column, BeanSession session) {
+			this.beanContext = beanContext;
+			int n = list.size();
+
+			Object[] raw = new Object[n];
+			Comparable[] sortValues = new Comparable[n];
+			for (int i = 0; i < n; i++) {
+				Map m = PojoQuery.toMap(session, list.get(i));
+				if (m != null) {
+					raw[i] = PojoQuery.getSearchValue(m, column);
+					sortValues[i] = PojoQuery.getSortValue(m, column);
+				}
+			}
+
+			// Group the rows by value.
+			Map<Object,Integer> groups = new HashMap<>();
+			int[] groupOf = new int[n];
+			List<Object> v = new ArrayList<>();
+			for (int i = 0; i < n; i++) {
+				Integer g = groups.get(raw[i]);
+				if (g == null) {
+					g = v.size();
+					groups.put(raw[i], g);
+					v.add(raw[i]);
+				}
+				groupOf[i] = g;
+			}
+			int[] counts = new int[v.size()];
+			for (int i = 0; i < n; i++)
+				counts[groupOf[i]]++;
+			values = v.toArray();
+			rows = new int[values.length][];
+			for (int g = 0; g < values.length; g++)
+				rows[g] = new int[counts[g]];
+			Arrays.fill(counts, 0);
+			for (int i = 0; i < n; i++)
+				rows[groupOf[i]][counts[groupOf[i]]++] = i;
+
+			// Rank the values.  Values that compare as equal get the same rank.
+			Set<Comparable> distinct = new HashSet<>(Arrays.asList(sortValues));
+			distinct.remove(null);
+			Comparable[] sorted = distinct.toArray(new Comparable[distinct.size()]);
+			Arrays.sort(sorted);
+			Map<Comparable,Integer> rankOf = new HashMap<>();
+			int rank = -1;
+			for (int i = 0; i < sorted.length; i++) {
+				if (i == 0 || sorted[i-1].compareTo(sorted[i]) != 0)
+					rank++;
+				rankOf.put(sorted[i], rank);
+			}
+			ranks = new int[n];
+			for (int i = 0; i < n; i++)
+				ranks[i] = sortValues[i] == null ? Integer.MAX_VALUE : rankOf.get(sortValues[i]);
+		}
+	}
+}
@@ -18,6 +18,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.regex.*;
 
 import org.apache.juneau.*;
@@ -195,6 +196,17 @@ import org.apache.juneau.internal.*;
  * <h5 class='topic'>Paging</h5>
  *
  * Use the <tt>position</tt> and <tt>limit</tt> parameters to specify a subset of rows to return.
+ * <br>When sorting, only the rows up to the end of the requested page are put in order.
+ *
+ * <h5 class='topic'>Indexes</h5>
+ *
+ * If the input is an {@link IndexedList}, its column indexes are used for searching and sorting on the indexed
+ * columns.
+ *
+ * <h5 class='topic'>Parallel Evaluation</h5>
+ *
+ * Use the {@link #parallel(int, ForkJoinPool)} method to split the search, sort, and view over multiple threads when
+ * the input has at least the specified number of rows.
  */
 @SuppressWarnings({"unchecked","rawtypes"})
 public final class PojoQuery {
@@ -202,6 +214,8 @@ public final class PojoQuery {
 	private Object input;
 	private ClassMeta type;
 	private BeanSession session;
+	private int parallelThreshold;
+	private ForkJoinPool pool;
 
 	/**
 	 * Constructor.
@@ -215,6 +229,30 @@ public final class PojoQuery {
 		this.session = session;
 	}
 
+	/**
+	 * Enables parallel evaluation of queries on large inputs.
+	 *
+	 * <p>
+	 * When the number of rows is at least the threshold, searching, sorting, and view projection are split into tasks
+	 * run on the specified fork/join pool.
+	 * <br>The results are the same as sequential evaluation.
+	 * <br>Since bean sessions aren't thread-safe, each task uses its own session created from the same bean context
+	 * with the same locale, timezone, and media type as the session passed to the constructor.
+	 *
+	 * @param threshold
+	 * 	The minimum number of rows for parallel evaluation.
+	 * 	<br>A value of <code>0</code> disables parallel evaluation (the default).
+	 * @param pool
+	 * 	The pool to run the tasks on.
+	 * 	<br>If <jk>null</jk>, uses a shared pool with one thread per available processor.
+	 * @return This object (for method chaining).
+	 */
+	public PojoQuery parallel(int threshold, ForkJoinPool pool) {
+		this.parallelThreshold = threshold;
+		this.pool = pool;
+		return this;
+	}
+
 	/**
 	 * Filters the input object as a collection of maps.
 	 *
@@ -230,50 +268,163 @@ public final class PojoQuery {
 		if (! type.isCollectionOrArray())
 			throw new FormattedRuntimeException("Cannot call filterCollection() on class type ''{0}''", type);
 
-		// Create a new ObjectList
-		ObjectList l = (ObjectList)replaceWithMutables(input);
-
-		// Do the search
-		CollectionFilter filter = new CollectionFilter(args.getSearch(), args.isIgnoreCase());
-		filter.doQuery(l);
+		final Object[] rows;
+		ClassMeta listType;
+		if (type.isArray()) {
+			rows = (Object[])input;
+			listType = session.getClassMetaForObject(Arrays.asList(rows));
+		} else {
+			rows = ((Collection)input).toArray();
+			listType = type;
+		}
+		IndexedList il = input instanceof IndexedList ? (IndexedList)input : null;
 
-		// If sort or view isn't empty, then we need to make sure that all entries in the
-		// list are maps.
 		Map<String,Boolean> sort = args.getSort();
-		List<String> view = args.getView();
+		final List<String> view = args.getView();
+		int pos = args.getPosition(), limit = args.getLimit();
 
-		if ((! sort.isEmpty()) || (! view.isEmpty())) {
-			if (! sort.isEmpty())
-				doSort(l, sort);
-			if (! view.isEmpty())
-				doView(l, view);
-		}
+		// Without a sort, the search can stop as soon as the requested page is filled.
+		int max = (limit == 0 || ! sort.isEmpty()) ? Integer.MAX_VALUE : (int)Math.min((long)limit + pos, Integer.MAX_VALUE);
+
+		// Do the search.
+		int[] matches = search(rows, args.getSearch(), args.isIgnoreCase(), il, max);
+		int size = matches.length;
 
 		// Do the paging.
-		int pos = args.getPosition();
-		int limit = args.getLimit();
+		int end = size;
 		if (pos != 0 || limit != 0) {
-			int end = (limit == 0 || limit+pos >= l.size()) ? l.size() : limit + pos;
-			pos = Math.min(pos, l.size());
-			ObjectList l2 = new DelegateList(((DelegateList)l).getClassMeta());
-			l2.addAll(l.subList(pos, end));
-			l = l2;
+			end = (limit == 0 || (long)limit+pos >= size) ? size : limit + pos;
+			pos = Math.min(pos, size);
+		}
+
+		// Do the sort.
+		// When paging, only the rows up to the end of the page need to be put in order.
+		int[] page = matches;
+		if (! sort.isEmpty()) {
+			RowComparator c = new RowComparator(rows, matches, sort, il);
+			page = end < size ? selectFirst(size, end, c) : sort(size, c);
+			for (int i = 0; i < end; i++)
+				page[i] = matches[page[i]];
 		}
 
+		// Create the maps (only for the rows being returned) and apply the view.
+		final Object[] out = new Object[end - pos];
+		final int[] page2 = page;
+		final int pos2 = pos;
+		forEach(out.length, new RowTask() {
+			@Override /* RowTask */
+			public void run(int i, BeanSession session) {
+				Object o = replaceWithMutables(rows[page2[pos2 + i]], session);
+				if (! view.isEmpty() && (o instanceof DelegateMap || o instanceof DelegateBeanMap))
+					doView((Map)o, view);
+				out[i] = o;
+			}
+		});
+
+		ObjectList l = new DelegateList(listType);
+		l.addAll(Arrays.asList(out));
 		return l;
 	}
 
+	/*
+	 * Returns the positions of the rows that match the search, in their original order.
+	 * Columns indexed by an IndexedList are matched once per distinct value instead of once per row.
+	 * Stops after 'max' matches.
+	 */
+	private int[] search(final Object[] rows, Map<String,String> search, boolean ignoreCase, IndexedList il, int max) {
+		int n = rows.length;
+
+		BitSet candidates = null;
+		Map<String,String> unindexed = new LinkedHashMap<>();
+		for (Map.Entry<String,String> e : search.entrySet()) {
+			String key = e.getKey(), val = e.getValue();
+			if (key == null || val == null)
+				continue;
+			if (il != null && il.isIndexed(key)) {
+				IndexedList.Index index = il.getIndex(key, session);
+				ObjectMatcher m = new ObjectMatcher(val, ignoreCase);
+				BitSet b = new BitSet(n);
+				for (int i = 0; i < index.values.length; i++)
+					if (m.matches(index.values[i]))
+						for (int row : index.rows[i])
+							b.set(row);
+				if (candidates == null)
+					candidates = b;
+				else
+					candidates.and(b);
+			} else {
+				unindexed.put(key, val);
+			}
+		}
+
+		final MapMatcher matcher = unindexed.isEmpty() ? null : new MapMatcher(unindexed, ignoreCase);
+
+		if (isParallel(n)) {
+			final BitSet candidates2 = candidates;
+			final boolean[] matched = new boolean[n];
+			forEach(n, new RowTask() {
+				@Override /* RowTask */
+				public void run(int i, BeanSession session) {
+					if (candidates2 == null || candidates2.get(i))
+						matched[i] = matcher == null || matcher.matches(toMap(session, rows[i]));
+				}
+			});
+			int[] matches = new int[n];
+			int size = 0;
+			for (int i = 0; i < n && size < max; i++)
+				if (matched[i])
+					matches[size++] = i;
+			return Arrays.copyOf(matches, size);
+		}
+
+		int[] matches = new int[candidates == null ? n : candidates.cardinality()];
+		int size = 0;
+		for (int i = candidates == null ? 0 : candidates.nextSetBit(0); i >= 0 && i < n && size < max; i = candidates == null ? i+1 : candidates.nextSetBit(i+1))
+			if (matcher == null || matcher.matches(toMap(session, rows[i])))
+				matches[size++] = i;
+
+		return size == matches.length ? matches : Arrays.copyOf(matches, size);
+	}
+
+	/*
+	 * Returns the specified row as a map, or null if it's not a map or bean.
+	 */
+	static Map toMap(BeanSession session, Object o) {
+		if (o instanceof Map)
+			return (Map)o;
+		if (o != null && session.getClassMetaForObject(o).isBean())
+			return session.toBeanMap(o);
+		return null;
+	}
+
+	/*
+	 * Returns the value of the column that searches are matched against.
+	 * Bean properties are matched against their unswapped values.
+	 * Also used by IndexedList so that indexed and unindexed searches give the same results.
+	 */
+	static Object getSearchValue(Map m, String column) {
+		return m instanceof BeanMap ? ((BeanMap)m).getRaw(column) : m.get(column);
+	}
+
+	/*
+	 * Returns the value of the column that rows are sorted by.
+	 * Bean properties are sorted by their swapped values.
+	 */
+	static Comparable getSortValue(Map m, String column) {
+		return toComparable(m.get(column));
+	}
+
 	/*
 	 * If there are any non-Maps in the specified list, replaces them with BeanMaps.
 	 */
-	private Object replaceWithMutables(Object o) {
+	private static Object replaceWithMutables(Object o, BeanSession session) {
 		if (o == null)
 			return null;
 		ClassMeta cm = session.getClassMetaForObject(o);
 		if (cm.isCollection()) {
 			ObjectList l = new DelegateList(session.getClassMetaForObject(o));
 			for (Object o2 : (Collection)o)
-				l.add(replaceWithMutables(o2));
+				l.add(replaceWithMutables(o2, session));
 			return l;
 		}
 		if (cm.isMap() && o instanceof BeanMap) {
@@ -298,37 +449,341 @@ public final class PojoQuery {
 			return dm;
 		}
 		if (cm.isArray()) {
-			return replaceWithMutables(Arrays.asList((Object[])o));
+			return replaceWithMutables(Arrays.asList((Object[])o), session);
 		}
 		return o;
 	}
 
+	//====================================================================================================
+	// Sorting
+	//====================================================================================================
 	/*
-	 * Sorts the specified list by the sort list.
+	 * Compares row positions by all the sort columns at once.
+	 * The column values are extracted once up front (or taken from the ranks of an IndexedList).
+	 * Ties are broken by position so that the order is the same as a stable sort.
 	 */
-	private static void doSort(List list, Map<String,Boolean> sortList) {
-
-		// We reverse the list and sort last to first.
-		List<String> columns = new ArrayList<>(sortList.keySet());
-		Collections.reverse(columns);
+	private final class RowComparator {
+		final int size;
+		final Comparable[][] keys;
+		final int[][] ranks;
+		final boolean[] desc;
+		final int[] rows;
+
+		RowComparator(final Object[] rows, final int[] matches, Map<String,Boolean> sort, IndexedList il) {
+			int cols = sort.size();
+			this.size = matches.length;
+			this.rows = matches;
+			this.keys = new Comparable[cols][];
+			this.ranks = new int[cols][];
+			this.desc = new boolean[cols];
+
+			int c = 0;
+			boolean extract = false;
+			for (Map.Entry<String,Boolean> e : sort.entrySet()) {
+				desc[c] = e.getValue();
+				if (il != null && il.isIndexed(e.getKey())) {
+					ranks[c] = il.getIndex(e.getKey(), session).ranks;
+				} else {
+					keys[c] = new Comparable[size];
+					extract = true;
+				}
+				c++;
+			}
 
-		for (final String c : columns) {
-			final boolean isDesc = sortList.get(c);
+			if (extract) {
+				final String[] columns = sort.keySet().toArray(new String[cols]);
+				forEach(size, new RowTask() {
+					@Override /* RowTask */
+					public void run(int i, BeanSession session) {
+						Map m = toMap(session, rows[matches[i]]);
+						if (m != null)
+							for (int c = 0; c < columns.length; c++)
+								if (keys[c] != null)
+									keys[c][i] = getSortValue(m, columns[c]);
+					}
+				});
+			}
+		}
 
-			Comparator comp = new Comparator<Map>() {
-				@Override /* Comparator */
-				public int compare(Map m1, Map m2) {
-					Comparable v1 = toComparable(m1.get(c)), v2 = toComparable(m2.get(c));
-					if (v1 == null && v2 == null)
-						return 0;
+		int compare(int p1, int p2) {
+			for (int c = 0; c < keys.length; c++) {
+				int i;
+				if (ranks[c] != null) {
+					i = Integer.compare(ranks[c][rows[p1]], ranks[c][rows[p2]]);
+				} else {
+					Comparable v1 = keys[c][p1], v2 = keys[c][p2];
 					if (v1 == null)
-						return (isDesc ? -1 : 1);
-					if (v2 == null)
-						return (isDesc ? 1 : -1);
-					return (isDesc ? v2.compareTo(v1) : v1.compareTo(v2));
+						i = v2 == null ? 0 : 1;
+					else if (v2 == null)
+						i = -1;
+					else
+						i = Integer.signum(v1.compareTo(v2));
+				}
+				if (i != 0)
+					return desc[c] ? -i : i;
+			}
+			return Integer.compare(p1, p2);
+		}
+	}
+
+	/*
+	 * Returns the positions 0..size-1 fully sorted.
+	 */
+	private int[] sort(int size, RowComparator c) {
+		int[] a = new int[size];
+		for (int i = 0; i < size; i++)
+			a[i] = i;
+		if (isParallel(size))
+			pool().invoke(new SortTask(a.clone(), a, 0, size, grain(size), c));
+		else
+			mergeSort(a.clone(), a, 0, size, c);
+		return a;
+	}
+
+	/*
+	 * Returns the first k of the positions 0..size-1 in sorted order.
+	 */
+	private int[] selectFirst(int size, int k, RowComparator c) {
+		if (isParallel(size))
+			return pool().invoke(new SelectTask(0, size, k, grain(size), c));
+		return selectFirst(0, size, k, c);
+	}
+
+	/*
+	 * Returns the first k of the positions from..to-1 in sorted order using a bounded heap.
+	 * Takes O(n log k) time instead of sorting everything.
+	 */
+	private static int[] selectFirst(int from, int to, int k, RowComparator c) {
+		k = Math.min(k, to - from);
+		int[] heap = new int[k];
+		if (k == 0)
+			return heap;
+
+		// Max-heap holding the k smallest positions seen so far.
+		for (int p = from; p < to; p++) {
+			if (p - from < k) {
+				int i = p - from;
+				heap[i] = p;
+				while (i > 0 && c.compare(heap[(i-1)/2], heap[i]) < 0) {
+					swap(heap, i, (i-1)/2);
+					i = (i-1)/2;
 				}
-			};
-			Collections.sort(list, comp);
+			} else if (c.compare(p, heap[0]) < 0) {
+				heap[0] = p;
+				siftDown(heap, 0, k, c);
+			}
+		}
+
+		// Heapsort in place.
+		for (int n = k-1; n > 0; n--) {
+			swap(heap, 0, n);
+			siftDown(heap, 0, n, c);
+		}
+		return heap;
+	}
+
+	private static void siftDown(int[] heap, int i, int n, RowComparator c) {
+		while (true) {
+			int l = 2*i+1, r = l+1, largest = i;
+			if (l < n && c.compare(heap[l], heap[largest]) > 0)
+				largest = l;
+			if (r < n && c.compare(heap[r], heap[largest]) > 0)
+				largest = r;
+			if (largest == i)
+				return;
+			swap(heap, i, largest);
+			i = largest;
+		}
+	}
+
+	private static void swap(int[] a, int i, int j) {
+		int t = a[i];
+		a[i] = a[j];
+		a[j] = t;
+	}
+
+	/*
+	 * Merge sort of src[from,to) into dest.
+	 * Both arrays must have the same contents on entry.
+	 */
+	private static void mergeSort(int[] src, int[] dest, int from, int to, RowComparator c) {
+		int len = to - from;
+
+		if (len < 7) {
+			for (int i = from; i < to; i++)
+				for (int j = i; j > from && c.compare(dest[j-1], dest[j]) > 0; j--)
+					swap(dest, j, j-1);
+			return;
+		}
+
+		int mid = (from + to) >>> 1;
+		mergeSort(dest, src, from, mid, c);
+		mergeSort(dest, src, mid, to, c);
+		merge(src, dest, from, mid, to, c);
+	}
+
+	/*
+	 * Merges the sorted runs src[from,mid) and src[mid,to) into dest[from,to).
+	 */
+	private static void merge(int[] src, int[] dest, int from, int mid, int to, RowComparator c) {
+		if (c.compare(src[mid-1], src[mid]) <= 0) {
+			System.arraycopy(src, from, dest, from, to - from);
+			return;
+		}
+		for (int i = from, p = from, q = mid; i < to; i++) {
+			if (q >= to || p < mid && c.compare(src[p], src[q]) <= 0)
+				dest[i] = src[p++];
+			else
+				dest[i] = src[q++];
+		}
+	}
+
+	/*
+	 * Merges two sorted arrays of positions, keeping only the first k.
+	 */
+	private static int[] mergeFirst(int[] a, int[] b, int k, RowComparator c) {
+		int[] r = new int[Math.min(k, a.length + b.length)];
+		for (int i = 0, p = 0, q = 0; i < r.length; i++) {
+			if (q >= b.length || p < a.length && c.compare(a[p], b[q]) <= 0)
+				r[i] = a[p++];
+			else
+				r[i] = b[q++];
+		}
+		return r;
+	}
+
+	//====================================================================================================
+	// Parallel evaluation
+	//====================================================================================================
+	/*
+	 * Work done on a single row.
+	 * The session is only used by the calling thread since BeanSession isn't thread-safe.
+	 */
+	private interface RowTask {
+		void run(int i, BeanSession session);
+	}
+
+	private boolean isParallel(int n) {
+		return parallelThreshold > 0 && n >= parallelThreshold;
+	}
+
+	private ForkJoinPool pool() {
+		return pool == null ? DefaultPool.INSTANCE : pool;
+	}
+
+	/*
+	 * Splits n rows into enough tasks to keep all the threads in the pool busy.
+	 */
+	private int grain(int n) {
+		return Math.max(1024, n / (pool().getParallelism() * 8));
+	}
+
+	/*
+	 * Runs the task on rows 0..n-1, in parallel if n is over the threshold.
+	 * When run in parallel, each subtask gets its own session created from the same bean context.
+	 */
+	private void forEach(int n, RowTask task) {
+		if (isParallel(n))
+			pool().invoke(new ForEachTask(task, 0, n, grain(n)));
+		else
+			for (int i = 0; i < n; i++)
+				task.run(i, session);
+	}
+
+	/*
+	 * Creates a session for a parallel subtask with the same locale, timezone, and media type as the query session.
+	 */
+	private BeanSession createTaskSession() {
+		BeanSessionArgs args = new BeanSessionArgs(null, session.getLocale(), session.getTimeZone(), session.getMediaType(), session.getSchema(), session.isDebug());
+		return type.getBeanContext().createSession(args);
+	}
+
+	// Created on first use.
+	private static final class DefaultPool {
+		static final ForkJoinPool INSTANCE = new ForkJoinPool();
+	}
+
+	@SuppressWarnings("serial")
+	private final class ForEachTask extends RecursiveAction {
+		final RowTask task;
+		final int from, to, grain;
+
+		ForEachTask(RowTask task, int from, int to, int grain) {
+			this.task = task;
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+		}
+
+		@Override /* RecursiveAction */
+		protected void compute() {
+			if (to - from <= grain) {
+				BeanSession session = createTaskSession();
+				for (int i = from; i < to; i++)
+					task.run(i, session);
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new ForEachTask(task, from, mid, grain), new ForEachTask(task, mid, to, grain));
+			}
+		}
+	}
+
+	/*
+	 * Parallel version of mergeSort().
+	 */
+	@SuppressWarnings("serial")
+	private static final class SortTask extends RecursiveAction {
+		final int[] src, dest;
+		final int from, to, grain;
+		final RowComparator c;
+
+		SortTask(int[] src, int[] dest, int from, int to, int grain, RowComparator c) {
+			this.src = src;
+			this.dest = dest;
+			this.from = from;
+			this.to = to;
+			this.grain = grain;
+			this.c = c;
+		}
+
+		@Override /* RecursiveAction */
+		protected void compute() {
+			if (to - from <= grain) {
+				mergeSort(src, dest, from, to, c);
+			} else {
+				int mid = (from + to) >>> 1;
+				invokeAll(new SortTask(dest, src, from, mid, grain, c), new SortTask(dest, src, mid, to, grain, c));
+				merge(src, dest, from, mid, to, c);
+			}
+		}
+	}
+
+	/*
+	 * Parallel version of selectFirst().
+	 * Each half selects its own first k, and the results are merged.
+	 */
+	@SuppressWarnings("serial")
+	private static final class SelectTask extends RecursiveTask<int[]> {
+		final int from, to, k, grain;
+		final RowComparator c;
+
+		SelectTask(int from, int to, int k, int grain, RowComparator c) {
+			this.from = from;
+			this.to = to;
+			this.k = k;
+			this.grain = grain;
+			this.c = c;
+		}
+
+		@Override /* RecursiveTask */
+		protected int[] compute() {
+			if (to - from <= grain)
+				return selectFirst(from, to, k, c);
+			int mid = (from + to) >>> 1;
+			SelectTask left = new SelectTask(from, mid, k, grain, c);
+			left.fork();
+			int[] r = new SelectTask(mid, to, k, grain, c).compute();
+			return mergeFirst(left.join(), r, k, c);
 		}
 	}
 
@@ -344,17 +799,6 @@ public final class PojoQuery {
 		return o.toString();
 	}
 
-	/*
-	 * Filters all but the specified view columns on all entries in the specified list.
-	 */
-	private static void doView(List list, List<String> view) {
-		for (ListIterator i = list.listIterator(); i.hasNext();) {
-			Object o = i.next();
-			Map m = (Map)o;
-			doView(m, view);
-		}
-	}
-
 	/*
 	 * Creates a new Map with only the entries specified in the view list.
 	 */
@@ -366,29 +810,6 @@ public final class PojoQuery {
 		return m;
 	}
 
-
-	//====================================================================================================
-	// CollectionFilter
-	//====================================================================================================
-	private class CollectionFilter {
-		IMatcher entryMatcher;
-
-		public CollectionFilter(Map query, boolean ignoreCase) {
-			if (query != null && ! query.isEmpty())
-				entryMatcher = new MapMatcher(query, ignoreCase);
-		}
-
-		public void doQuery(List in) {
-			if (in == null || entryMatcher == null)
-				return;
-			for (Iterator i = in.iterator(); i.hasNext();) {
-				Object o = i.next();
-				if (! entryMatcher.matches(o))
-					i.remove();
-			}
-		}
-	}
-
 	//====================================================================================================
 	// IMatcher
 	//====================================================================================================
@@ -417,14 +838,7 @@ public final class PojoQuery {
 			if (m == null)
 				return false;
 			for (Map.Entry<String,IMatcher> e : entryMatchers.entrySet()) {
-				String key = e.getKey();
-				Object val = null;
-				if (m instanceof BeanMap) {
-					val = ((BeanMap)m).getRaw(key);
-				} else {
-					val = m.get(key);
-				}
-				if (! e.getValue().matches(val))
+				if (! e.getValue().matches(getSearchValue(m, e.getKey())))
 					return false;
 			}
 			return true;
@@ -442,9 +856,9 @@ public final class PojoQuery {
 
 		String searchPattern;
 		boolean ignoreCase;
-		DateMatcher dateMatcher;
-		NumberMatcher numberMatcher;
-		StringMatcher stringMatcher;
+		volatile DateMatcher dateMatcher;
+		volatile NumberMatcher numberMatcher;
+		volatile StringMatcher stringMatcher;
 
 		ObjectMatcher(String searchPattern, boolean ignoreCase) {
 			this.searchPattern = searchPattern;
@@ -478,22 +892,42 @@ public final class PojoQuery {
 			return getStringMatcher().matches(o);
 		}
 
+		// Matchers are created on first use, possibly from several threads when evaluating in parallel.
+
 		private IMatcher getNumberMatcher() {
-			if (numberMatcher == null)
-				numberMatcher = new NumberMatcher(searchPattern);
-			return numberMatcher;
+			NumberMatcher m = numberMatcher;
+			if (m == null) {
+				synchronized(this) {
+					if (numberMatcher == null)
+						numberMatcher = new NumberMatcher(searchPattern);
+					m = numberMatcher;
+				}
+			}
+			return m;
 		}
 
 		private IMatcher getStringMatcher() {
-			if (stringMatcher == null)
-				stringMatcher = new StringMatcher(searchPattern, ignoreCase);
-			return stringMatcher;
+			StringMatcher m = stringMatcher;
+			if (m == null) {
+				synchronized(this) {
+					if (stringMatcher == null)
+						stringMatcher = new StringMatcher(searchPattern, ignoreCase);
+					m = stringMatcher;
+				}
+			}
+			return m;
 		}
 
 		private IMatcher getDateMatcher() {
-			if (dateMatcher == null)
-				dateMatcher = new DateMatcher(searchPattern);
-			return dateMatcher;
+			DateMatcher m = dateMatcher;
+			if (m == null) {
+				synchronized(this) {
+					if (dateMatcher == null)
+						dateMatcher = new DateMatcher(searchPattern);
+					m = dateMatcher;
+				}
+			}
+			return m;
 		}
 	}
 
@@ -687,17 +1121,15 @@ public final class PojoQuery {
 		public boolean matches(Object in) {
 			if (in == null) return false;
 
-			Calendar c = null;
+			long t;
 			if (in instanceof Calendar)
-				c = (Calendar)in;
-			else if (in instanceof Date) {
-				c = Calendar.getInstance();
-				c.setTime((Date)in);
-			} else {
+				t = ((Calendar)in).getTimeInMillis();
+			else if (in instanceof Date)
+				t = ((Date)in).getTime();
+			else
 				return false;
-			}
 			for (int i = 0; i < patterns.length; i++) {
-				if (! patterns[i].matches(c))
+				if (! patterns[i].matches(t))
 					return false;
 			}
 			return true;
@@ -782,10 +1214,10 @@ public final class PojoQuery {
 			ranges = l.toArray(new TimestampRange[l.size()]);
 		}
 
-		public boolean matches(Calendar c) {
+		public boolean matches(long t) {
 			if (ranges.length == 0) return true;
 			for (int i = 0; i < ranges.length; i++)
-				if (ranges[i].matches(c))
+				if (ranges[i].matches(t))
 					return true;
 			return false;
 		}
@@ -825,9 +1257,8 @@ public final class PojoQuery {
 			}
 		}
 
-		public boolean matches(Calendar c) {
-			boolean b = (c.after(start) && c.before(end));
-			return b;
+		public boolean matches(long t) {
+			return t > start.getTimeInMillis() && t < end.getTimeInMillis();
 		}
 	}
 
@@ -857,7 +1288,7 @@ public final class PojoQuery {
 	 * @param pp Where parsing last left off.
 	 * @return An object representing a timestamp.
 	 */
-	CalendarP parseDate(String seg, ParsePosition pp) {
+	synchronized CalendarP parseDate(String seg, ParsePosition pp) {
 
 		CalendarP cal = null;
 
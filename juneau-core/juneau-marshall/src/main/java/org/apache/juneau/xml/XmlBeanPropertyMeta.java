@@ -30,7 +30,7 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 
 	private Namespace namespace = null;
 	private XmlFormat xmlFormat = XmlFormat.DEFAULT;
-	private String childName;
+	private String childName, encodedName;
 
 	/**
 	 * Constructor.
@@ -49,6 +49,8 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 
 		if (namespace == null)
 			namespace = bpm.getBeanMeta().getClassMeta().getExtendedMeta(XmlClassMeta.class).getNamespace();
+
+		encodedName = XmlUtils.encodeElementName(bpm.getName());
 	}
 
 	private XmlBeanPropertyMeta() {
@@ -96,6 +98,15 @@ public class XmlBeanPropertyMeta extends BeanPropertyMetaExtended {
 		return childName;
 	}
 
+	/**
+	 * Returns the name of this bean property encoded as an XML element name.
+	 *
+	 * @return The encoded name, or <jk>null</jk> if this is the default instance.
+	 */
+	public String getEncodedName() {
+		return encodedName;
+	}
+
 	private void findXmlInfo(Xml xml) {
 		if (xml == null)
 			return;
@@ -15,6 +15,7 @@ package org.apache.juneau.xml;
 import static org.apache.juneau.internal.ClassUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
+import java.lang.reflect.*;
 import java.util.*;
 
 import org.apache.juneau.*;
@@ -31,6 +32,7 @@ public class XmlClassMeta extends ClassMetaExtended {
 	private final Xml xml;
 	private final XmlFormat format;
 	private final String childName;
+	private volatile ReachableNamespaces reachableNamespaces;
 
 	/**
 	 * Constructor.
@@ -100,6 +102,129 @@ public class XmlClassMeta extends ClassMetaExtended {
 		return namespace;
 	}
 
+	/**
+	 * Returns the XML namespaces that can show up when serializing an instance of this class.
+	 *
+	 * <p>
+	 * Includes the namespace of this class along with the namespaces of all bean properties, map values, and
+	 * collection/array elements reachable from it, in the order they're encountered.
+	 * <br>Computed from the declared types and cached on this object.
+	 * <br>Since values can be subclasses with their own namespaces, only final declared types are considered known.
+	 * Maps, collections, and arrays are judged by their value and element types.
+	 * <br>The values that don't have known types are listed so that only those need to be inspected.
+	 *
+	 * @return
+	 * 	The reachable namespaces, or <jk>null</jk> if this is a delegate or bean map class whose namespaces must be
+	 * 	found by inspecting the POJO itself.
+	 */
+	ReachableNamespaces getReachableNamespaces() {
+		ClassMeta<?> cm = getClassMeta();
+		if (cm.isDelegate() || cm.isBeanMap())
+			return null;
+		return getReachableNamespaces(Collections.newSetFromMap(new IdentityHashMap<ClassMeta<?>,Boolean>()));
+	}
+
+	/*
+	 * Returns null if this class is already being looked at higher up the stack.
+	 */
+	private ReachableNamespaces getReachableNamespaces(Set<ClassMeta<?>> inProgress) {
+		ReachableNamespaces r = reachableNamespaces;
+		if (r == null) {
+			ClassMeta<?> cm = getClassMeta();
+			if (! inProgress.add(cm))
+				return null;
+			r = new ReachableNamespaces(cm, inProgress);
+			inProgress.remove(cm);
+			reachableNamespaces = r;
+		}
+		return r;
+	}
+
+	/**
+	 * The XML namespaces that can show up when serializing an instance of a class.
+	 */
+	static final class ReachableNamespaces {
+
+		/** The namespaces known from the declared types. */
+		final Namespace[] namespaces;
+
+		/** The bean properties whose values must be inspected for more namespaces. */
+		final BeanPropertyMeta[] properties;
+
+		/** <jk>true</jk> if the map values or collection/array elements must be inspected for more namespaces. */
+		final boolean entries;
+
+		ReachableNamespaces(ClassMeta<?> cm, Set<ClassMeta<?>> inProgress) {
+			Set<Namespace> s = new LinkedHashSet<>();
+			List<BeanPropertyMeta> l = new ArrayList<>();
+			addNamespace(cm.getExtendedMeta(XmlClassMeta.class).getNamespace(), s);
+			boolean entries = false;
+			if (cm.isMap() || cm.isCollection() || cm.isArray()) {
+				entries = ! addDeclaredNamespaces(getEntryType(cm), inProgress, s);
+			} else if (cm.isBean()) {
+				for (BeanPropertyMeta bpm : cm.getBeanMeta().getPropertyMetas()) {
+					if (bpm.canRead()) {
+						addNamespace(bpm.getExtendedMeta(XmlBeanPropertyMeta.class).getNamespace(), s);
+						if (! addDeclaredNamespaces(bpm.getClassMeta(), inProgress, s))
+							l.add(bpm);
+					}
+				}
+			}
+			this.namespaces = s.toArray(new Namespace[s.size()]);
+			this.properties = l.toArray(new BeanPropertyMeta[l.size()]);
+			this.entries = entries;
+		}
+
+		/*
+		 * Returns true if no values need to be inspected.
+		 */
+		boolean isStatic() {
+			return properties.length == 0 && ! entries;
+		}
+	}
+
+	/*
+	 * Adds the namespaces of values of the specified declared type to the set.
+	 * Returns false (leaving the set unchanged) if the values must be inspected because their actual types can't be
+	 * known from the declared type.
+	 */
+	private static boolean addDeclaredNamespaces(ClassMeta<?> cm, Set<ClassMeta<?>> inProgress, Set<Namespace> namespaces) {
+		if (cm.isObject() || cm.isDelegate() || cm.isBeanMap())
+			return false;
+		if (cm.isMap() || cm.isCollection() || cm.isArray()) {
+			Set<Namespace> s = new LinkedHashSet<>();
+			addNamespace(cm.getExtendedMeta(XmlClassMeta.class).getNamespace(), s);
+			if (! addDeclaredNamespaces(getEntryType(cm), inProgress, s))
+				return false;
+			namespaces.addAll(s);
+			return true;
+		}
+		if (! isFinal(cm.getInnerClass()))
+			return false;
+		ReachableNamespaces r = cm.getExtendedMeta(XmlClassMeta.class).getReachableNamespaces(inProgress);
+		if (r == null || ! r.isStatic())
+			return false;
+		Collections.addAll(namespaces, r.namespaces);
+		return true;
+	}
+
+	private static ClassMeta<?> getEntryType(ClassMeta<?> cm) {
+		return cm.isMap() ? cm.getValueType() : cm.getElementType();
+	}
+
+	/*
+	 * Returns true if values of the specified declared type are always of that exact class.
+	 * Enum constants with bodies are subclasses, but they can't have their own annotations.
+	 */
+	private static boolean isFinal(Class<?> c) {
+		return c.isPrimitive() || c.isEnum() || Modifier.isFinal(c.getModifiers());
+	}
+
+	private static void addNamespace(Namespace ns, Set<Namespace> namespaces) {
+		if (ns != null && ns.uri != null)
+			namespaces.add(ns);
+	}
+
 	private static Namespace findNamespace(Class<?> c) {
 		if (c == null)
 			return null;
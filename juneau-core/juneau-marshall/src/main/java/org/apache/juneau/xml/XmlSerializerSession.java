@@ -57,6 +57,10 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	protected XmlSerializerSession(XmlSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
 		this.ctx = ctx;
+		initNamespaces();
+	}
+
+	private void initNamespaces() {
 		namespaces = getInstanceArrayProperty(XML_namespaces, Namespace.class, ctx.getNamespaces());
 		defaultNamespace = findDefaultNamespace(getInstanceProperty(XML_defaultNamespace, Namespace.class, ctx.getDefaultNamespace()));
 	}
@@ -79,6 +83,19 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		return n;
 	}
 
+	@Override /* Session */
+	protected boolean resetForReuse() {
+		// Namespaces found during the previous serialize get added to the session.
+		initNamespaces();
+		return super.resetForReuse();
+	}
+
+	@Override /* SerializerSession */
+	protected void reset(SerializerSessionArgs args) {
+		super.reset(args);
+		initNamespaces();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -144,6 +161,10 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	/**
 	 * Recursively searches for the XML namespaces on the specified POJO and adds them to the serializer context object.
 	 *
+	 * <p>
+	 * The POJO is only inspected where the namespaces can't be determined from the class metadata alone (e.g.
+	 * <code>Object</code> properties).
+	 *
 	 * @param o The POJO to check.
 	 * @throws SerializeException
 	 */
@@ -157,6 +178,25 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		}
 
 		if (aType != null) {
+			XmlClassMeta.ReachableNamespaces r = cXml(aType).getReachableNamespaces();
+			if (r != null) {
+				for (Namespace ns : r.namespaces)
+					addNamespace(ns);
+				if (r.entries)
+					findNsfMappingsInEntries(aType, o);
+				if (r.properties.length > 0) {
+					BeanMap<?> bm = toBeanMap(o);
+					for (BeanPropertyMeta p : r.properties) {
+						try {
+							findNsfMappings(p.get(bm, p.getName()));
+						} catch (Throwable x) {
+							// Ignore
+						}
+					}
+				}
+				pop();
+				return;
+			}
 			Namespace ns = cXml(aType).getNamespace();
 			if (ns != null) {
 				if (ns.uri != null)
@@ -201,15 +241,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 						findNsfMappings(o2);
 				}
 
-			} else if (aType.isMap()) {
-				for (Object o2 : ((Map<?,?>)o).values())
-					findNsfMappings(o2);
-			} else if (aType.isCollection()) {
-				for (Object o2 : ((Collection<?>)o))
-					findNsfMappings(o2);
-			} else if (aType.isArray() && ! aType.getElementType().isPrimitive()) {
-				for (Object o2 : ((Object[])o))
-					findNsfMappings(o2);
+			} else {
+				findNsfMappingsInEntries(aType, o);
 			}
 			if (bm != null) {
 				for (BeanPropertyValue p : bm.getValues(isTrimNullProperties())) {
@@ -230,6 +263,22 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		pop();
 	}
 
+	/*
+	 * Searches for the XML namespaces on the map values or collection/array elements of the specified POJO.
+	 */
+	private void findNsfMappingsInEntries(ClassMeta<?> aType, Object o) throws SerializeException {
+		if (aType.isMap()) {
+			for (Object o2 : ((Map<?,?>)o).values())
+				findNsfMappings(o2);
+		} else if (aType.isCollection()) {
+			for (Object o2 : ((Collection<?>)o))
+				findNsfMappings(o2);
+		} else if (aType.isArray() && ! aType.getElementType().isPrimitive()) {
+			for (Object o2 : ((Object[])o))
+				findNsfMappings(o2);
+		}
+	}
+
 	/**
 	 * Workhorse method.
 	 *
@@ -307,8 +356,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				isExpectedType = aType.isNumber();
 			else if (eType.isMap())
 				isExpectedType = aType.isMap();
-			else if (eType.isCollectionOrArray())
-				isExpectedType = aType.isCollectionOrArray();
+			else if (eType.isCollectionOrArray() || eType.isStreamable())
+				isExpectedType = aType.isCollectionOrArray() || aType.isStreamable();
 			else
 				isExpectedType = false;
 		}
@@ -340,7 +389,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		} else if (sType.isMapOrBean()) {
 			isCollapsed = cXml(sType).getFormat() == COLLAPSED;
 			type = OBJECT;
-		} else if (sType.isCollectionOrArray()) {
+		} else if (sType.isCollectionOrArray() || sType.isStreamable()) {
 			isCollapsed = (format == COLLAPSED && ! addNamespaceUris);
 			type = ARRAY;
 		} else {
@@ -370,7 +419,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		}
 
 		// Do we need a carriage return after the start tag?
-		boolean cr = o != null && (sType.isMapOrBean() || sType.isCollectionOrArray()) && ! isMixed;
+		boolean cr = o != null && (sType.isMapOrBean() || sType.isCollectionOrArray() || sType.isStreamable()) && ! isMixed;
 
 		String en = elementName;
 		if (en == null && ! isRaw) {
@@ -378,6 +427,11 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			type = null;
 		}
 		boolean encodeEn = elementName != null;
+		if (encodeEn && pMeta != null && ! elementName.isEmpty() && elementName.equals(pMeta.getName())) {
+			// Bean property names are encoded once and cached.
+			en = bpXml(pMeta).getEncodedName();
+			encodeEn = false;
+		}
 		String ns = (elementNamespace == null ? null : elementNamespace.name);
 		String dns = null, elementNs = null;
 		if (isEnableNamespaces()) {
@@ -444,7 +498,7 @@ public class XmlSerializerSession extends WriterSerializerSession {
 				serializeCollection(out, o, sType, eType, pMeta, isMixed);
 				if (isCollapsed)
 					this.indent++;
-			} else if (sType.isArray()) {
+			} else if (sType.isArray() || sType.isStreamable()) {
 				if (isCollapsed)
 					this.indent--;
 				serializeCollection(out, o, sType, eType, pMeta, isMixed);
@@ -673,9 +727,13 @@ public class XmlSerializerSession extends WriterSerializerSession {
 
 		ClassMeta<?> eeType = eType.getElementType();
 
-		Collection c = (sType.isCollection() ? (Collection)in : toList(sType.getInnerClass(), in));
-
-		c = sort(c);
+		Iterator i;
+		if (sType.isCollection())
+			i = sort((Collection)in).iterator();
+		else if (sType.isArray())
+			i = sort(toList(sType.getInnerClass(), in)).iterator();
+		else
+			i = sort(toIterator(in));
 
 		String type2 = null;
 
@@ -688,9 +746,14 @@ public class XmlSerializerSession extends WriterSerializerSession {
 			eNs = bpXml.getNamespace();
 		}
 
-		for (Iterator i = c.iterator(); i.hasNext();) {
-			Object value = i.next();
-			serializeAnything(out, value, eeType, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
+		try {
+			while (i.hasNext()) {
+				Object value = i.next();
+				serializeAnything(out, value, eeType, eName, eNs, false, XmlFormat.DEFAULT, isMixed, false, null);
+			}
+		} finally {
+			if (sType.isStreamable())
+				closeStreamable(in);
 		}
 		return out;
 	}
@@ -210,6 +210,12 @@ public class YamlParserBuilder extends ParserBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public YamlParserBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public YamlParserBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
@@ -375,6 +375,12 @@ public class YamlSerializerBuilder extends SerializerBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public YamlSerializerBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public YamlSerializerBuilder ignoreUnknownBeanProperties(boolean value) {
 		super.ignoreUnknownBeanProperties(value);
@@ -23,7 +23,8 @@ import org.apache.juneau.serializer.*;
 @Deprecated
 public class YamlSerializerSession extends WriterSerializerSession {
 
-	private final boolean
+	private final YamlSerializer ctx;
+	private boolean
 		addBeanTypeProperties;
 
 	/**
@@ -40,6 +41,13 @@ public class YamlSerializerSession extends WriterSerializerSession {
 	 */
 	protected YamlSerializerSession(YamlSerializer ctx, SerializerSessionArgs args) {
 		super(ctx, args);
+		this.ctx = ctx;
+		addBeanTypeProperties = getProperty(YAML_addBeanTypeProperties, boolean.class, ctx.addBeanTypeProperties);
+	}
+
+	@Override /* SerializerSession */
+	protected void reset(SerializerSessionArgs args) {
+		super.reset(args);
 		addBeanTypeProperties = getProperty(YAML_addBeanTypeProperties, boolean.class, ctx.addBeanTypeProperties);
 	}
 
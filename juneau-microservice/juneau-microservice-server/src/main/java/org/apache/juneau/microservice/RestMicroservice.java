@@ -333,6 +333,9 @@ public class RestMicroservice extends Microservice {
 	/**
 	 * Adds an arbitrary servlet to this microservice.
 	 *
+	 * <p>
+	 * The servlet is registered with asynchronous support enabled.
+	 *
 	 * @param servlet The servlet instance.
 	 * @param pathSpec The context path of the servlet.
 	 * @return This object (for method chaining).
@@ -342,6 +345,7 @@ public class RestMicroservice extends Microservice {
 		for (Handler h : getServer().getHandlers()) {
 			if (h instanceof ServletContextHandler) {
 				ServletHolder sh = new ServletHolder(servlet);
+				sh.setAsyncSupported(true);
 				((ServletContextHandler)h).addServlet(sh, pathSpec);
 				return this;
 			}
@@ -0,0 +1,245 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import static java.nio.file.StandardOpenOption.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.text.*;
+import java.util.*;
+import java.util.regex.*;
+import java.util.zip.*;
+
+/**
+ * Sparse index of the dates of the entries in a log file.
+ *
+ * <p>
+ * Records the byte offset and date of a log entry roughly every {@link #INTERVAL} bytes so that date ranges can be
+ * located by seeking into the file instead of parsing it from the beginning.
+ * <br>Building the index only parses one entry per interval.
+ *
+ * <p>
+ * The index is saved in a sidecar file next to the log file (e.g. <js>"myservice.log.idx"</js>) and is extended
+ * incrementally as the log file grows.
+ * <br>If the log file is truncated or replaced (e.g. by log rotation), the index is rebuilt.
+ * <br>If the sidecar file cannot be written, the index is only kept in memory.
+ *
+ * <p>
+ * Assumes that entries are written to the log file in chronological order.
+ */
+public final class LogIndex {
+
+	/** The approximate number of bytes between indexed entries. */
+	public static final int INTERVAL = 64*1024;
+
+	private static final int MAGIC = 0x4a4c4958, HEAD_SIZE = 256;
+
+	private final LogEntryFormatter formatter;
+	private final File file, indexFile;
+	private final String pattern;
+	private long[] offsets = new long[16], dates = new long[16];
+	private int size;
+	private long length, headLength, headHash, nextOffset;
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Loads the sidecar file if it exists.
+	 * <br>Call {@link #update()} to bring the index up-to-date with the log file.
+	 *
+	 * @param formatter The log entry formatter.
+	 * @param file The log file.
+	 */
+	public LogIndex(LogEntryFormatter formatter, File file) {
+		this.formatter = formatter;
+		this.file = file;
+		this.indexFile = getIndexFile(file);
+		this.pattern = formatter.getLogEntryPattern().pattern();
+		load();
+	}
+
+	/**
+	 * Returns the sidecar file used to store the index of the specified log file.
+	 *
+	 * @param file The log file.
+	 * @return The sidecar file.
+	 */
+	public static File getIndexFile(File file) {
+		return new File(file.getParentFile(), file.getName() + ".idx");
+	}
+
+	/**
+	 * Indexes any entries added to the log file since the last update.
+	 *
+	 * @return This object (for method chaining).
+	 * @throws IOException
+	 */
+	public synchronized LogIndex update() throws IOException {
+		long size0 = size, nextOffset0 = nextOffset;
+		try (FileChannel fc = FileChannel.open(file.toPath(), READ)) {
+			long l = fc.size();
+			if (l < length || l < headLength || hash(fc, headLength) != headHash)
+				clear();
+			if (headLength < HEAD_SIZE && l > headLength) {
+				headLength = Math.min(HEAD_SIZE, l);
+				headHash = hash(fc, headLength);
+			}
+			length = l;
+
+			DateFormat df = (DateFormat)formatter.getDateFormat().clone();
+			LogLineReader lr = new LogLineReader(fc, Charset.defaultCharset());
+			while (nextOffset < l) {
+				lr.seekLine(nextOffset);
+				long date = -1;
+				String line;
+				while (date == -1 && (line = lr.readLine(false)) != null)
+					date = parseDate(df, line);
+				if (date == -1)
+					break;
+				if (date == -2) {
+					// The log format has no dates, so there's nothing to index.
+					nextOffset = Long.MAX_VALUE;
+					break;
+				}
+				add(lr.getLineOffset(), date);
+				nextOffset = lr.getLineOffset() + INTERVAL;
+			}
+		}
+		if (size != size0 || nextOffset != nextOffset0)
+			save();
+		return this;
+	}
+
+	/**
+	 * Returns the offset to start reading from to find entries logged on or after the specified date.
+	 *
+	 * @param start The start date, or <jk>null</jk> to start from the beginning of the file.
+	 * @return The byte offset of the start of a log entry, or <code>0</code>.
+	 */
+	public synchronized long getStartOffset(Date start) {
+		if (start == null)
+			return 0;
+		int i = search(start.getTime());
+		while (i >= 0 && dates[i] >= start.getTime())
+			i--;
+		return i < 0 ? 0 : offsets[i];
+	}
+
+	/**
+	 * Returns the offset to stop reading at to find entries logged on or before the specified date.
+	 *
+	 * @param end The end date, or <jk>null</jk> to read to the end of the file.
+	 * @return The byte offset of the start of a log entry, or {@link Long#MAX_VALUE}.
+	 */
+	public synchronized long getEndOffset(Date end) {
+		if (end == null)
+			return Long.MAX_VALUE;
+		int i = Math.max(0, search(end.getTime()));
+		while (i < size && dates[i] <= end.getTime())
+			i++;
+		return i == size ? Long.MAX_VALUE : offsets[i];
+	}
+
+	/**
+	 * Returns the number of indexed entries.
+	 *
+	 * @return The number of indexed entries.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	// Returns the index of an entry with the specified date or an adjacent entry.
+	private int search(long date) {
+		int i = Arrays.binarySearch(dates, 0, size, date);
+		return Math.min(i < 0 ? -i-1 : i, size-1);
+	}
+
+	// Returns the date of the entry on the specified line, -1 if it's not a log entry, or -2 if entries have no date.
+	private long parseDate(DateFormat df, String line) {
+		Matcher m = formatter.getLogEntryPattern().matcher(line);
+		if (! m.matches())
+			return -1;
+		String s = formatter.getField("date", m);
+		if (s == null)
+			return -2;
+		try {
+			return df.parse(s).getTime();
+		} catch (ParseException e) {
+			return -1;
+		}
+	}
+
+	private void add(long offset, long date) {
+		if (size == offsets.length) {
+			offsets = Arrays.copyOf(offsets, size*2);
+			dates = Arrays.copyOf(dates, size*2);
+		}
+		offsets[size] = offset;
+		dates[size] = date;
+		size++;
+	}
+
+	private void clear() {
+		size = 0;
+		length = headLength = headHash = nextOffset = 0;
+	}
+
+	private static long hash(FileChannel fc, long len) throws IOException {
+		ByteBuffer bb = ByteBuffer.allocate((int)len);
+		while (bb.hasRemaining() && fc.read(bb, bb.position()) > 0) {}
+		CRC32 crc = new CRC32();
+		crc.update(bb.array(), 0, bb.position());
+		return crc.getValue();
+	}
+
+	private void load() {
+		if (! indexFile.exists())
+			return;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+			if (in.readInt() != MAGIC || ! pattern.equals(in.readUTF()))
+				return;
+			length = in.readLong();
+			headLength = in.readLong();
+			headHash = in.readLong();
+			nextOffset = in.readLong();
+			int n = in.readInt();
+			for (int i = 0; i < n; i++)
+				add(in.readLong(), in.readLong());
+		} catch (IOException e) {
+			clear();
+		}
+	}
+
+	private void save() {
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(indexFile)))) {
+			out.writeInt(MAGIC);
+			out.writeUTF(pattern);
+			out.writeLong(length);
+			out.writeLong(headLength);
+			out.writeLong(headHash);
+			out.writeLong(nextOffset);
+			out.writeInt(size);
+			for (int i = 0; i < size; i++) {
+				out.writeLong(offsets[i]);
+				out.writeLong(dates[i]);
+			}
+		} catch (IOException e) {
+			// Not fatal.  The index is still usable from memory.
+		}
+	}
+}
@@ -0,0 +1,113 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.microservice.resources;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * Reads lines from a log file while keeping track of the byte offset of each line.
+ *
+ * <p>
+ * Lines are terminated by <js>'\n'</js> with an optional preceding <js>'\r'</js>, so the charset must be
+ * ASCII-compatible (e.g. UTF-8 or ISO-8859-1).
+ * <br>Reads are positional, so the underlying channel can be shared.
+ */
+final class LogLineReader {
+	private final FileChannel fc;
+	private final Charset cs;
+	private final byte[] buf = new byte[8192];
+	private final ByteBuffer bb = ByteBuffer.wrap(buf);
+	private byte[] line = new byte[256];
+	private int pos, lim, lineLen;
+	private long bufStart, lineOffset;
+
+	LogLineReader(FileChannel fc, Charset cs) {
+		this.fc = fc;
+		this.cs = cs;
+	}
+
+	/**
+	 * Positions this reader at the first line that starts at or after the specified offset.
+	 *
+	 * @param offset The byte offset.
+	 * @throws IOException
+	 */
+	void seekLine(long offset) throws IOException {
+		bufStart = Math.max(0, offset-1);
+		pos = lim = lineLen = 0;
+		if (offset > 0)
+			while (readBytes() && buf[pos-1] != '\n') {}
+	}
+
+	/**
+	 * Returns the next line.
+	 *
+	 * @param partial If <jk>true</jk>, a last line that isn't terminated is returned.
+	 * @return The next line without the line terminator, or <jk>null</jk> if there are no more lines.
+	 * @throws IOException
+	 */
+	String readLine(boolean partial) throws IOException {
+		lineOffset = bufStart + pos;
+		lineLen = 0;
+		while (readBytes()) {
+			if (buf[pos-1] == '\n') {
+				int len = lineLen-1;
+				if (len > 0 && line[len-1] == '\r')
+					len--;
+				return new String(line, 0, len, cs);
+			}
+		}
+		if (lineLen == 0 || ! partial)
+			return null;
+		return new String(line, 0, lineLen, cs);
+	}
+
+	/**
+	 * Returns the byte offset of the line last returned by {@link #readLine(boolean)}.
+	 *
+	 * @return The byte offset of the line last returned by {@link #readLine(boolean)}.
+	 */
+	long getLineOffset() {
+		return lineOffset;
+	}
+
+	/*
+	 * Copies bytes into the line buffer up to and including the next newline.
+	 * Returns false if the end of the file was reached.
+	 */
+	private boolean readBytes() throws IOException {
+		if (pos == lim) {
+			bufStart += lim;
+			pos = lim = 0;
+			bb.clear();
+			int n = fc.read(bb, bufStart);
+			if (n <= 0)
+				return false;
+			lim = n;
+		}
+		int start = pos;
+		while (pos < lim && buf[pos++] != '\n') {}
+		int n = pos - start;
+		if (lineLen + n > line.length) {
+			byte[] b = new byte[Math.max(line.length*2, lineLen + n)];
+			System.arraycopy(line, 0, b, 0, lineLen);
+			line = b;
+		}
+		System.arraycopy(buf, start, line, lineLen, n);
+		lineLen += n;
+		return true;
+	}
+}
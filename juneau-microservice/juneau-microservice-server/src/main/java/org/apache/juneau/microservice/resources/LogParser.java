@@ -12,7 +12,10 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.microservice.resources;
 
+import static java.nio.file.StandardOpenOption.*;
+
 import java.io.*;
+import java.nio.channels.*;
 import java.nio.charset.*;
 import java.text.*;
 import java.util.*;
@@ -24,9 +27,18 @@ import java.util.regex.*;
  * <p>
  * Provides the capability of returning splices of log files based on dates and filtering based on thread and logger
  * names.
+ *
+ * <p>
+ * When a {@link LogIndex} is provided, date ranges are located by seeking into the file so that only the relevant
+ * region of the file is parsed.
  */
 public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogParser.Entry>, Closeable {
-	private BufferedReader br;
+	private static final int TAIL_CHUNK = 64*1024;
+
+	private final FileChannel fc;
+	private final LogLineReader lr;
+	private long endOffset;
+	private int skip;
 	LogEntryFormatter formatter;
 	Date start, end;
 	Set<String> loggerFilter, severityFilter;
@@ -46,7 +58,30 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 	 * @throws IOException
 	 */
 	public LogParser(LogEntryFormatter formatter, File f, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
-		br = new BufferedReader(new InputStreamReader(new FileInputStream(f), Charset.defaultCharset()));
+		this(formatter, f, null, 0, start, end, thread, loggers, severity);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param formatter The log entry formatter.
+	 * @param f The log file.
+	 * @param index
+	 * 	The index of the log file used to seek to the start and end dates.
+	 * 	<br>If <jk>null</jk>, the file is parsed from the beginning.
+	 * @param tail
+	 * 	If greater than zero, only return this number of matching log entries from the end of the date range.
+	 * 	<br>The file is read backwards in increasingly larger chunks until enough entries are found.
+	 * @param start Don't return rows before this date.  If <jk>null</jk>, start from the beginning of the file.
+	 * @param end Don't return rows after this date.  If <jk>null</jk>, go to the end of the file.
+	 * @param thread Only return log entries with this thread name.
+	 * @param loggers Only return log entries produced by these loggers (simple class names).
+	 * @param severity Only return log entries with the specified severity.
+	 * @throws IOException
+	 */
+	public LogParser(LogEntryFormatter formatter, File f, LogIndex index, int tail, Date start, Date end, String thread, String[] loggers, String[] severity) throws IOException {
+		fc = FileChannel.open(f.toPath(), READ);
+		lr = new LogLineReader(fc, Charset.defaultCharset());
 		this.formatter = formatter;
 		this.start = start;
 		this.end = end;
@@ -56,13 +91,64 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 		if (severity != null)
 			this.severityFilter = new HashSet<>(Arrays.asList(severity));
 
-		// Find the first line.
+		try {
+			long startOffset = index == null ? 0 : index.getStartOffset(start);
+			endOffset = index == null ? Long.MAX_VALUE : index.getEndOffset(end);
+			if (tail > 0)
+				startOffset = findTail(startOffset, tail);
+
+			// Find the first line.
+			lr.seekLine(startOffset);
+			next = readNext(null);
+		} catch (IOException | RuntimeException e) {
+			fc.close();
+			throw e;
+		}
+	}
+
+	/*
+	 * Returns the offset to start reading at so that only the last 'tail' matching entries are returned.
+	 * Sets 'skip' to the number of matching entries to skip past that offset.
+	 */
+	private long findTail(long startOffset, int tail) throws IOException {
+		endOffset = Math.min(endOffset, fc.size());
+		long s = endOffset;
+		int count = 0;
+		for (long chunk = TAIL_CHUNK; s > startOffset && count < tail; chunk *= 2) {
+			long s2 = Math.max(startOffset, s - chunk);
+			lr.seekLine(s2);
+			String line;
+			while ((line = lr.readLine(true)) != null && lr.getLineOffset() < s)
+				if (new Entry(line).matches())
+					count++;
+			s = s2;
+		}
+		skip = Math.max(0, count - tail);
+		return s;
+	}
+
+	/*
+	 * Returns the next matching entry, adding any continuation lines to the previous entry.
+	 */
+	private Entry readNext(Entry prev) throws IOException {
 		String line;
-		while (next == null && (line = br.readLine()) != null) {
+		while ((line = lr.readLine(true)) != null) {
 			Entry e = new Entry(line);
-			if (e.matches())
-				next = e;
+			if (e.isRecord) {
+				if (lr.getLineOffset() >= endOffset)
+					break;
+				prev = null;
+				if (e.matches()) {
+					if (skip == 0)
+						return e;
+					skip--;
+				}
+			} else {
+				if (prev != null)
+					prev.addText(e.line);
+			}
 		}
+		return null;
 	}
 
 	@Override /* Iterator */
@@ -73,21 +159,8 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 	@Override /* Iterator */
 	public Entry next() {
 		Entry current = next;
-		Entry prev = next;
 		try {
-			next = null;
-			String line = null;
-			while (next == null && (line = br.readLine()) != null) {
-				Entry e = new Entry(line);
-				if (e.isRecord) {
-					if (e.matches())
-						next = e;
-					prev = null;
-				} else {
-					if (prev != null)
-						prev.addText(e.line);
-				}
-			}
+			next = readNext(current);
 		} catch (IOException e) {
 			throw new RuntimeException(e);
 		}
@@ -106,7 +179,7 @@ public final class LogParser implements Iterable<LogParser.Entry>, Iterator<LogP
 
 	@Override /* Closeable */
 	public void close() throws IOException {
-		br.close();
+		fc.close();
 	}
 
 	/**
@@ -20,6 +20,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.io.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.annotation.*;
 import org.apache.juneau.dto.*;
@@ -97,6 +98,7 @@ public class LogsResource extends BasicRestServlet {
 
 	private File logDir;
 	private LogEntryFormatter leFormatter;
+	private final ConcurrentHashMap<File,LogIndex> indexes = new ConcurrentHashMap<>();
 	boolean allowDeletes;
 
 
@@ -139,6 +141,7 @@ public class LogsResource extends BasicRestServlet {
 			RestResponse res,
 			@Path("/*") String path,
 			@Query(name="highlight", description="Add severity color highlighting.", example="true") boolean highlight,
+			@Query(name="tail", description="Only show the last N matching log entries.\nCombine with 'end' to page backwards through the file.", example="100") int tail,
 			@Query(name="start", description="Start timestamp (ISO8601, full or partial).\nDon't print lines logged before the specified timestamp.\nUse any of the following formats: yyyy, yyyy-MM, yyyy-MM-dd, yyyy-MM-ddThh, yyyy-MM-ddThh:mm, yyyy-MM-ddThh:mm:ss, yyyy-MM-ddThh:mm:ss.SSS", example="2014-01-23T11:25:47") String start,
 			@Query(name="end", description="End timestamp (ISO8601, full or partial).\nDon't print lines logged after the specified timestamp.\nUse any of the following formats: yyyy, yyyy-MM, yyyy-MM-dd, yyyy-MM-ddThh, yyyy-MM-ddThh:mm, yyyy-MM-ddThh:mm:ss, yyyy-MM-ddThh:mm:ss.SSS", example="2014-01-24") String end,
 			@Query(name="thread", description="Thread name filter.\nOnly show log entries with the specified thread name.", example="thread-pool-33-thread-1") String thread,
@@ -151,7 +154,7 @@ public class LogsResource extends BasicRestServlet {
 		Date startDate = parseIsoDate(start), endDate = parseIsoDate(end);
 
 		if (! highlight) {
-			Object o = getReader(f, startDate, endDate, thread, loggers, severity);
+			Object o = getReader(f, tail, startDate, endDate, thread, loggers, severity);
 			res.setContentType("text/plain");
 			if (o instanceof Reader)
 				res.setOutput(o);
@@ -166,7 +169,7 @@ public class LogsResource extends BasicRestServlet {
 		res.setContentType("text/html");
 		try (PrintWriter w = res.getNegotiatedWriter()) {
 			w.println("<html><body style='font-family:monospace;font-size:8pt;white-space:pre;'>");
-			try (LogParser lp = getLogParser(f, startDate, endDate, thread, loggers, severity)) {
+			try (LogParser lp = getLogParser(f, tail, startDate, endDate, thread, loggers, severity)) {
 				if (! lp.hasNext())
 					w.append("<span style='color:gray'>[EMPTY]</span>");
 				else for (LogParser.Entry le : lp) {
@@ -207,6 +210,7 @@ public class LogsResource extends BasicRestServlet {
 	public LogParser viewParsedEntries(
 			RestRequest req,
 			@Path("/*") String path,
+			@Query(name="tail", description="Only show the last N matching log entries.\nCombine with 'end' to page backwards through the file.", example="100") int tail,
 			@Query(name="start", description="Start timestamp (ISO8601, full or partial).\nDon't print lines logged before the specified timestamp.\nUse any of the following formats: yyyy, yyyy-MM, yyyy-MM-dd, yyyy-MM-ddThh, yyyy-MM-ddThh:mm, yyyy-MM-ddThh:mm:ss, yyyy-MM-ddThh:mm:ss.SSS", example="2014-01-23T11:25:47") String start,
 			@Query(name="end", description="End timestamp (ISO8601, full or partial).\nDon't print lines logged after the specified timestamp.\nUse any of the following formats: yyyy, yyyy-MM, yyyy-MM-dd, yyyy-MM-ddThh, yyyy-MM-ddThh:mm, yyyy-MM-ddThh:mm:ss, yyyy-MM-ddThh:mm:ss.SSS", example="2014-01-24") String end,
 			@Query(name="thread", description="Thread name filter.\nOnly show log entries with the specified thread name.", example="thread-pool-33-thread-1") String thread,
@@ -219,7 +223,7 @@ public class LogsResource extends BasicRestServlet {
 
 		Date startDate = parseIsoDate(start), endDate = parseIsoDate(end);
 
-		return getLogParser(f, startDate, endDate, thread, loggers, severity);
+		return getLogParser(f, tail, startDate, endDate, thread, loggers, severity);
 	}
 
 	@RestMethod(
@@ -368,19 +372,35 @@ public class LogsResource extends BasicRestServlet {
 		}
 		if (! f.delete())
 			throw new Forbidden("Could not delete file {0}", f.getAbsolutePath()) ;
+		indexes.remove(f);
+		LogIndex.getIndexFile(f).delete();
 	}
 
 	private static BufferedReader getReader(File f) throws IOException {
 		return new BufferedReader(new InputStreamReader(new FileInputStream(f), Charset.defaultCharset()));
 	}
 
-	private Object getReader(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
-		if (start == null && end == null && thread == null && loggers == null)
+	private Object getReader(File f, int tail, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
+		if (tail <= 0 && start == null && end == null && thread == null && loggers == null)
 			return getReader(f);
-		return getLogParser(f, start, end, thread, loggers, severity);
+		return getLogParser(f, tail, start, end, thread, loggers, severity);
 	}
 
-	private LogParser getLogParser(File f, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
-		return new LogParser(leFormatter, f, start, end, thread, loggers, severity);
+	private LogParser getLogParser(File f, int tail, final Date start, final Date end, final String thread, final String[] loggers, final String[] severity) throws IOException {
+		LogIndex index = null;
+		if (start != null || end != null)
+			index = getLogIndex(f).update();
+		return new LogParser(leFormatter, f, index, tail, start, end, thread, loggers, severity);
+	}
+
+	private LogIndex getLogIndex(File f) {
+		LogIndex i = indexes.get(f);
+		if (i == null) {
+			LogIndex i2 = new LogIndex(leFormatter, f);
+			i = indexes.putIfAbsent(f, i2);
+			if (i == null)
+				i = i2;
+		}
+		return i;
 	}
 }
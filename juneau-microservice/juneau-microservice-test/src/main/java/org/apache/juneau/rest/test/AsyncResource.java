@@ -0,0 +1,85 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.exception.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates Java methods that return futures.
+ */
+@RestResource(
+	path="/testAsync",
+	asyncTimeout="1000"
+)
+@SuppressWarnings("serial")
+public class AsyncResource extends BasicRestServlet {
+
+	private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor();
+
+	@RestMethod(name=GET, path="/future")
+	public Future<String> future() {
+		return executor.schedule(new Callable<String>() {
+			@Override /* Callable */
+			public String call() {
+				return "foo";
+			}
+		}, 100, TimeUnit.MILLISECONDS);
+	}
+
+	@RestMethod(name=GET, path="/completableFuture")
+	public CompletableFuture<String[]> completableFuture() {
+		final CompletableFuture<String[]> f = new CompletableFuture<>();
+		executor.schedule(new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				f.complete(new String[]{"foo","bar"});
+			}
+		}, 100, TimeUnit.MILLISECONDS);
+		return f;
+	}
+
+	@RestMethod(name=GET, path="/completed")
+	public CompletableFuture<String> completed() {
+		return CompletableFuture.completedFuture("foo");
+	}
+
+	@RestMethod(name=GET, path="/failed")
+	public CompletableFuture<String> failed() {
+		final CompletableFuture<String> f = new CompletableFuture<>();
+		executor.schedule(new Runnable() {
+			@Override /* Runnable */
+			public void run() {
+				f.completeExceptionally(new NotFound("Not found: {0}", "foo"));
+			}
+		}, 100, TimeUnit.MILLISECONDS);
+		return f;
+	}
+
+	@RestMethod(name=GET, path="/timeout")
+	public CompletableFuture<String> timeout() {
+		return new CompletableFuture<>();
+	}
+
+	@Override /* GenericServlet */
+	public void destroy() {
+		executor.shutdownNow();
+		super.destroy();
+	}
+}
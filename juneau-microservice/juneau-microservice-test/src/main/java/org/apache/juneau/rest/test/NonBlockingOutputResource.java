@@ -0,0 +1,79 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+
+/**
+ * JUnit automated testcase resource.
+ * Validates responses written using a non-blocking WriteListener.
+ */
+@RestResource(
+	path="/testNonBlockingOutput",
+	nonBlockingOutput="true",
+	encoders=GzipEncoder.class
+)
+@SuppressWarnings("serial")
+public class NonBlockingOutputResource extends BasicRestServlet {
+
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	@RestMethod(name=GET, path="/")
+	public List<String> get() {
+		return createList();
+	}
+
+	@RestMethod(name=GET, path="/future")
+	public Future<List<String>> getFuture() {
+		return executor.submit(new Callable<List<String>>() {
+			@Override /* Callable */
+			public List<String> call() {
+				return createList();
+			}
+		});
+	}
+
+	@RestMethod(name=GET, path="/error")
+	public List<Object> getError() {
+		List<Object> l = new ArrayList<Object>(createList());
+		l.add(new BadPojo());
+		return l;
+	}
+
+	public static class BadPojo {
+		@Override /* Object */
+		public String toString() {
+			throw new RuntimeException("foo");
+		}
+	}
+
+	static List<String> createList() {
+		List<String> l = new ArrayList<>();
+		for (int i = 0; i < 100000; i++)
+			l.add("item" + i);
+		return l;
+	}
+
+	@Override /* GenericServlet */
+	public void destroy() {
+		executor.shutdownNow();
+		super.destroy();
+	}
+}
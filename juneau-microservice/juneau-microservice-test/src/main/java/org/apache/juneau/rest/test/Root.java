@@ -24,9 +24,11 @@ import org.apache.juneau.rest.test.client.*;
 	path="/",
 	children={
 		DebugResource.class,
+		AsyncResource.class,
 		LogsResource.class,
 		ConfigResource.class,
 		LargePojosResource.class,
+		NonBlockingOutputResource.class,
 		RestClientResource.class,
 		ThirdPartyProxyResource.class,
 		ShutdownResource.class,
@@ -0,0 +1,68 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+/**
+ * Validates Java methods that return futures, which are completed using the servlet asynchronous API.
+ */
+public class AsyncTest extends RestTestcase {
+
+	private static String URL = "/testAsync";
+
+	@Test
+	public void a01_future() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		assertEquals("\"foo\"", c.doGet(URL + "/future").getResponseAsString());
+	}
+
+	@Test
+	public void a02_completableFuture() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		assertEquals("[\"foo\",\"bar\"]", c.doGet(URL + "/completableFuture").getResponseAsString());
+	}
+
+	@Test
+	public void a03_completed() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		assertEquals("\"foo\"", c.doGet(URL + "/completed").getResponseAsString());
+	}
+
+	@Test
+	public void a04_failed() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		try {
+			c.doGet(URL + "/failed?noTrace=true").getResponseAsString();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(404, e.getResponseCode());
+			assertTrue(e.getResponseMessage().contains("Not found: foo"));
+		}
+	}
+
+	@Test
+	public void a05_timeout() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		try {
+			c.doGet(URL + "/timeout?noTrace=true").getResponseAsString();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(503, e.getResponseCode());
+			assertTrue(e.getResponseMessage().contains("did not complete within 1000 milliseconds"));
+		}
+	}
+}
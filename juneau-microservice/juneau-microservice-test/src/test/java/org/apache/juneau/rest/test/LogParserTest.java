@@ -0,0 +1,135 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.text.*;
+import java.util.*;
+
+import org.apache.juneau.microservice.resources.*;
+import org.junit.*;
+
+/**
+ * Validates seeking through log files using a {@link LogIndex}.
+ */
+public class LogParserTest {
+
+	private static final String DATE_FORMAT = "yyyy.MM.dd HH:mm:ss";
+	private static final LogEntryFormatter FORMATTER = new LogEntryFormatter("[{date} {level}] {msg}%n", DATE_FORMAT, false);
+	private static final long T0 = date("2018.01.01 00:00:00").getTime();
+
+	private File f;
+
+	@Before
+	public void setUp() throws Exception {
+		f = File.createTempFile("LogParserTest", ".log");
+		writeEntries(0, 20000);
+	}
+
+	@After
+	public void tearDown() {
+		LogIndex.getIndexFile(f).delete();
+		f.delete();
+	}
+
+	// Writes one entry per second.  Every tenth entry is a multi-line WARNING entry.
+	private void writeEntries(int from, int to) throws IOException {
+		DateFormat df = new SimpleDateFormat(DATE_FORMAT);
+		try (Writer w = new OutputStreamWriter(new FileOutputStream(f, true), "UTF-8")) {
+			for (int i = from; i < to; i++) {
+				String d = df.format(new Date(T0 + i*1000L));
+				if (i % 10 == 0)
+					w.append("[" + d + " WARNING] Message " + i + "\n\tat line 1\n\tat line 2\n");
+				else
+					w.append("[" + d + " INFO] Message " + i + "\n");
+			}
+		}
+	}
+
+	private static Date date(String s) {
+		try {
+			return new SimpleDateFormat(DATE_FORMAT).parse(s);
+		} catch (ParseException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	private List<String> parse(LogIndex index, int tail, Date start, Date end, String[] severity) throws Exception {
+		List<String> l = new ArrayList<>();
+		try (LogParser p = new LogParser(FORMATTER, f, index, tail, start, end, null, null, severity)) {
+			for (LogParser.Entry e : p)
+				l.add(e.getText());
+		}
+		return l;
+	}
+
+	//====================================================================================================
+	// Date ranges using the index return the same entries as a full scan.
+	//====================================================================================================
+	@Test
+	public void a01_dateRange() throws Exception {
+		LogIndex index = new LogIndex(FORMATTER, f).update();
+		assertTrue(index.size() > 1);
+
+		Date start = date("2018.01.01 03:00:00"), end = date("2018.01.01 03:10:00");
+		List<String> l = parse(index, 0, start, end, null);
+		assertEquals(601, l.size());
+		assertEquals("Message 10800\n\tat line 1\n\tat line 2", l.get(0));
+		assertEquals("Message 11400\n\tat line 1\n\tat line 2", l.get(600));
+		assertEquals(parse(null, 0, start, end, null), l);
+
+		assertEquals(parse(null, 0, start, null, null), parse(index, 0, start, null, null));
+		assertEquals(parse(null, 0, null, end, null), parse(index, 0, null, end, null));
+		assertEquals(0, parse(index, 0, date("2019.01.01 00:00:00"), null, null).size());
+	}
+
+	//====================================================================================================
+	// Tail returns the last matching entries.
+	//====================================================================================================
+	@Test
+	public void a02_tail() throws Exception {
+		List<String> l = parse(null, 0, null, null, new String[]{"WARNING"});
+		assertEquals(l.subList(l.size()-500, l.size()), parse(null, 500, null, null, new String[]{"WARNING"}));
+		assertEquals(l, parse(null, 5000, null, null, new String[]{"WARNING"}));
+
+		LogIndex index = new LogIndex(FORMATTER, f).update();
+		List<String> l2 = parse(index, 3, null, date("2018.01.01 03:10:00"), null);
+		assertEquals(Arrays.asList("Message 11398", "Message 11399", "Message 11400\n\tat line 1\n\tat line 2"), l2);
+	}
+
+	//====================================================================================================
+	// The index is saved and updated incrementally.
+	//====================================================================================================
+	@Test
+	public void a03_incremental() throws Exception {
+		LogIndex index = new LogIndex(FORMATTER, f).update();
+		int size = index.size();
+		assertTrue(LogIndex.getIndexFile(f).exists());
+		assertEquals(size, new LogIndex(FORMATTER, f).size());
+
+		writeEntries(20000, 40000);
+		index.update();
+		assertTrue(index.size() > size);
+		Date start = date("2018.01.01 10:00:00");
+		assertEquals(parse(null, 0, start, null, null), parse(index, 0, start, null, null));
+
+		// Replaced file causes the index to be rebuilt.
+		f.delete();
+		writeEntries(0, 100);
+		index.update();
+		assertEquals(1, index.size());
+		assertEquals(100, parse(index, 0, new Date(T0), null, null).size());
+	}
+}
@@ -0,0 +1,85 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.rest.client.*;
+import org.junit.*;
+
+/**
+ * Validates responses written using a non-blocking WriteListener.
+ */
+public class NonBlockingOutputTest extends RestTestcase {
+
+	private static String URL = "/testNonBlockingOutput";
+
+	@Test
+	public void a01_sync() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		assertEquals(NonBlockingOutputResource.createList(), c.doGet(URL).getResponse(List.class, String.class));
+	}
+
+	@Test
+	public void a02_gzip() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		RestCall rc = c.doGet(URL).header("Accept-Encoding", "gzip");
+		assertEquals(NonBlockingOutputResource.createList(), rc.getResponse(List.class, String.class));
+	}
+
+	@Test
+	public void a03_future() throws Exception {
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		assertEquals(NonBlockingOutputResource.createList(), c.doGet(URL + "/future").getResponse(List.class, String.class));
+	}
+
+	@Test
+	public void a04_serializeError() throws Exception {
+		// The partially buffered body is discarded and the error is written instead.
+		RestClient c = TestMicroservice.DEFAULT_CLIENT;
+		try {
+			c.doGet(URL + "/error?noTrace=true").getResponseAsString();
+			fail();
+		} catch (RestCallException e) {
+			assertEquals(500, e.getResponseCode());
+		}
+		assertEquals(NonBlockingOutputResource.createList(), c.doGet(URL).getResponse(List.class, String.class));
+	}
+
+	@Test
+	public void a05_concurrent() throws Exception {
+		// Pooled chunks must not be reused while another response is still being sent from them.
+		final RestClient c = TestMicroservice.client().pooled().build();
+		ExecutorService es = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<List<String>>> l = new ArrayList<>();
+			for (int i = 0; i < 32; i++) {
+				final String url = URL + (i % 2 == 0 ? "" : "/future");
+				l.add(es.submit(new Callable<List<String>>() {
+					@Override /* Callable */
+					public List<String> call() throws Exception {
+						return c.doGet(url).header("Accept-Encoding", "gzip").getResponse(List.class, String.class);
+					}
+				}));
+			}
+			for (Future<List<String>> f : l)
+				assertEquals(NonBlockingOutputResource.createList(), f.get());
+		} finally {
+			es.shutdown();
+			c.closeQuietly();
+		}
+	}
+}
@@ -25,12 +25,15 @@ import org.junit.runners.Suite.*;
  */
 @RunWith(Suite.class)
 @SuiteClasses({
+	AsyncTest.class,
 	CallbackStringsTest.class,
 	ClientFuturesTest.class,
 	ConfigTest.class,
 	FormDataTest.class,
 	InterfaceProxyTest.class,
+	LogParserTest.class,
 	MockRestTest.class,
+	NonBlockingOutputTest.class,
 	RequestBeanProxyTest.class,
 	RestClientTest.class,
 	ThirdPartyProxyTest.class,
@@ -2526,6 +2526,12 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RestClientBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RestClientBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
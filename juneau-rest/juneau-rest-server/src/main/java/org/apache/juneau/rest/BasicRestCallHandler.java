@@ -18,15 +18,21 @@ import static org.apache.juneau.internal.IOUtils.*;
 import static org.apache.juneau.internal.StringUtils.*;
 
 import java.io.*;
+import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 import java.util.logging.*;
 
 import javax.servlet.*;
 import javax.servlet.http.*;
 
+import org.apache.juneau.http.*;
 import org.apache.juneau.http.StreamResource;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.RestContext.*;
 import org.apache.juneau.rest.exception.*;
+import org.apache.juneau.rest.util.ChunkedOutputStream;
 import org.apache.juneau.rest.util.RestUtils;
 import org.apache.juneau.rest.vars.*;
 
@@ -44,6 +50,25 @@ import org.apache.juneau.rest.vars.*;
  */
 public class BasicRestCallHandler implements RestCallHandler {
 
+	// CompletionStage.whenComplete(BiConsumer) looked up reflectively, or null if we're running on Java 7.
+	private static final Class<?> COMPLETION_STAGE, BI_CONSUMER;
+	private static final Method WHEN_COMPLETE;
+	static {
+		Class<?> cs = null, bc = null;
+		Method wc = null;
+		try {
+			cs = Class.forName("java.util.concurrent.CompletionStage");
+			bc = Class.forName("java.util.function.BiConsumer");
+			wc = cs.getMethod("whenComplete", bc);
+		} catch (Exception e) {
+			cs = null;
+			bc = null;
+		}
+		COMPLETION_STAGE = cs;
+		BI_CONSUMER = bc;
+		WHEN_COMPLETE = wc;
+	}
+
 	private final RestContext context;
 	private final RestLogger logger;
 	private final Map<String,RestCallRouter> restCallRouters;
@@ -97,6 +122,18 @@ public class BasicRestCallHandler implements RestCallHandler {
 	 * <p>
 	 * Subclasses can optionally override this method if they want to tailor the behavior of requests.
 	 *
+	 * <p>
+	 * If the Java method returns a {@link Future} (e.g. a <code>CompletableFuture</code>) that isn't done yet and the
+	 * request supports asynchronous processing, the call is completed using the servlet asynchronous API so that the
+	 * container thread is released while waiting.
+	 * <br>Results of <code>CompletionStage</code> objects are serialized on the thread that completes the stage.
+	 * <br>Other futures are waited on using {@link AsyncContext#start(Runnable)}.
+	 * <br>Otherwise, the future is waited on synchronously.
+	 *
+	 * <p>
+	 * If the response body was buffered using {@link RestResponse#setNonBlockingOutput()}, it is written to the client
+	 * using a {@link WriteListener} and the call completes asynchronously once it has been written.
+	 *
 	 * @param r1 The incoming HTTP servlet request object.
 	 * @param r2 The incoming HTTP servlet response object.
 	 * @throws ServletException
@@ -108,6 +145,7 @@ public class BasicRestCallHandler implements RestCallHandler {
 		logger.log(FINE, "HTTP: {0} {1}", r1.getMethod(), r1.getRequestURI());
 		long startTime = System.currentTimeMillis();
 		RestRequest req = null;
+		RestResponse res = null;
 
 		try {
 			context.checkForInitException();
@@ -140,17 +178,18 @@ public class BasicRestCallHandler implements RestCallHandler {
 			context.startCall(r1, r2);
 
 			req = createRequest(r1);
-			RestResponse res = createResponse(req, r2);
+			res = createResponse(req, r2);
 			context.setRequest(req);
 			context.setResponse(res);
 			String method = req.getMethod();
 			String methodUC = method.toUpperCase(Locale.ENGLISH);
 
 			StreamResource r = null;
+			StaticFile sf = null;
 			if (pathInfo != null) {
 				String p = pathInfo.substring(1);
 				if (context.isStaticFile(p)) {
-					StaticFile sf = context.resolveStaticFile(p);
+					sf = context.resolveStaticFile(p);
 					r = sf.resource;
 					res.setResponseMeta(sf.meta);
 				} else if (p.equals("favicon.ico")) {
@@ -159,8 +198,10 @@ public class BasicRestCallHandler implements RestCallHandler {
 			}
 
 			if (r != null) {
-				res.setStatus(SC_OK);
-				res.setOutput(r);
+				if (! handleStaticFile(sf, req, res)) {
+					res.setStatus(SC_OK);
+					res.setOutput(r);
+				}
 			} else {
 				// If the specified method has been defined in a subclass, invoke it.
 				int rc = SC_METHOD_NOT_ALLOWED;
@@ -178,24 +219,31 @@ public class BasicRestCallHandler implements RestCallHandler {
 					res.setStatus(rc);
 			}
 
-			if (res.hasOutput()) {
+			// The Java method returned an unfinished future.
+			Future<?> f = res.getAsyncOutput();
+			if (f != null) {
+				// The response is written and the FINISH_CALL hooks are called when the stage completes.
+				if (COMPLETION_STAGE != null && COMPLETION_STAGE.isInstance(f)) {
+					new AsyncCall(r1, r2, req, res, startTime).start();
+					return;
+				}
+				// Other futures can't tell us when they're done, so wait here rather than on another container thread.
+				res.getRestJavaMethod().completeAsync(req, res, f);
+			}
 
-				// Do any class-level transforming.
-				for (RestConverter converter : context.getConverters())
-					res.setOutput(converter.convert(req, res.getOutput()));
+			writeResponse(req, res);
 
-				// Now serialize the output if there was any.
-				// Some subclasses may write to the OutputStream or Writer directly.
-				handleResponse(req, res);
+			// The response body was buffered so that it can be written without blocking.
+			if (res.getNonBlockingOutput() != null) {
+				new AsyncCall(r1, r2, req, res, startTime).startWrite();
+				return;
 			}
 
-			// Make sure our writer in RestResponse gets written.
-			res.flushBuffer();
-			req.close();
-
 			r1.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
 
 		} catch (Throwable e) {
+			if (res != null)
+				releaseNonBlockingOutput(res);
 			r1.setAttribute("Exception", e);
 			r1.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
 			handleError(r1, r2, e);
@@ -262,22 +310,354 @@ public class BasicRestCallHandler implements RestCallHandler {
 			throw new ServletException("Invalid method response: " + rc);
 	}
 
+	/*
+	 * Handles conditional and byte-range GET/HEAD requests on a static file, and writes the cached contents directly to
+	 * the servlet output stream.
+	 * Returns false if the file should be written through the response handlers instead.
+	 */
+	private boolean handleStaticFile(StaticFile sf, RestRequest req, RestResponse res) throws IOException {
+		String method = req.getMethod();
+		boolean isHead = "HEAD".equalsIgnoreCase(method);
+		if (sf.contents == null || ! (isHead || "GET".equalsIgnoreCase(method)))
+			return false;
+
+		RequestHeaders h = req.getHeaders();
+		String etag = sf.etag;
+		for (Map.Entry<String,Object> e : sf.resource.getHeaders().entrySet())
+			res.setHeader(e.getKey(), asString(e.getValue()));
+		res.setHeader("ETag", etag);
+		res.setHeader("Last-Modified", DateUtils.formatDate(new java.util.Date(sf.lastModified)));
+
+		if (isNotModified(etag, sf.lastModified, h)) {
+			res.setStatus(SC_NOT_MODIFIED);
+			return true;
+		}
+
+		byte[] b = sf.contents;
+		int[] range = isIfRangeMatch(etag, sf.lastModified, h) ? parseRange(h.getRange(), b.length) : null;
+		res.setHeader("Accept-Ranges", "bytes");
+		if (range != null && range.length == 0) {
+			res.setStatus(SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+			res.setHeader("Content-Range", "bytes */" + b.length);
+			return true;
+		}
+
+		int off = 0, len = b.length;
+		if (range != null) {
+			off = range[0];
+			len = range[1] - range[0] + 1;
+			res.setStatus(SC_PARTIAL_CONTENT);
+			res.setHeader("Content-Range", "bytes " + range[0] + '-' + range[1] + '/' + b.length);
+		} else {
+			res.setStatus(SC_OK);
+		}
+		res.setContentType(sf.resource.getMediaType().toString());
+		res.setContentLength(len);
+		if (! isHead)
+			res.getOutputStream().write(b, off, len);
+		return true;
+	}
+
+	private static boolean isNotModified(String etag, long lastModified, RequestHeaders h) {
+		IfNoneMatch inm = h.getIfNoneMatch();
+		if (inm != null) {
+			// If-None-Match uses the weak comparison function and takes precedence over If-Modified-Since.
+			for (EntityValidator v : inm.asValidators())
+				if (v.isAny() || etag.equals('"' + v.asString() + '"'))
+					return true;
+			return false;
+		}
+		IfModifiedSince ims = h.getIfModifiedSince();
+		return ims != null && ims.asDate() != null && lastModified <= ims.asDate().getTime();
+	}
+
+	private static boolean isIfRangeMatch(String etag, long lastModified, RequestHeaders h) {
+		IfRange ir = h.getIfRange();
+		if (ir == null)
+			return true;
+		EntityValidator v = ir.asValidator();
+		if (v != null)
+			return ! v.isWeak() && etag.equals('"' + v.asString() + '"');
+		java.util.Date d = ir.asDate();
+		return d != null && d.getTime() == lastModified;
+	}
+
+	/*
+	 * Parses a single "bytes=first-last", "bytes=first-", or "bytes=-suffix" range.
+	 * Returns {first,last}, null if the range should be ignored, or an empty array if it can't be satisfied.
+	 * Multiple ranges are ignored, in which case the entire contents are returned.
+	 */
+	private static int[] parseRange(Range range, int length) {
+		if (range == null)
+			return null;
+		String s = range.toString().trim();
+		int i = s.indexOf('-');
+		if (! s.startsWith("bytes=") || s.indexOf(',') != -1 || i == -1)
+			return null;
+		try {
+			String s1 = s.substring(6, i).trim(), s2 = s.substring(i+1).trim();
+			long first, last = length - 1;
+			if (s1.isEmpty()) {
+				long suffix = Long.parseLong(s2);
+				if (suffix < 0)
+					return null;
+				if (suffix == 0)
+					return new int[0];
+				first = Math.max(0, length - suffix);
+			} else {
+				first = Long.parseLong(s1);
+				if (! s2.isEmpty()) {
+					long l = Long.parseLong(s2);
+					if (l < first)
+						return null;
+					last = Math.min(last, l);
+				}
+			}
+			if (first >= length)
+				return new int[0];
+			return new int[]{(int)first, (int)last};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	/*
+	 * Serializes the output of the call and closes the request.
+	 */
+	private void writeResponse(RestRequest req, RestResponse res) throws Exception {
+		if (res.hasOutput()) {
+
+			// Do any class-level transforming.
+			for (RestConverter converter : context.getConverters())
+				res.setOutput(converter.convert(req, res.getOutput()));
+
+			// Now serialize the output if there was any.
+			// Some subclasses may write to the OutputStream or Writer directly.
+			handleResponse(req, res);
+		}
+
+		// Make sure our writer in RestResponse gets written.
+		res.flushBuffer();
+		res.finishCapture();
+		req.close();
+	}
+
+	/*
+	 * Returns the chunks of a buffered response body that was never handed to the servlet container to the pool.
+	 * Used when serialization fails part way through.
+	 */
+	private static void releaseNonBlockingOutput(RestResponse res) {
+		ChunkedOutputStream buffer = res.getNonBlockingOutput();
+		if (buffer != null)
+			buffer.release();
+	}
+
+	/*
+	 * Completes a call whose Java method returned an unfinished CompletionStage, or whose buffered response body is
+	 * written without blocking.
+	 */
+	private final class AsyncCall implements AsyncListener, WriteListener, Runnable, InvocationHandler {
+		private final HttpServletRequest r1;
+		private final HttpServletResponse r2;
+		private final RestRequest req;
+		private final RestResponse res;
+		private final Future<?> future;
+		private final long startTime;
+		private final Thread serviceThread = Thread.currentThread();
+		private final AtomicBoolean finished = new AtomicBoolean(), completed = new AtomicBoolean();
+		private final CountDownLatch handedOff = new CountDownLatch(1);  // Counted down once finish() is done with the response.
+		private AsyncContext asyncContext;
+		private volatile ChunkedOutputStream buffer;
+
+		AsyncCall(HttpServletRequest r1, HttpServletResponse r2, RestRequest req, RestResponse res, long startTime) {
+			this.r1 = r1;
+			this.r2 = r2;
+			this.req = req;
+			this.res = res;
+			this.future = res.getAsyncOutput();
+			this.startTime = startTime;
+		}
+
+		void start() throws Exception {
+			asyncContext = r1.startAsync(r1, r2);
+			asyncContext.addListener(this);
+			int timeout = context.getAsyncTimeout();
+			if (timeout > 0)
+				asyncContext.setTimeout(timeout);
+			Object callback = Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{BI_CONSUMER}, this);
+			WHEN_COMPLETE.invoke(future, callback);
+		}
+
+		// Starts writing the buffered response body of a call that was handled synchronously.
+		void startWrite() throws IOException {
+			finished.set(true);
+			try {
+				asyncContext = r1.startAsync(r1, r2);
+				asyncContext.addListener(this);
+				write(res.getNonBlockingOutput());
+			} finally {
+				handedOff.countDown();
+			}
+		}
+
+		private void write(ChunkedOutputStream buffer) throws IOException {
+			this.buffer = buffer;
+			int timeout = context.getNonBlockingOutputTimeout();
+			if (timeout > 0)
+				asyncContext.setTimeout(timeout);
+			r2.setContentLengthLong(buffer.size());
+			r2.getOutputStream().setWriteListener(this);
+		}
+
+		@Override /* WriteListener */
+		public void onWritePossible() throws IOException {
+			if (buffer.writeTo(r2.getOutputStream()))
+				complete();
+		}
+
+		@Override /* WriteListener */
+		public void onError(Throwable t) {
+			r1.setAttribute("Exception", t);
+			complete();
+		}
+
+		@Override /* InvocationHandler */
+		public Object invoke(Object proxy, Method m, Object[] args) {
+			switch (m.getName()) {
+				case "equals":   return proxy == args[0];
+				case "hashCode": return System.identityHashCode(proxy);
+				case "toString": return "AsyncCall: " + req.getMethod() + " " + req.getRequestURI();
+				default:
+					// BiConsumer.accept(result, exception).
+					// If the stage was already completed when the callback was registered, we're still inside service()
+					// on the container thread, so hand off to a new thread.
+					if (Thread.currentThread() == serviceThread)
+						asyncContext.start(this);
+					else
+						finish();
+					return null;
+			}
+		}
+
+		@Override /* Runnable */
+		public void run() {
+			finish();
+		}
+
+		private void finish() {
+			if (! finished.compareAndSet(false, true))
+				return;
+			context.setRequest(req);
+			context.setResponse(res);
+			try {
+				res.getRestJavaMethod().completeAsync(req, res, future);
+				writeResponse(req, res);
+				if (res.getNonBlockingOutput() != null) {
+					write(res.getNonBlockingOutput());
+					return;
+				}
+			} catch (Throwable e) {
+				if (buffer == null)
+					releaseNonBlockingOutput(res);
+				r1.setAttribute("Exception", e);
+				handleError(e);
+			} finally {
+				context.clearState();
+				handedOff.countDown();
+			}
+			complete();
+		}
+
+		private void handleError(Throwable e) {
+			try {
+				BasicRestCallHandler.this.handleError(r1, r2, e);
+			} catch (IOException e2) {
+				logger.onError(r1, r2, new RestException(e2, 0));
+			}
+		}
+
+		private void complete() {
+			if (! completed.compareAndSet(false, true))
+				return;
+			r1.setAttribute("ExecTime", System.currentTimeMillis() - startTime);
+			try {
+				context.finishCall(r1, r2);
+			} catch (Exception e) {
+				logger.log(WARNING, e, "Exception occurred in FINISH_CALL hook.");
+			} finally {
+				asyncContext.complete();
+			}
+		}
+
+		@Override /* AsyncListener */
+		public void onTimeout(AsyncEvent event) throws IOException {
+			if (finished.compareAndSet(false, true)) {
+				future.cancel(true);
+				handleError(new ServiceUnavailable("Asynchronous call did not complete within {0} milliseconds.", asyncContext.getTimeout()));
+				complete();
+				return;
+			}
+			awaitHandOff();
+			if (buffer != null) {
+				// The response is already committed, so the client only sees a body shorter than the Content-Length.
+				Exception e = new IOException(format("Response body not written within {0} milliseconds.  Wrote {1} of {2} bytes.", asyncContext.getTimeout(), buffer.position(), buffer.size()));
+				r1.setAttribute("Exception", e);
+				logger.log(WARNING, e, "Timed out writing response to client.");
+			}
+			complete();
+		}
+
+		@Override /* AsyncListener */
+		public void onError(AsyncEvent event) throws IOException {
+			if (finished.compareAndSet(false, true))
+				future.cancel(true);
+			else
+				awaitHandOff();
+			complete();
+		}
+
+		// finish() may still be writing the response on another thread, so don't complete the request under it.
+		private void awaitHandOff() {
+			try {
+				handedOff.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		@Override /* AsyncListener */
+		public void onComplete(AsyncEvent event) throws IOException {
+			// Only now is the container done sending from the buffer.
+			if (buffer != null)
+				buffer.release();
+		}
+
+		@Override /* AsyncListener */
+		public void onStartAsync(AsyncEvent event) throws IOException {}
+	}
+
 	/**
 	 * Method for handling response errors.
 	 *
 	 * <p>
 	 * Subclasses can override this method to provide their own custom error response handling.
 	 *
+	 * <p>
+	 * This method is not synchronized and may be called concurrently for the same resource.
+	 *
 	 * @param req The servlet request.
 	 * @param res The servlet response.
 	 * @param e The exception that occurred.
 	 * @throws IOException Can be thrown if a problem occurred trying to write to the output stream.
 	 */
 	@Override /* RestCallHandler */
-	public synchronized void handleError(HttpServletRequest req, HttpServletResponse res, Throwable e) throws IOException {
+	public void handleError(HttpServletRequest req, HttpServletResponse res, Throwable e) throws IOException {
 
-		int occurrence = context == null ? 0 : context.getStackTraceOccurrence(e);
+		// Hash the stack trace only once for both the occurrence count and the rendering limit.
+		RestContext.StackTraceCount stc = context == null ? null : context.getStackTraceCount(e);
+		int occurrence = stc == null ? 0 : stc.occurred();
 		RestException e2 = (e instanceof RestException ? (RestException)e : new RestException(e, 500)).setOccurrence(occurrence);
+		boolean renderStackTrace = context != null && context.isRenderStackTrace(stc);
 
 		Throwable t = e2.getRootCause();
 		if (t != null) {
@@ -301,7 +681,7 @@ public class BasicRestCallHandler implements RestCallHandler {
 				String httpMessage = RestUtils.getHttpResponseText(e2.getStatus());
 				if (httpMessage != null)
 					w2.append("HTTP ").append(String.valueOf(e2.getStatus())).append(": ").append(httpMessage).append("\n\n");
-				if (context != null && context.isRenderResponseStackTraces())
+				if (renderStackTrace && context.isRenderResponseStackTraces())
 					e.printStackTrace(w2);
 				else
 					w2.append(e2.getFullStackMessage(true));
@@ -311,12 +691,17 @@ public class BasicRestCallHandler implements RestCallHandler {
 			logger.onError(req, res, new RestException(e1, 0));
 		}
 
-		if (context.isDebug()) {
+		if (context != null && context.isDebug()) {
 			String qs = req.getQueryString();
 			String msg = '[' + Integer.toHexString(e.hashCode()) + '.' + e2.getStatus() + '.' + e2.getOccurrence() + "] HTTP " + req.getMethod() + " " + e2.getStatus() + " " + req.getRequestURI() + (qs == null ? "" : "?" + qs);
-			System.err.println(msg);  // NOT DEBUG
-			e.printStackTrace(System.err);
-			logger.log(Level.SEVERE, e, e.getLocalizedMessage());
+			if (renderStackTrace) {
+				System.err.println(msg);  // NOT DEBUG
+				e.printStackTrace(System.err);
+				logger.log(Level.SEVERE, e, e.getLocalizedMessage());
+			} else {
+				System.err.println(msg + ", " + e.getLocalizedMessage());  // NOT DEBUG
+				logger.log(Level.SEVERE, e.getLocalizedMessage());
+			}
 		}
 
 		logger.onError(req, res, e2);
@@ -343,7 +728,7 @@ public class BasicRestCallHandler implements RestCallHandler {
 	 */
 	@SuppressWarnings("javadoc")
 	@Deprecated
-	public synchronized void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
+	public void handleError(HttpServletRequest req, HttpServletResponse res, RestException e) throws IOException {
 		handleError(req, res, (Throwable)e);
 	}
 
@@ -0,0 +1,234 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import static javax.servlet.http.HttpServletResponse.*;
+
+import java.io.*;
+import java.util.*;
+
+import javax.servlet.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * Cache of the response bodies produced by a Java method, stored after serialization and encoding.
+ *
+ * <p>
+ * Responses are keyed by the request URI, query string, and <code>Accept</code>, <code>Accept-Encoding</code>,
+ * <code>Accept-Language</code>, and <code>Accept-Charset</code> headers.
+ * <br>Repeat requests are answered with the cached bytes without invoking the Java method, serializing, or
+ * compressing.
+ * <br>Only successful <code>GET</code> responses are cached.
+ * <br>Only the body and the headers that describe it (see {@link #CACHED_HEADERS}) are cached.
+ * Other headers (e.g. cookies or headers specific to the original caller) are not replayed.
+ * <br>Both cached and fresh responses carry a <code>Vary</code> header naming the key headers so that downstream caches
+ * key them the same way.
+ * <br>Entries expire after an optional time-to-live and can be discarded with {@link #clear()}.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='ja'>{@link org.apache.juneau.rest.annotation.RestMethod#responseCache()}
+ * </ul>
+ */
+final class ResponseCache {
+
+	/**
+	 * The response headers stored with the body.
+	 */
+	static final String[] CACHED_HEADERS = {"Content-Encoding", "Content-Language"};
+
+	private static final String[] KEY_HEADERS = {"Accept", "Accept-Encoding", "Accept-Language", "Accept-Charset"};
+
+	private static final String VARY = StringUtils.join(KEY_HEADERS, ", ");
+
+	private final Cache<String,Entry> cache;
+	private final long maxSize, ttl;
+
+	private static final Cache.Weigher<String,Entry> WEIGHER = new Cache.Weigher<String,Entry>() {
+		@Override /* Weigher */
+		public int weigh(String key, Entry value) {
+			return value.body.length + key.length();
+		}
+	};
+
+	/**
+	 * Constructor.
+	 *
+	 * @param maxSize The maximum total size in bytes of the cached responses.
+	 * @param ttl The time in milliseconds that responses are cached for, or <code>0</code> if they never expire.
+	 */
+	ResponseCache(long maxSize, long ttl) {
+		this.maxSize = maxSize;
+		this.ttl = ttl;
+		this.cache = new Cache<>(false, Integer.MAX_VALUE, maxSize, WEIGHER);
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the response to the specified request can be cached.
+	 *
+	 * @param req The request.
+	 * @return <jk>true</jk> if the response to the specified request can be cached.
+	 */
+	boolean isCacheable(RestRequest req) {
+		return "GET".equalsIgnoreCase(req.getMethod());
+	}
+
+	/**
+	 * Writes the cached response to the specified request.
+	 *
+	 * @param req The request.
+	 * @param res The response.
+	 * @return <jk>true</jk> if the response was cached and has been written.
+	 * @throws IOException
+	 */
+	boolean write(RestRequest req, RestResponse res) throws IOException {
+		res.setHeader("Vary", VARY);
+		String key = getKey(req);
+		Entry e = cache.get(key);
+		if (e == null)
+			return false;
+		if (e.expires != 0 && System.currentTimeMillis() >= e.expires) {
+			// Make room for the fresh response.
+			cache.remove(key);
+			return false;
+		}
+		res.setStatus(SC_OK);
+		if (e.contentType != null)
+			res.setContentType(e.contentType);
+		for (Map.Entry<String,String> h : e.headers.entrySet())
+			res.setHeader(h.getKey(), h.getValue());
+		res.setContentLength(e.body.length);
+		res.getOutputStream().write(e.body);
+		return true;
+	}
+
+	/**
+	 * Starts recording the response body so that it can be added to this cache once the response has been written.
+	 *
+	 * @param req The request.
+	 * @param res The response.
+	 */
+	void capture(RestRequest req, RestResponse res) {
+		res.setCapture(new Capture(getKey(req)));
+	}
+
+	/**
+	 * Discards all cached responses.
+	 */
+	void clear() {
+		cache.clear();
+	}
+
+	private static String getKey(RestRequest req) {
+		StringBuilder sb = new StringBuilder(req.getRequestURI());
+		String q = req.getQueryString();
+		if (q != null)
+			sb.append('?').append(q);
+		for (String h : KEY_HEADERS)
+			sb.append('\n').append(req.getHeader(h));
+		return sb.toString();
+	}
+
+	private static final class Entry {
+		final byte[] body;
+		final String contentType;
+		final Map<String,String> headers;
+		final long expires;
+
+		Entry(byte[] body, String contentType, Map<String,String> headers, long expires) {
+			this.body = body;
+			this.contentType = contentType;
+			this.headers = headers;
+			this.expires = expires;
+		}
+	}
+
+	/**
+	 * Records the response body as it's written to the servlet output stream.
+	 */
+	final class Capture {
+		private final String key;
+		private ByteArrayOutputStream baos = new ByteArrayOutputStream();
+
+		Capture(String key) {
+			this.key = key;
+		}
+
+		ServletOutputStream wrap(final ServletOutputStream sos) {
+			return new ServletOutputStream() {
+
+				@Override /* OutputStream */
+				public void write(int b) throws IOException {
+					sos.write(b);
+					if (baos != null) {
+						baos.write(b);
+						checkSize();
+					}
+				}
+
+				@Override /* OutputStream */
+				public void write(byte[] b, int off, int len) throws IOException {
+					sos.write(b, off, len);
+					if (baos != null) {
+						baos.write(b, off, len);
+						checkSize();
+					}
+				}
+
+				@Override /* OutputStream */
+				public void flush() throws IOException {
+					sos.flush();
+				}
+
+				@Override /* OutputStream */
+				public void close() throws IOException {
+					sos.close();
+				}
+
+				@Override /* ServletOutputStream */
+				public boolean isReady() {
+					return sos.isReady();
+				}
+
+				@Override /* ServletOutputStream */
+				public void setWriteListener(WriteListener writeListener) {
+					sos.setWriteListener(writeListener);
+				}
+			};
+		}
+
+		// Responses that can't fit in the cache aren't recorded.
+		private void checkSize() {
+			if (baos.size() > maxSize)
+				baos = null;
+		}
+
+		/**
+		 * Adds the recorded response to the cache if it was successful.
+		 *
+		 * @param res The response that has been written.
+		 */
+		void finish(RestResponse res) {
+			if (baos == null || res.getStatus() != SC_OK)
+				return;
+			Map<String,String> headers = new LinkedHashMap<>();
+			for (String name : res.getHeaderNames())
+				for (String name2 : CACHED_HEADERS)
+					if (name.equalsIgnoreCase(name2))
+						headers.put(name, res.getHeader(name));
+			long expires = ttl == 0 ? 0 : System.currentTimeMillis() + ttl;
+			cache.put(key, new Entry(baos.toByteArray(), res.getContentType(), headers, expires));
+		}
+	}
+}
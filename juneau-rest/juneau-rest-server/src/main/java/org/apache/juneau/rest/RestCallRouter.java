@@ -18,6 +18,8 @@ import java.util.*;
 
 import javax.servlet.http.*;
 
+import org.apache.juneau.rest.util.*;
+
 /**
  * Represents a group of CallMethods on a REST resource that handle the same HTTP Method name but with different
  * paths/matchers/guards/etc...
@@ -28,9 +30,13 @@ import javax.servlet.http.*;
  */
 public class RestCallRouter {
 	private final RestJavaMethod[] restJavaMethods;
+	private final PathNode root;
 
 	RestCallRouter(RestJavaMethod[] callMethods) {
 		this.restJavaMethods = callMethods;
+		this.root = new PathNode();
+		for (int i = 0; i < callMethods.length; i++)
+			root.add(callMethods[i].getPathPattern(), i);
 	}
 
 	/**
@@ -66,12 +72,107 @@ public class RestCallRouter {
 		}
 	}
 
+	/**
+	 * A node in the path-segment trie built from the path patterns of the Java methods.
+	 *
+	 * <p>
+	 * The trie is only used to narrow down the list of candidate methods for a path.
+	 * <br>It errs on the side of inclusion (e.g. segments containing regex characters are treated as wildcards), and the
+	 * actual path matching is still done by {@link UrlPathPattern#match(String)} on each candidate.
+	 */
+	private static final class PathNode {
+		private final Map<String,PathNode> literals = new HashMap<>();  // Children keyed by literal path segment.
+		private PathNode wildcard;                                        // Child for "{var}" (or otherwise non-literal) segments.
+		private final BitSet terminal = new BitSet();                     // Methods whose pattern ends at this node.
+		private final BitSet remainder = new BitSet();                    // Methods whose pattern ends at this node with "/*".
+
+		void add(String pattern, int index) {
+			if (! pattern.startsWith("/"))
+				pattern = '/' + pattern;
+			boolean isDotAll = pattern.endsWith("/*");
+			if (isDotAll)
+				pattern = pattern.substring(0, pattern.length()-2);
+			PathNode n = this;
+			if (! pattern.isEmpty() && ! pattern.equals("/")) {
+				for (String seg : pattern.substring(1).split("/", -1)) {
+					if (isLiteral(seg)) {
+						PathNode n2 = n.literals.get(seg);
+						if (n2 == null) {
+							n2 = new PathNode();
+							n.literals.put(seg, n2);
+						}
+						n = n2;
+					} else {
+						if (n.wildcard == null)
+							n.wildcard = new PathNode();
+						n = n.wildcard;
+					}
+				}
+			}
+			(isDotAll ? n.remainder : n.terminal).set(index);
+		}
+
+		/*
+		 * Adds the indexes of all the methods that could match the path segments starting at the specified position.
+		 */
+		void findCandidates(String[] segments, int pos, BitSet candidates) {
+			candidates.or(remainder);
+			if (pos == segments.length) {
+				candidates.or(terminal);
+				return;
+			}
+			PathNode n = literals.get(segments[pos]);
+			if (n != null)
+				n.findCandidates(segments, pos+1, candidates);
+			if (wildcard != null)
+				wildcard.findCandidates(segments, pos+1, candidates);
+		}
+
+		private static boolean isLiteral(String seg) {
+			for (int i = 0; i < seg.length(); i++) {
+				char c = seg.charAt(i);
+				if (! (Character.isLetterOrDigit(c) || c == '-' || c == '_' || c == '~' || c == '%'))
+					return false;
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * Returns the set of indexes into {@link #restJavaMethods} of the methods that could match the specified path.
+	 *
+	 * @param pathInfo The value of {@link HttpServletRequest#getPathInfo()} (sorta)
+	 * @return The candidate method indexes, or <jk>null</jk> if all methods must be tried.
+	 */
+	private BitSet findCandidates(String pathInfo) {
+		BitSet candidates = new BitSet(restJavaMethods.length);
+		if (pathInfo == null) {
+			candidates.or(root.terminal);
+			candidates.or(root.remainder);
+			return candidates;
+		}
+		if (! pathInfo.startsWith("/"))
+			return null;
+
+		// Trailing slashes are ignored by non-"/*" patterns.
+		int end = pathInfo.length();
+		while (end > 1 && pathInfo.charAt(end-1) == '/')
+			end--;
+		String[] segments = end <= 1 ? new String[0] : pathInfo.substring(1, end).split("/", -1);
+		root.findCandidates(segments, 0, candidates);
+		return candidates;
+	}
+
 	/**
 	 * Workhorse method.
 	 *
 	 * <p>
 	 * Routes this request to one of the CallMethods.
 	 *
+	 * <p>
+	 * Only the methods whose path patterns could match the path (as determined by the path-segment trie) are tried, in
+	 * the same precedence order as the full list.
+	 *
 	 * @param pathInfo The value of {@link HttpServletRequest#getPathInfo()} (sorta)
 	 * @return The HTTP response code.
 	 */
@@ -79,9 +180,16 @@ public class RestCallRouter {
 		if (restJavaMethods.length == 1)
 			return restJavaMethods[0].invoke(pathInfo, req, res);
 
-		int maxRc = 0;
-		for (RestJavaMethod m : restJavaMethods) {
-			int rc = m.invoke(pathInfo, req, res);
+		BitSet candidates = findCandidates(pathInfo);
+		if (candidates == null) {
+			candidates = new BitSet(restJavaMethods.length);
+			candidates.set(0, restJavaMethods.length);
+		}
+
+		// Methods that were skipped would have returned a 404.
+		int maxRc = candidates.cardinality() < restJavaMethods.length ? SC_NOT_FOUND : 0;
+		for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i+1)) {
+			int rc = restJavaMethods[i].invoke(pathInfo, req, res);
 			if (rc == SC_OK)
 				return SC_OK;
 			maxRc = Math.max(maxRc, rc);
@@ -21,7 +21,9 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.lang.reflect.Method;
+import java.net.*;
 import java.nio.charset.*;
+import java.security.*;
 import java.util.*;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.*;
@@ -282,6 +284,51 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_allowHeaderParams = PREFIX + "allowHeaderParams.b";
 
+	/**
+	 * Configuration property:  Asynchronous call timeout.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.asyncTimeout.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>30000</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#asyncTimeout()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#asyncTimeout(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum time in milliseconds that a Java method returning an unfinished <code>CompletionStage</code> (such as
+	 * a <code>CompletableFuture</code>) is given to complete.
+	 *
+	 * <p>
+	 * Such calls are completed using the servlet asynchronous API so that no request thread is held while waiting.
+	 * <br>If the stage doesn't complete in time, it's cancelled and a <code>503</code> is returned to the client.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Give asynchronous calls 2 minutes to complete.</jc>
+	 * 	<ja>@RestResource</ja>(asyncTimeout=<js>"120000"</js>)
+	 * 	<jk>public class</jk> MyResource {...}
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Other {@link Future Futures} can't report when they're done, so the request thread waits for them instead.
+	 * 	<li>
+	 * 		A value of <code>0</code> or less means the asynchronous timeout of the servlet container is used.
+	 * </ul>
+	 */
+	public static final String REST_asyncTimeout = PREFIX + "asyncTimeout.i";
+
 	/**
 	 * Configuration property:  REST call handler.
 	 *
@@ -1364,6 +1411,123 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_maxInput = PREFIX + "maxInput.s";
 
+	/**
+	 * Configuration property:  Maximum rendered stack traces.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.maxRenderedStackTraces.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>-1</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#maxRenderedStackTraces()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#maxRenderedStackTraces(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of times a full stack trace is rendered for the same exception within the interval defined
+	 * by {@link #REST_maxRenderedStackTracesInterval}.
+	 *
+	 * <p>
+	 * Once an exception with the same stack trace hash has occurred more than this number of times in the current
+	 * interval, only the exception message chain is written to the HTTP response body and debug output until the
+	 * next interval starts.
+	 * <br>This keeps error storms (e.g. an unavailable upstream service) from spending most of their time formatting
+	 * identical stack traces.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Option #1 - Defined via annotation resolving to a config file setting with default value.</jc>
+	 * 	<ja>@RestResource</ja>(renderResponseStackTraces=<js>"true"</js>, maxRenderedStackTraces=<js>"$C{REST/maxRenderedStackTraces,10}"</js>)
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Option #2 - Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 *
+	 * 			<jc>// Using method on builder.</jc>
+	 * 			builder.maxRenderedStackTraces(10);
+	 *
+	 * 			<jc>// Same, but using property.</jc>
+	 * 			builder.set(<jsf>REST_maxRenderedStackTraces</jsf>, 10);
+	 * 		}
+	 * 	}
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		A value of <code>-1</code> means no limit.
+	 * 	<li>
+	 * 		Occurrences are only counted when {@link #REST_useStackTraceHashes} is enabled.
+	 * 		<br>Otherwise, this setting has no effect.
+	 * 	<li>
+	 * 		At most 10,000 distinct stack trace hashes are tracked.
+	 * 		<br>When that number is reached, hashes whose interval has passed are discarded, or all hashes if none have.
+	 * </ul>
+	 */
+	public static final String REST_maxRenderedStackTraces = PREFIX + "maxRenderedStackTraces.i";
+
+	/**
+	 * Configuration property:  Maximum rendered stack traces interval.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.maxRenderedStackTracesInterval.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>60000</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#maxRenderedStackTracesInterval()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#maxRenderedStackTracesInterval(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The length in milliseconds of the interval over which {@link #REST_maxRenderedStackTraces} applies.
+	 *
+	 * <p>
+	 * Each exception gets its own interval starting with the first occurrence after its previous interval ended.
+	 * <br>This lets new occurrences of a recurring problem show up in the logs again after a quiet period.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Option #1 - Defined via annotation.</jc>
+	 * 	<ja>@RestResource</ja>(maxRenderedStackTraces=<js>"10"</js>, maxRenderedStackTracesInterval=<js>"300000"</js>)
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Option #2 - Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 *
+	 * 			<jc>// Using method on builder.</jc>
+	 * 			builder.maxRenderedStackTracesInterval(300000);
+	 *
+	 * 			<jc>// Same, but using property.</jc>
+	 * 			builder.set(<jsf>REST_maxRenderedStackTracesInterval</jsf>, 300000);
+	 * 		}
+	 * 	}
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		A value of <code>0</code> or less means the interval never ends, so the limit applies over the lifetime of
+	 * 		the resource.
+	 * </ul>
+	 */
+	public static final String REST_maxRenderedStackTracesInterval = PREFIX + "maxRenderedStackTracesInterval.i";
+
 	/**
 	 * Configuration property:  Messages.
 	 *
@@ -1519,6 +1683,109 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_mimeTypes = PREFIX + "mimeTypes.ss";
 
+	/**
+	 * Configuration property:  Non-blocking output.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.nonBlockingOutput.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#nonBlockingOutput()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#nonBlockingOutput(boolean)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, POJOs serialized by {@link org.apache.juneau.rest.reshandlers.DefaultHandler} are serialized into
+	 * pooled in-memory chunks and then written to the client using a Servlet 3.1 {@link WriteListener}.
+	 * <br>The request thread is released while slow clients read the response.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Option #1 - Defined via annotation.</jc>
+	 * 	<ja>@RestResource</ja>(nonBlockingOutput=<js>"true"</js>)
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Option #2 - Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 *
+	 * 			<jc>// Using method on builder.</jc>
+	 * 			builder.nonBlockingOutput(<jk>true</jk>);
+	 *
+	 * 			<jc>// Same, but using property.</jc>
+	 * 			builder.set(<jsf>REST_nonBlockingOutput</jsf>, <jk>true</jk>);
+	 * 		}
+	 * 	}
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Only applies to requests that support asynchronous processing.
+	 * 		<br>Otherwise, responses are written directly to the servlet output stream.
+	 * 	<li>
+	 * 		The entire (encoded) response body is held in memory until written, and the <code>Content-Length</code>
+	 * 		header is set on the response.
+	 * 	<li>
+	 * 		The time allowed for the client to read the response is controlled by
+	 * 		{@link #REST_nonBlockingOutputTimeout}.
+	 * </ul>
+	 */
+	public static final String REST_nonBlockingOutput = PREFIX + "nonBlockingOutput.b";
+
+	/**
+	 * Configuration property:  Non-blocking output timeout.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.nonBlockingOutputTimeout.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>30000</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#nonBlockingOutputTimeout()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#nonBlockingOutputTimeout(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum time in milliseconds that a client is given to read a response written through
+	 * {@link #REST_nonBlockingOutput}.
+	 *
+	 * <p>
+	 * Since the status and headers have already been sent, a client that doesn't read the body in time receives a body
+	 * shorter than the <code>Content-Length</code> header, and the timeout is logged as a warning.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Give clients 5 minutes to read the response.</jc>
+	 * 	<ja>@RestResource</ja>(nonBlockingOutput=<js>"true"</js>, nonBlockingOutputTimeout=<js>"300000"</js>)
+	 * 	<jk>public class</jk> MyResource {...}
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		The buffered response body is held in memory until the client has read it or the timeout expires.
+	 * 	<li>
+	 * 		A value of <code>0</code> or less means the asynchronous timeout of the servlet container is used.
+	 * </ul>
+	 */
+	public static final String REST_nonBlockingOutputTimeout = PREFIX + "nonBlockingOutputTimeout.i";
+
 	/**
 	 * Configuration property:  Java method parameter resolvers.
 	 *
@@ -2975,7 +3242,9 @@ public final class RestContext extends BeanContext {
 		renderResponseStackTraces,
 		useStackTraceHashes,
 		useClasspathResourceCaching,
+		nonBlockingOutput,
 		debug;
+	private final int maxRenderedStackTraces, maxRenderedStackTracesInterval, nonBlockingOutputTimeout, asyncTimeout;
 	private final String
 		defaultCharset,
 		clientVersionHeader,
@@ -3046,10 +3315,11 @@ public final class RestContext extends BeanContext {
 		destroyMethodParams;
 
 	// In-memory cache of images and stylesheets in the org.apache.juneau.rest.htdocs package.
-	private final Map<String,StaticFile> staticFilesCache = new ConcurrentHashMap<>();
+	// Bounded by both number of files and total bytes.
+	private final Cache<String,StaticFile> staticFilesCache;
 
 	private final ClasspathResourceManager staticResourceManager;
-	private final ConcurrentHashMap<Integer,AtomicInteger> stackTraceHashes = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Integer,StackTraceCount> stackTraceHashes = new ConcurrentHashMap<>();
 
 	private final ThreadLocal<RestRequest> req = new ThreadLocal<>();
 	private final ThreadLocal<RestResponse> res = new ThreadLocal<>();
@@ -3110,6 +3380,11 @@ public final class RestContext extends BeanContext {
 			allowedMethodParams = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(StringUtils.split(getStringProperty(REST_allowedMethodParams, "HEAD,OPTIONS")))));
 			renderResponseStackTraces = getBooleanProperty(REST_renderResponseStackTraces, false);
 			useStackTraceHashes = getBooleanProperty(REST_useStackTraceHashes, true);
+			maxRenderedStackTraces = getIntegerProperty(REST_maxRenderedStackTraces, -1);
+			maxRenderedStackTracesInterval = getIntegerProperty(REST_maxRenderedStackTracesInterval, 60000);
+			nonBlockingOutput = getBooleanProperty(REST_nonBlockingOutput, false);
+			nonBlockingOutputTimeout = getIntegerProperty(REST_nonBlockingOutputTimeout, 30000);
+			asyncTimeout = getIntegerProperty(REST_asyncTimeout, 30000);
 			debug = getBooleanProperty(REST_debug, super.isDebug());
 			defaultCharset = getStringProperty(REST_defaultCharset, "utf-8");
 			maxInput = getLongProperty(REST_maxInput, 100_000_000l);
@@ -3173,6 +3448,13 @@ public final class RestContext extends BeanContext {
 			ClasspathResourceFinder rf = getInstanceProperty(REST_classpathResourceFinder, ClasspathResourceFinder.class, ClasspathResourceFinderBasic.class, true, this);
 			useClasspathResourceCaching = getProperty(REST_useClasspathResourceCaching, boolean.class, true);
 			staticResourceManager = new ClasspathResourceManager(resourceClass, rf, useClasspathResourceCaching);
+			staticFilesCache = new Cache<>(! useClasspathResourceCaching, 100, 10*1024*1024, new Cache.Weigher<String,StaticFile>() {
+				@Override
+				public int weigh(String key, StaticFile value) {
+					long l = value.resource == null ? 0 : value.resource.getContentLength();
+					return (int)Math.min(Math.max(l, 0), Integer.MAX_VALUE);
+				}
+			});
 
 			consumes = getListProperty(REST_consumes, MediaType.class, parsers.getSupportedMediaTypes());
 			produces = getListProperty(REST_produces, MediaType.class, serializers.getSupportedMediaTypes());
@@ -3569,11 +3851,14 @@ public final class RestContext extends BeanContext {
 	 */
 	// TODO - Make protected in 8.0
 	public StaticFile resolveStaticFile(String pathInfo) throws NotFound, IOException {
-		if (! staticFilesCache.containsKey(pathInfo)) {
+		StaticFile sf = staticFilesCache.get(pathInfo);
+		if (sf == null) {
 			String p = urlDecode(trimSlashes(pathInfo));
 			if (p.indexOf("..") != -1)
 				throw new NotFound("Invalid path");
 			StreamResource sr = null;
+			byte[] contents = null;
+			long lastModified = 0;
 			for (StaticFileMapping sfm : staticFiles) {
 				String path = sfm.path;
 				if (p.startsWith(path)) {
@@ -3586,30 +3871,60 @@ public final class RestContext extends BeanContext {
 								String name = (i == -1 ? p2 : p2.substring(i+1));
 								String mediaType = mimetypesFileTypeMap.getContentType(name);
 								Map<String,Object> responseHeaders = sfm.responseHeaders != null ? sfm.responseHeaders : staticFileResponseHeaders;
-								sr = new StreamResource(MediaType.forString(mediaType), responseHeaders, true, is);
+								contents = readBytes(is, 1024);
+								sr = new StreamResource(MediaType.forString(mediaType), responseHeaders, false, contents);
+								lastModified = getLastModified(sfm.resourceClass, p2);
 								break;
 							}
 						}
 					}
 				}
 			}
-			StaticFile sf = new StaticFile(sr);
-			if (useClasspathResourceCaching) {
-				if (staticFilesCache.size() > 100)
-					staticFilesCache.clear();
-				staticFilesCache.put(pathInfo, sf);
+			sf = staticFilesCache.put(pathInfo, new StaticFile(sr, contents, lastModified));
+		}
+		return sf;
+	}
+
+	/*
+	 * Returns the modification time of a static file, or 0 if it can't be determined.
+	 * Looks in the same places as the default resource finder: the working directory, then the classpath of the class
+	 * and its parents.
+	 */
+	private static long getLastModified(Class<?> c, String name) {
+		try {
+			File f = new File(name);
+			if (f.exists() && ! f.isAbsolute())
+				return f.lastModified();
+			for (; c != null; c = c.getSuperclass()) {
+				URL u = c.getResource(name);
+				if (u == null)
+					continue;
+				if ("file".equals(u.getProtocol()))
+					return new File(u.toURI()).lastModified();
+				URLConnection uc = u.openConnection();
+				if (uc instanceof JarURLConnection)
+					return ((JarURLConnection)uc).getJarEntry().getTime();
+				return uc.getLastModified();
 			}
-			return sf;
+		} catch (Exception e) {
+			// Fall back to the time the file was cached.
 		}
-		return staticFilesCache.get(pathInfo);
+		return 0;
 	}
 
 	/**
 	 * A cached static file instance.
+	 *
+	 * <p>
+	 * When the contents are known, the file is served with a strong <code>ETag</code> and a <code>Last-Modified</code>
+	 * header so that conditional and byte-range requests can be answered without going through the response handlers.
 	 */
 	protected class StaticFile {
 		StreamResource resource;
 		ResponseBeanMeta meta;
+		byte[] contents;
+		String etag;
+		long lastModified;
 
 		/**
 		 * Constructor.
@@ -3617,8 +3932,45 @@ public final class RestContext extends BeanContext {
 		 * @param resource
 		 */
 		protected StaticFile(StreamResource resource) {
+			this(resource, null);
+		}
+
+		/**
+		 * Constructor.
+		 *
+		 * @param resource
+		 * @param contents
+		 * 	The contents of the resource.
+		 * 	<br>If <jk>null</jk>, the resource is always written through the response handlers.
+		 */
+		protected StaticFile(StreamResource resource, byte[] contents) {
+			this(resource, contents, 0);
+		}
+
+		/**
+		 * Constructor.
+		 *
+		 * @param resource
+		 * @param contents
+		 * 	The contents of the resource.
+		 * 	<br>If <jk>null</jk>, the resource is always written through the response handlers.
+		 * @param lastModified
+		 * 	The time the resource was last modified in milliseconds.
+		 * 	<br>If <code>0</code> or less, the time the resource was cached is used.
+		 */
+		protected StaticFile(StreamResource resource, byte[] contents, long lastModified) {
 			this.resource = resource;
 			this.meta = resource == null ? null : ResponseBeanMeta.create(resource.getClass(), getPropertyStore());
+			if (resource != null && contents != null) {
+				this.contents = contents;
+				try {
+					this.etag = '"' + toHex(MessageDigest.getInstance("MD5").digest(contents)) + '"';
+				} catch (NoSuchAlgorithmException e) {
+					throw new RuntimeException(e);
+				}
+				// HTTP dates only have second precision.
+				this.lastModified = (lastModified > 0 ? lastModified : System.currentTimeMillis()) / 1000 * 1000;
+			}
 		}
 	}
 
@@ -4115,11 +4467,108 @@ public final class RestContext extends BeanContext {
 	 * 	setting is not enabled.
 	 */
 	public int getStackTraceOccurrence(Throwable e) {
+		StackTraceCount c = getStackTraceCount(e);
+		return c == null ? 0 : c.occurred();
+	}
+
+	/**
+	 * Returns whether a full stack trace should be rendered for the specified exception.
+	 *
+	 * <p>
+	 * Each call counts against the limit for the current interval of this exception.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_maxRenderedStackTraces}
+	 * 	<li class='jf'>{@link RestContext#REST_maxRenderedStackTracesInterval}
+	 * </ul>
+	 *
+	 * @param e The exception to check.
+	 * @return <jk>true</jk> if the limit has not been reached for this exception in the current interval.
+	 */
+	public boolean isRenderStackTrace(Throwable e) {
+		if (maxRenderedStackTraces < 0)
+			return true;
+		return isRenderStackTrace(getStackTraceCount(e));
+	}
+
+	/*
+	 * Same as isRenderStackTrace(Throwable), but for an exception whose counts have already been looked up.
+	 */
+	boolean isRenderStackTrace(StackTraceCount c) {
+		if (maxRenderedStackTraces < 0 || c == null)
+			return true;
+		return c.render(System.currentTimeMillis(), maxRenderedStackTracesInterval, maxRenderedStackTraces);
+	}
+
+	/*
+	 * Returns the counts for the stack trace of the specified exception, or null if stack trace hashes are disabled.
+	 * Lets the call handler hash the stack trace only once per error.
+	 */
+	StackTraceCount getStackTraceCount(Throwable e) {
 		if (! useStackTraceHashes)
-			return 0;
-		int h = e.hashCode();
-		stackTraceHashes.putIfAbsent(h, new AtomicInteger());
-		return stackTraceHashes.get(h).incrementAndGet();
+			return null;
+		int h = RestException.getStackTraceHash(e);
+		StackTraceCount c = stackTraceHashes.get(h);
+		if (c == null) {
+			if (stackTraceHashes.size() >= MAX_STACK_TRACE_HASHES)
+				purgeStackTraceHashes();
+			StackTraceCount c2 = new StackTraceCount(System.currentTimeMillis());
+			c = stackTraceHashes.putIfAbsent(h, c2);
+			if (c == null)
+				c = c2;
+		}
+		return c;
+	}
+
+	/*
+	 * Discards the hashes whose interval has passed, or all of them if none have.
+	 */
+	private void purgeStackTraceHashes() {
+		long now = System.currentTimeMillis();
+		if (maxRenderedStackTracesInterval > 0)
+			for (Iterator<StackTraceCount> i = stackTraceHashes.values().iterator(); i.hasNext();)
+				if (i.next().isExpired(now, maxRenderedStackTracesInterval))
+					i.remove();
+		if (stackTraceHashes.size() >= MAX_STACK_TRACE_HASHES)
+			stackTraceHashes.clear();
+	}
+
+	private static final int MAX_STACK_TRACE_HASHES = 10000;
+
+	/*
+	 * Number of occurrences of an exception, and the number of stack traces rendered in its current interval.
+	 */
+	static final class StackTraceCount {
+		private final AtomicInteger occurrences = new AtomicInteger(), rendered = new AtomicInteger();
+		private final AtomicLong intervalStart;
+
+		StackTraceCount(long now) {
+			this.intervalStart = new AtomicLong(now);
+		}
+
+		int occurred() {
+			return occurrences.incrementAndGet();
+		}
+
+		boolean render(long now, int interval, int max) {
+			// Only the thread that moves the interval forward resets the count.
+			// Threads racing with it may render a few more stack traces than the limit at the start of the interval.
+			long start = intervalStart.get();
+			if (interval > 0 && now - start >= interval && intervalStart.compareAndSet(start, now))
+				rendered.set(0);
+			for (;;) {
+				int r = rendered.get();
+				if (r >= max)
+					return false;
+				if (rendered.compareAndSet(r, r+1))
+					return true;
+			}
+		}
+
+		boolean isExpired(long now, int interval) {
+			return interval > 0 && now - intervalStart.get() >= interval;
+		}
 	}
 
 	/**
@@ -4164,6 +4613,51 @@ public final class RestContext extends BeanContext {
 		return allowBodyParam;
 	}
 
+	/**
+	 * Returns whether serialized responses are written to clients using a non-blocking {@link WriteListener}.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_nonBlockingOutput}
+	 * </ul>
+	 *
+	 * @return <jk>true</jk> if setting is enabled.
+	 */
+	public boolean isNonBlockingOutput() {
+		return nonBlockingOutput;
+	}
+
+	/**
+	 * Returns the maximum time in milliseconds that clients are given to read non-blocking output.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_nonBlockingOutputTimeout}
+	 * </ul>
+	 *
+	 * @return
+	 * 	The timeout in milliseconds, or <code>0</code> or less if the timeout of the servlet container is used.
+	 */
+	public int getNonBlockingOutputTimeout() {
+		return nonBlockingOutputTimeout;
+	}
+
+	/**
+	 * Returns the maximum time in milliseconds that Java methods returning a <code>CompletionStage</code> are given to
+	 * complete.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncTimeout}
+	 * </ul>
+	 *
+	 * @return
+	 * 	The timeout in milliseconds, or <code>0</code> or less if the timeout of the servlet container is used.
+	 */
+	public int getAsyncTimeout() {
+		return asyncTimeout;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if debug mode is enabled on this resource.
 	 *
@@ -4560,6 +5054,27 @@ public final class RestContext extends BeanContext {
 		return callMethods;
 	}
 
+	/**
+	 * Discards the responses cached by the REST Java methods of this resource.
+	 *
+	 * <p>
+	 * Resources call this when the data that responses cached through {@link RestMethod#responseCache()} are based on
+	 * has changed.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<ja>@RestMethod</ja>(name=<jsf>PUT</jsf>, path=<js>"/countries/{id}"</js>)
+	 * 	<jk>public void</jk> putCountry(<ja>@Path</ja>(<js>"id"</js>) String id, <ja>@Body</ja> Country c) {
+	 * 		<jf>countries</jf>.put(id, c);
+	 * 		getContext().clearResponseCaches();
+	 * 	}
+	 * </p>
+	 */
+	public void clearResponseCaches() {
+		for (RestJavaMethod m : callMethods.values())
+			m.clearResponseCache();
+	}
+
 	/**
 	 * Finds the {@link RestMethodParam} instances to handle resolving objects on the calls to the specified Java method.
 	 *
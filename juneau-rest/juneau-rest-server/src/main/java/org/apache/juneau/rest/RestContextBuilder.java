@@ -220,6 +220,8 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 					infoProvider(r.infoProvider());
 				if (! r.allowHeaderParams().isEmpty())
 					allowHeaderParams(Boolean.valueOf(vr.resolve(r.allowHeaderParams())));
+				if (! r.asyncTimeout().isEmpty())
+					asyncTimeout(Integer.valueOf(vr.resolve(r.asyncTimeout())));
 				if (! r.allowedMethodParams().isEmpty())
 					allowedMethodParams(vr.resolve(r.allowedMethodParams()));
 				if (! r.allowBodyParam().isEmpty())
@@ -232,6 +234,14 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 					defaultCharset(vr.resolve(r.defaultCharset()));
 				if (! r.maxInput().isEmpty())
 					maxInput(vr.resolve(r.maxInput()));
+				if (! r.maxRenderedStackTraces().isEmpty())
+					maxRenderedStackTraces(Integer.valueOf(vr.resolve(r.maxRenderedStackTraces())));
+				if (! r.maxRenderedStackTracesInterval().isEmpty())
+					maxRenderedStackTracesInterval(Integer.valueOf(vr.resolve(r.maxRenderedStackTracesInterval())));
+				if (! r.nonBlockingOutput().isEmpty())
+					nonBlockingOutput(Boolean.valueOf(vr.resolve(r.nonBlockingOutput())));
+				if (! r.nonBlockingOutputTimeout().isEmpty())
+					nonBlockingOutputTimeout(Integer.valueOf(vr.resolve(r.nonBlockingOutputTimeout())));
 				if (! r.debug().isEmpty())
 					debug(Boolean.valueOf(vr.resolve(r.debug())));
 				mimeTypes(resolveVars(vr, r.mimeTypes()));
@@ -553,6 +563,26 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return set(REST_allowHeaderParams, value);
 	}
 
+	/**
+	 * Configuration property:  Asynchronous call timeout.
+	 *
+	 * <p>
+	 * The maximum time in milliseconds that Java methods returning a <code>CompletionStage</code> are given to complete.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncTimeout}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <code>30000</code>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder asyncTimeout(int value) {
+		return set(REST_asyncTimeout, value);
+	}
+
 	/**
 	 * Configuration property:  REST call handler.
 	 *
@@ -1105,6 +1135,46 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return set(REST_maxInput, value);
 	}
 
+	/**
+	 * Configuration property:  Maximum rendered stack traces.
+	 *
+	 * <p>
+	 * The maximum number of times a full stack trace is rendered for the same exception within an interval.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_maxRenderedStackTraces}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <code>-1</code> (no limit).
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder maxRenderedStackTraces(int value) {
+		return set(REST_maxRenderedStackTraces, value);
+	}
+
+	/**
+	 * Configuration property:  Maximum rendered stack traces interval.
+	 *
+	 * <p>
+	 * The length in milliseconds of the interval over which the maximum rendered stack traces applies.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_maxRenderedStackTracesInterval}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <code>60000</code> (one minute).
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder maxRenderedStackTracesInterval(int value) {
+		return set(REST_maxRenderedStackTracesInterval, value);
+	}
+
 	/**
 	 * Configuration property:  Messages.
 	 *
@@ -1181,6 +1251,47 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return addTo(REST_mimeTypes, values);
 	}
 
+	/**
+	 * Configuration property:  Non-blocking output.
+	 *
+	 * <p>
+	 * When enabled, serialized POJOs are buffered in memory and written to clients using a non-blocking
+	 * {@link javax.servlet.WriteListener}.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_nonBlockingOutput}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder nonBlockingOutput(boolean value) {
+		return set(REST_nonBlockingOutput, value);
+	}
+
+	/**
+	 * Configuration property:  Non-blocking output timeout.
+	 *
+	 * <p>
+	 * The maximum time in milliseconds that clients are given to read non-blocking output.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_nonBlockingOutputTimeout}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <code>30000</code>.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder nonBlockingOutputTimeout(int value) {
+		return set(REST_nonBlockingOutputTimeout, value);
+	}
+
 	/**
 	 * Configuration property:  Java method parameter resolvers.
 	 *
@@ -2383,6 +2494,12 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return this;
 	}
 
+	@Override /* BeanContextBuilder */
+	public RestContextBuilder useMethodHandles(boolean value) {
+		super.useMethodHandles(value);
+		return this;
+	}
+
 	@Override /* BeanContextBuilder */
 	public RestContextBuilder useJavaBeanIntrospector(boolean value) {
 		super.useJavaBeanIntrospector(value);
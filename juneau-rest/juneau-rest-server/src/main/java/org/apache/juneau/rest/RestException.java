@@ -139,11 +139,18 @@ public class RestException extends RuntimeException {
 
 	@Override /* Object */
 	public int hashCode() {
+		return getStackTraceHash(this);
+	}
+
+	/*
+	 * Returns a hash of the stack trace of the specified exception and its causes.
+	 * Also used by RestContext to count occurrences of exceptions that aren't RestExceptions.
+	 */
+	static int getStackTraceHash(Throwable t) {
 		int i = 0;
-		Throwable t = this;
 		while (t != null) {
 			for (StackTraceElement e : t.getStackTrace())
-			i ^= e.hashCode();
+				i ^= e.hashCode();
 			t = t.getCause();
 		}
 		return i;
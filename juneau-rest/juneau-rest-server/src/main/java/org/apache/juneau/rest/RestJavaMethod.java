@@ -63,6 +63,7 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 	private final RestConverter[] converters;
 	private final RestMethodProperties properties;
 	private final Integer priority;
+	private final ResponseCache responseCache;
 	private final RestContext context;
 	final java.lang.reflect.Method method;
 	final PropertyStore propertyStore;
@@ -113,6 +114,7 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 		this.defaultCharset = b.defaultCharset;
 		this.maxInput = b.maxInput;
 		this.priority = b.priority;
+		this.responseCache = b.responseCache;
 		this.supportedAcceptTypes = b.supportedAcceptTypes;
 		this.supportedContentTypes = b.supportedContentTypes;
 		this.responseMeta = b.responseMeta;
@@ -137,6 +139,7 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 		Map<String,Object> defaultRequestHeaders, defaultQuery, defaultFormData;
 		long maxInput;
 		Integer priority;
+		ResponseCache responseCache;
 		Map<String,Widget> widgets;
 		List<MediaType> supportedAcceptTypes, supportedContentTypes;
 		ResponseBeanMeta responseMeta;
@@ -167,6 +170,12 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 					defaultCharset = vr.resolve(m.defaultCharset());
 				if (! m.maxInput().isEmpty())
 					maxInput = StringUtils.parseLongWithSuffix(vr.resolve(m.maxInput()));
+				if (! m.responseCache().isEmpty()) {
+					long l = StringUtils.parseLongWithSuffix(vr.resolve(m.responseCache()));
+					long ttl = m.responseCacheTtl().isEmpty() ? 0 : Long.parseLong(vr.resolve(m.responseCacheTtl()));
+					if (l > 0)
+						responseCache = new ResponseCache(l, Math.max(ttl, 0));
+				}
 
 				HtmlDocBuilder hdb = new HtmlDocBuilder(properties);
 
@@ -498,6 +507,14 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 		return pathPattern.toString();
 	}
 
+	/**
+	 * Discards the responses cached for this method if {@link RestMethod#responseCache()} is enabled.
+	 */
+	void clearResponseCache() {
+		if (responseCache != null)
+			responseCache.clear();
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the specified request object can call this method.
 	 */
@@ -553,6 +570,18 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 
 		context.preCall(req, res);
 
+		// Cached responses are only written after the method-level guards have passed.
+		boolean guarded = false;
+		if (responseCache != null && responseCache.isCacheable(req)) {
+			for (RestGuard guard : guards)
+				if (! guard.guard(req, res))
+					return SC_OK;
+			guarded = true;
+			if (responseCache.write(req, res))
+				return SC_OK;
+			responseCache.capture(req, res);
+		}
+
 		Object[] args = new Object[methodParams.length];
 		for (int i = 0; i < methodParams.length; i++) {
 			try {
@@ -569,34 +598,31 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 
 		try {
 
-			for (RestGuard guard : guards)
-				if (! guard.guard(req, res))
-					return SC_OK;
+			if (! guarded)
+				for (RestGuard guard : guards)
+					if (! guard.guard(req, res))
+						return SC_OK;
 
 			Object output;
 			try {
 				output = method.invoke(context.getResource(), args);
 				if (res.getStatus() == 0)
 					res.setStatus(200);
-				if (! method.getReturnType().equals(Void.TYPE)) {
-					if (output != null || ! res.getOutputStreamCalled())
-						res.setOutput(output);
+				if (output instanceof Future) {
+					Future<?> f = (Future<?>)output;
+					// Let the call handler finish the call once the future is done if the container allows it.
+					if (req.isAsyncSupported() && ! f.isDone()) {
+						res.setAsyncOutput(f);
+						return SC_OK;
+					}
+					output = getFutureOutput(f);
 				}
+				setOutput(res, output);
 			} catch (InvocationTargetException e) {
-				Throwable e2 = e.getTargetException();		// Get the throwable thrown from the doX() method.
-				res.setStatus(500);
-				if (getResponseBodyMeta(e2) != null || getResponseBeanMeta(e2) != null) {
-					res.setOutput(e2);
-				} else {
-					throw e;
-				}
+				handleTargetException(res, e);
 			}
 
-			context.postCall(req, res);
-
-			if (res.hasOutput())
-				for (RestConverter converter : converters)
-					res.setOutput(converter.convert(req, res.getOutput()));
+			postCall(req, res);
 
 		} catch (IllegalArgumentException e) {
 			throw new BadRequest(e,
@@ -604,18 +630,75 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 				method.toString(), getReadableClassNames(args)
 			);
 		} catch (InvocationTargetException e) {
-			Throwable e2 = e.getTargetException();		// Get the throwable thrown from the doX() method.
-			if (e2 instanceof RestException)
-				throw (RestException)e2;
-			if (e2 instanceof ParseException)
-				throw new BadRequest(e2);
-			if (e2 instanceof InvalidDataConversionException)
-				throw new BadRequest(e2);
-			throw e2;
+			throw toRestException(e);
 		}
 		return SC_OK;
 	}
 
+	/*
+	 * Finishes a call whose Java method returned a future once that future is done.
+	 * Called by the call handler, either when the future has completed or on the request thread to wait for it.
+	 */
+	void completeAsync(RestRequest req, RestResponse res, Future<?> f) throws Throwable {
+		try {
+			try {
+				setOutput(res, getFutureOutput(f));
+			} catch (InvocationTargetException e) {
+				handleTargetException(res, e);
+			}
+			postCall(req, res);
+		} catch (InvocationTargetException e) {
+			throw toRestException(e);
+		}
+	}
+
+	private void setOutput(RestResponse res, Object output) {
+		if (! method.getReturnType().equals(Void.TYPE)) {
+			if (output != null || ! res.getOutputStreamCalled())
+				res.setOutput(output);
+		}
+	}
+
+	private void handleTargetException(RestResponse res, InvocationTargetException e) throws InvocationTargetException {
+		Throwable e2 = e.getTargetException();		// Get the throwable thrown from the doX() method.
+		res.setStatus(500);
+		if (getResponseBodyMeta(e2) != null || getResponseBeanMeta(e2) != null) {
+			res.setOutput(e2);
+		} else {
+			throw e;
+		}
+	}
+
+	private void postCall(RestRequest req, RestResponse res) throws Exception {
+		context.postCall(req, res);
+
+		if (res.hasOutput())
+			for (RestConverter converter : converters)
+				res.setOutput(converter.convert(req, res.getOutput()));
+	}
+
+	/*
+	 * Returns the result of a future, reporting failures the same way as exceptions thrown by the Java method.
+	 */
+	private static Object getFutureOutput(Future<?> f) throws InvocationTargetException, InterruptedException {
+		try {
+			return f.get();
+		} catch (ExecutionException e) {
+			throw new InvocationTargetException(e.getCause());
+		}
+	}
+
+	private static Throwable toRestException(InvocationTargetException e) {
+		Throwable e2 = e.getTargetException();		// Get the throwable thrown from the doX() method.
+		if (e2 instanceof RestException)
+			return e2;
+		if (e2 instanceof ParseException)
+			return new BadRequest(e2);
+		if (e2 instanceof InvalidDataConversionException)
+			return new BadRequest(e2);
+		return e2;
+	}
+
 	@Override /* Object */
 	public String toString() {
 		return "SimpleMethod: name=" + httpMethod + ", path=" + pathPattern.getPatternString();
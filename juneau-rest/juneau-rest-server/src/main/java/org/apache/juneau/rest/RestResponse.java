@@ -14,12 +14,14 @@ package org.apache.juneau.rest;
 
 import static org.apache.juneau.internal.StringUtils.*;
 
+import org.apache.juneau.rest.util.ChunkedOutputStream;
 import org.apache.juneau.rest.util.FinishablePrintWriter;
 import org.apache.juneau.rest.util.FinishableServletOutputStream;
 
 import java.io.*;
 import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import javax.servlet.*;
 import javax.servlet.http.*;
@@ -63,8 +65,11 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private RestJavaMethod restJavaMethod;
 	private Object output;                       // The POJO being sent to the output.
 	private boolean isNullOutput;                // The output is null (as opposed to not being set at all)
+	private Future<?> asyncOutput;               // The unfinished future returned by the Java method.
 	private RequestProperties properties;                // Response properties
 	private ServletOutputStream sos;
+	private ChunkedOutputStream nonBlockingOutput;
+	private ResponseCache.Capture capture;        // Records the response body for the response cache.
 	private FinishableServletOutputStream os;
 	private FinishablePrintWriter w;
 	private HtmlDocBuilder htmlDocBuilder;
@@ -393,11 +398,62 @@ public final class RestResponse extends HttpServletResponseWrapper {
 
 	@Override /* ServletResponse */
 	public ServletOutputStream getOutputStream() throws IOException {
-		if (sos == null)
-			sos = super.getOutputStream();
+		if (sos == null) {
+			sos = nonBlockingOutput != null ? nonBlockingOutput : super.getOutputStream();
+			if (capture != null)
+				sos = capture.wrap(sos);
+		}
 		return sos;
 	}
 
+	/*
+	 * Records the response body written through this response so that it can be added to a response cache.
+	 */
+	final void setCapture(ResponseCache.Capture capture) {
+		if (sos == null)
+			this.capture = capture;
+	}
+
+	/*
+	 * Adds the recorded response body to the response cache once the response has been written.
+	 */
+	final void finishCapture() {
+		if (capture != null)
+			capture.finish(this);
+		capture = null;
+	}
+
+	/**
+	 * Buffers the response body in memory so that it can be written to the client using a non-blocking
+	 * {@link WriteListener} once the call has been handled.
+	 *
+	 * <p>
+	 * The output stream and writers returned by this object (including negotiated ones) write into the buffer.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_nonBlockingOutput}
+	 * </ul>
+	 *
+	 * @return
+	 * 	<jk>true</jk> if the output is now buffered, or <jk>false</jk> if the request doesn't support asynchronous
+	 * 	processing or the output stream has already been retrieved.
+	 */
+	public boolean setNonBlockingOutput() {
+		if (sos != null || ! request.isAsyncSupported())
+			return false;
+		if (nonBlockingOutput == null)
+			nonBlockingOutput = new ChunkedOutputStream();
+		return true;
+	}
+
+	/*
+	 * Returns the buffered response body that still needs to be written, or null if the output was not buffered.
+	 */
+	final ChunkedOutputStream getNonBlockingOutput() {
+		return nonBlockingOutput;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link #getOutputStream()} has been called.
 	 *
@@ -561,13 +617,35 @@ public final class RestResponse extends HttpServletResponseWrapper {
 		return (T)output;
 	}
 
+	/*
+	 * Called from RestJavaMethod when the Java method returned a future that will be completed asynchronously.
+	 */
+	final void setAsyncOutput(Future<?> value) {
+		this.asyncOutput = value;
+	}
+
+	/*
+	 * Returns the unfinished future returned by the Java method, or null if the output is already available.
+	 */
+	final Future<?> getAsyncOutput() {
+		return asyncOutput;
+	}
+
+	/*
+	 * Returns the Java method that was matched for this call.
+	 */
+	final RestJavaMethod getRestJavaMethod() {
+		return restJavaMethod;
+	}
+
 	@Override /* ServletResponse */
 	public void flushBuffer() throws IOException {
 		if (w != null)
 			w.flush();
 		if (os != null)
 			os.flush();
-		super.flushBuffer();
+		if (nonBlockingOutput == null)
+			super.flushBuffer();
 	}
 
 	/**
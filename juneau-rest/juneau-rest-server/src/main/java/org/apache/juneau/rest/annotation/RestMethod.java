@@ -692,6 +692,77 @@ public @interface RestMethod {
 	 */
 	Property[] properties() default {};
 
+	/**
+	 * Response cache size.
+	 *
+	 * <p>
+	 * The maximum total size (in bytes) of the serialized and encoded response bodies cached for this method.
+	 *
+	 * <p>
+	 * When specified, successful <code>GET</code> responses are cached by request URI, query string, and
+	 * <code>Accept</code>, <code>Accept-Encoding</code>, <code>Accept-Language</code>, and <code>Accept-Charset</code>
+	 * headers.
+	 * <br>Only the body and its <code>Content-Type</code>, <code>Content-Encoding</code>, and
+	 * <code>Content-Language</code> headers are cached.  Other headers set by the method (e.g. cookies) are not sent
+	 * on cached responses.
+	 * <br>Repeat requests are answered with the cached bytes without invoking the Java method, serializing the
+	 * output, or compressing it.
+	 * <br>Guards are still applied to every request.
+	 * <br>Least-recently-used responses are evicted when the cache is full.
+	 * <br>Both cached and fresh responses carry a <code>Vary</code> header naming the key headers.
+	 * <br>Cached responses expire after {@link #responseCacheTtl()} and can be discarded with
+	 * {@link RestContext#clearResponseCaches()} when the underlying data changes.
+	 *
+	 * <p>
+	 * Only use this on methods whose output depends solely on the cache key, such as read-only reference data.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<ja>@RestMethod</ja>(
+	 * 		name=<jsf>GET</jsf>,
+	 * 		path=<js>"/countries"</js>,
+	 * 		responseCache=<js>"10M"</js>
+	 * 	)
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$S{mySystemProperty}"</js>).
+	 * </ul>
+	 */
+	String responseCache() default "";
+
+	/**
+	 * Response cache time-to-live.
+	 *
+	 * <p>
+	 * The time in milliseconds that responses cached by {@link #responseCache()} are served before the Java method is
+	 * invoked again.
+	 *
+	 * <p>
+	 * If not specified, cached responses don't expire.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<ja>@RestMethod</ja>(
+	 * 		name=<jsf>GET</jsf>,
+	 * 		path=<js>"/countries"</js>,
+	 * 		responseCache=<js>"10M"</js>,
+	 * 		responseCacheTtl=<js>"3600000"</js>
+	 * 	)
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$S{mySystemProperty}"</js>).
+	 * </ul>
+	 */
+	String responseCacheTtl() default "";
+
 	/**
 	 * Serializers.
 	 *
@@ -124,6 +124,26 @@ public @interface RestResource {
 	 */
 	String allowHeaderParams() default "";
 
+	/**
+	 * Asynchronous call timeout.
+	 *
+	 * <p>
+	 * The maximum time in milliseconds that Java methods returning a <code>CompletionStage</code> are given to complete.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$L{my.localized.variable}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_asyncTimeout}
+	 * </ul>
+	 */
+	String asyncTimeout() default "";
+
 	/**
 	 * Class-level bean filters.
 	 *
@@ -490,6 +510,46 @@ public @interface RestResource {
 	 */
 	String maxInput() default "";
 
+	/**
+	 * Maximum rendered stack traces.
+	 *
+	 * <p>
+	 * The maximum number of times a full stack trace is rendered for the same exception within an interval.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$L{my.localized.variable}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_maxRenderedStackTraces}
+	 * </ul>
+	 */
+	String maxRenderedStackTraces() default "";
+
+	/**
+	 * Maximum rendered stack traces interval.
+	 *
+	 * <p>
+	 * The length in milliseconds of the interval over which {@link #maxRenderedStackTraces()} applies.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$C{REST/maxRenderedStackTracesInterval,60000}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_maxRenderedStackTracesInterval}
+	 * </ul>
+	 */
+	String maxRenderedStackTracesInterval() default "";
+
 	/**
 	 * Messages.
 	 *
@@ -529,6 +589,47 @@ public @interface RestResource {
 	 */
 	String[] mimeTypes() default {};
 
+	/**
+	 * Non-blocking output.
+	 *
+	 * <p>
+	 * When enabled, serialized POJOs are buffered in memory and written to clients using a non-blocking
+	 * {@link javax.servlet.WriteListener}.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$L{my.localized.variable}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_nonBlockingOutput}
+	 * </ul>
+	 */
+	String nonBlockingOutput() default "";
+
+	/**
+	 * Non-blocking output timeout.
+	 *
+	 * <p>
+	 * The maximum time in milliseconds that clients are given to read non-blocking output.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$L{my.localized.variable}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_nonBlockingOutputTimeout}
+	 * </ul>
+	 */
+	String nonBlockingOutputTimeout() default "";
+
 	/**
 	 * Java method parameter resolvers.
 	 *
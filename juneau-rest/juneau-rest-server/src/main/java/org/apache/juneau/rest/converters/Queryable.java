@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.converters;
 
+import java.util.concurrent.*;
+
 import org.apache.juneau.rest.*;
 import org.apache.juneau.utils.*;
 
@@ -62,15 +64,76 @@ import org.apache.juneau.utils.*;
  * 		<br>Default is {@code 0} (meaning return all rows).
  * </ul>
  *
+ * <p>
+ * For large datasets that are queried repeatedly, return an {@link IndexedList} from the method so that searches and
+ * sorts on the indexed columns don't have to look at every row.
+ *
  * <h5 class='section'>See Also:</h5>
  * <ul>
  * 	<li class='jc'>{@link PojoQuery} - Additional information on filtering POJO models.
+ * 	<li class='jc'>{@link IndexedList} - Lists with column indexes.
  * 	<li class='jf'>{@link RestContext#REST_converters} - Registering converters with REST resources.
  * 	<li class='link'>{@doc juneau-rest-server.Converters}
  * </ul>
  */
 public final class Queryable implements RestConverter {
 
+	/**
+	 * Configuration property:  Parallel threshold.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Queryable.parallelThreshold.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The minimum number of rows before a query is evaluated in parallel.
+	 * <br>A value of <code>0</code> means queries are always evaluated on the request thread.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<ja>@RestMethod</ja>(
+	 * 		name=<jsf>GET</jsf>,
+	 * 		converters=Queryable.<jk>class</jk>,
+	 * 		properties=<ja>@Property</ja>(name=<jsf>QUERYABLE_parallelThreshold</jsf>, value=<js>"100000"</js>)
+	 * 	)
+	 * 	<jk>public</jk> List&lt;Order&gt; getOrders() {...}
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jm'>{@link PojoQuery#parallel(int, ForkJoinPool)}
+	 * </ul>
+	 */
+	public static final String QUERYABLE_parallelThreshold = "Queryable.parallelThreshold.i";
+
+	/**
+	 * Configuration property:  Parallel pool.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Queryable.parallelPool.o"</js>
+	 * 	<li><b>Data type:</b>  <code>{@link ForkJoinPool}</code>
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The fork/join pool used for queries evaluated in parallel.
+	 * <br>If not specified, a shared pool with one thread per available processor is used.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 * 		builder.set(<jsf>QUERYABLE_parallelPool</jsf>, <jk>new</jk> ForkJoinPool(4));
+	 * 	}
+	 * </p>
+	 */
+	public static final String QUERYABLE_parallelPool = "Queryable.parallelPool.o";
+
 	/**
 	 * Swagger parameters for this converter.
 	 */
@@ -154,6 +217,9 @@ public final class Queryable implements RestConverter {
 		SearchArgs searchArgs = req.getQuery().getSearchArgs();
 		if (searchArgs == null)
 			return o;
-		return new PojoQuery(o, req.getBeanSession()).filter(searchArgs);
+		RequestProperties p = req.getProperties();
+		return new PojoQuery(o, req.getBeanSession())
+			.parallel(p.getInt(QUERYABLE_parallelThreshold, 0), p.get(QUERYABLE_parallelPool, ForkJoinPool.class))
+			.filter(searchArgs);
 	}
 }
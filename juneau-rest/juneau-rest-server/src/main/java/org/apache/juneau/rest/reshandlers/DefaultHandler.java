@@ -43,6 +43,10 @@ import org.apache.juneau.serializer.*;
  * The <code>Content-Type</code> header is set to the mime-type defined on the selected serializer based on the
  * <code>produces</code> value passed in through the constructor.
  *
+ * <p>
+ * If {@link RestContext#REST_nonBlockingOutput} is enabled, the POJO is serialized into an in-memory buffer that is
+ * written to the client using a non-blocking {@link javax.servlet.WriteListener} after this method returns.
+ *
  * <h5 class='section'>See Also:</h5>
  * <ul>
  * 	<li class='link'>{@doc juneau-rest-server.RestMethod.MethodReturnTypes}
@@ -138,14 +142,16 @@ public class DefaultHandler implements ResponseHandler {
 
 			res.setContentType(responseType.toString());
 
-			try {
-				RequestProperties p = res.getProperties();
-				if (req.isPlainText())
-					res.setContentType("text/plain");
-				p.append("mediaType", mediaType).append("characterEncoding", res.getCharacterEncoding());
+			if (req.getContext().isNonBlockingOutput())
+				res.setNonBlockingOutput();
 
-				SerializerSession session = s.createSession(new SerializerSessionArgs(p, req.getJavaMethod(), req.getLocale(), req.getHeaders().getTimeZone(), mediaType, schema, req.isDebug() ? true : null, req.getUriContext(), req.isPlainText() ? true : null));
+			RequestProperties p = res.getProperties();
+			if (req.isPlainText())
+				res.setContentType("text/plain");
+			p.append("mediaType", mediaType).append("characterEncoding", res.getCharacterEncoding());
 
+			SerializerSession session = s.borrowSession(new SerializerSessionArgs(p, req.getJavaMethod(), req.getLocale(), req.getHeaders().getTimeZone(), mediaType, schema, req.isDebug() ? true : null, req.getUriContext(), req.isPlainText() ? true : null));
+			try {
 				for (Map.Entry<String,String> h : session.getResponseHeaders().entrySet())
 					res.setHeader(h.getKey(), h.getValue());
 
@@ -171,6 +177,8 @@ public class DefaultHandler implements ResponseHandler {
 				}
 			} catch (SerializeException e) {
 				throw new InternalServerError(e);
+			} finally {
+				s.releaseSession(session);
 			}
 			return true;
 		}
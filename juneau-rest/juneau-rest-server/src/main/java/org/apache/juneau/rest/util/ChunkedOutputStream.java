@@ -0,0 +1,155 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.util;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import javax.servlet.*;
+
+/**
+ * A {@link ServletOutputStream} that collects its contents in memory in fixed-size chunks taken from a shared pool.
+ *
+ * <p>
+ * Used for serializing a response body up front so that it can be written to a slow client using a non-blocking
+ * {@link WriteListener} without holding a request thread.
+ *
+ * <p>
+ * Chunks are returned to the pool when {@link #release()} is called.
+ * <br>Since the servlet container may still be sending from the chunks after {@link #writeTo(ServletOutputStream)}
+ * returns, this must not be done until the response is complete (e.g. in {@link AsyncListener#onComplete(AsyncEvent)}).
+ */
+public final class ChunkedOutputStream extends ServletOutputStream {
+
+	private static final int CHUNK_SIZE = 8192;
+	private static final int MAX_POOLED_CHUNKS = 512;
+
+	private static final Queue<byte[]> POOL = new ConcurrentLinkedQueue<>();
+	private static final AtomicInteger POOL_SIZE = new AtomicInteger();
+
+	private final List<byte[]> chunks = new ArrayList<>();
+	private byte[] current;
+	private int count;         // Number of bytes used in the current chunk.
+	private long size;         // Total number of bytes written.
+	private long pos;          // Number of bytes written by writeTo().
+
+	@Override /* OutputStream */
+	public void write(int b) throws IOException {
+		if (current == null || count == CHUNK_SIZE)
+			nextChunk();
+		current[count++] = (byte)b;
+		size++;
+	}
+
+	@Override /* OutputStream */
+	public void write(byte[] b, int off, int len) throws IOException {
+		while (len > 0) {
+			if (current == null || count == CHUNK_SIZE)
+				nextChunk();
+			int l = Math.min(len, CHUNK_SIZE - count);
+			System.arraycopy(b, off, current, count, l);
+			count += l;
+			size += l;
+			off += l;
+			len -= l;
+		}
+	}
+
+	private void nextChunk() {
+		byte[] b = POOL.poll();
+		if (b == null)
+			b = new byte[CHUNK_SIZE];
+		else
+			POOL_SIZE.decrementAndGet();
+		chunks.add(b);
+		current = b;
+		count = 0;
+	}
+
+	/**
+	 * Returns the number of bytes written to this stream.
+	 *
+	 * @return The number of bytes written to this stream.
+	 */
+	public long size() {
+		return size;
+	}
+
+	/**
+	 * Returns the number of bytes written so far by {@link #writeTo(ServletOutputStream)}.
+	 *
+	 * @return The number of bytes written so far by {@link #writeTo(ServletOutputStream)}.
+	 */
+	public long position() {
+		return pos;
+	}
+
+	/**
+	 * Writes the remaining contents of this stream to the specified stream for as long as it can accept data without
+	 * blocking.
+	 *
+	 * <p>
+	 * Meant to be called from {@link WriteListener#onWritePossible()}.
+	 *
+	 * @param out The stream to write to.
+	 * @return
+	 * 	<jk>true</jk> if all the contents have been written and <code>out</code> has finished with the last write,
+	 * 	<jk>false</jk> if <code>out</code> is not ready.
+	 * @throws IOException
+	 */
+	public boolean writeTo(ServletOutputStream out) throws IOException {
+		while (pos < size) {
+			if (! out.isReady())
+				return false;
+			byte[] b = chunks.get((int)(pos / CHUNK_SIZE));
+			int off = (int)(pos % CHUNK_SIZE);
+			int len = (int)Math.min(CHUNK_SIZE - off, size - pos);
+			out.write(b, off, len);
+			pos += len;
+		}
+		// The last write may still be in progress.
+		return out.isReady();
+	}
+
+	/**
+	 * Returns the chunks of this stream to the pool.
+	 *
+	 * <p>
+	 * The contents of this stream are lost.
+	 * <br>Must not be called while the servlet container may still be sending the contents.
+	 */
+	public void release() {
+		for (byte[] b : chunks) {
+			if (POOL_SIZE.incrementAndGet() <= MAX_POOLED_CHUNKS)
+				POOL.offer(b);
+			else
+				POOL_SIZE.decrementAndGet();
+		}
+		chunks.clear();
+		current = null;
+		count = 0;
+		size = pos = 0;
+	}
+
+	@Override /* ServletOutputStream */
+	public boolean isReady() {
+		return true;
+	}
+
+	@Override /* ServletOutputStream */
+	public void setWriteListener(WriteListener writeListener) {
+		throw new UnsupportedOperationException();
+	}
+}
@@ -0,0 +1,83 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.annotation;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.parser.*;
+import org.apache.juneau.rest.exception.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Validates Java methods that return futures when the request does not support asynchronous processing.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RestMethodFutureTest {
+
+	//=================================================================================================================
+	// Futures are waited on synchronously
+	//=================================================================================================================
+
+	@RestResource
+	public static class A {
+		private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+		@RestMethod(name=GET, path="/ok")
+		public Future<String> a01() {
+			return executor.submit(new Callable<String>() {
+				@Override /* Callable */
+				public String call() throws Exception {
+					Thread.sleep(10);
+					return "foo";
+				}
+			});
+		}
+		@RestMethod(name=GET, path="/notFound")
+		public Future<String> a02() {
+			return executor.submit(new Callable<String>() {
+				@Override /* Callable */
+				public String call() throws Exception {
+					throw new NotFound("Not found: {0}", "foo");
+				}
+			});
+		}
+		@RestMethod(name=GET, path="/parseException")
+		public Future<String> a03() {
+			return executor.submit(new Callable<String>() {
+				@Override /* Callable */
+				public String call() throws Exception {
+					throw new ParseException("Bad input");
+				}
+			});
+		}
+	}
+	static MockRest a = MockRest.create(A.class);
+
+	@Test
+	public void a01_futureOutput() throws Exception {
+		a.get("/ok").accept("text/plain").execute().assertStatus(200).assertBody("foo");
+	}
+	@Test
+	public void a02_futureRestException() throws Exception {
+		a.get("/notFound?noTrace=true").execute().assertStatus(404).assertBodyContains("Not found: foo");
+	}
+	@Test
+	public void a03_futureParseException() throws Exception {
+		a.get("/parseException?noTrace=true").execute().assertStatus(400).assertBodyContains("Bad input");
+	}
+}
@@ -14,6 +14,7 @@ package org.apache.juneau.rest.annotation;
 
 import static org.apache.juneau.http.HttpMethodName.*;
 
+import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.mock.*;
 import org.junit.*;
 import org.junit.runners.*;
@@ -84,4 +85,63 @@ public class RestMethodPathTest {
 		a.get("/x/foo").execute().assertBody("g");
 		a.get("/x/foo/x").execute().assertBody("h");
 	}
+
+	//=================================================================================================================
+	// Path-segment routing
+	//=================================================================================================================
+
+	@RestResource
+	public static class B {
+		@RestMethod(name=GET, path="/a/b")
+		public String b01a() {
+			return "a";
+		}
+		@RestMethod(name=GET, path="/a/{x}")
+		public String b01b(@Path("x") String x) {
+			return "b-" + x;
+		}
+		@RestMethod(name=GET, path="/c.d")
+		public String b01c() {
+			return "c";
+		}
+		@RestMethod(name=GET, path="/e{x}")
+		public String b01d(@Path("x") String x) {
+			return "d-" + x;
+		}
+		@RestMethod(name=GET, path="/f", matchers=NeverMatcher.class)
+		public String b01e() {
+			return "e";
+		}
+		@RestMethod(name=GET, path="/g/{x}/h/*")
+		public String b01f(@Path("x") String x, @Path("/*") String r) {
+			return "f-" + x + "-" + r;
+		}
+		public static class NeverMatcher extends RestMatcher {
+			@Override /* RestMatcher */
+			public boolean matches(RestRequest req) {
+				return false;
+			}
+		}
+	}
+	static MockRest b = MockRest.create(B.class);
+
+	@Test
+	public void b01_segmentRouting() throws Exception {
+		b.get("/a/b").execute().assertBody("a");
+		b.get("/a/b/").execute().assertBody("a");
+		b.get("/a/x").execute().assertBody("b-x");
+		b.get("/c.d").execute().assertBody("c");
+		b.get("/eyy").execute().assertBody("d-yy");
+		b.get("/g/x/h").execute().assertBody("f-x-null");
+		b.get("/g/x/h/i/j").execute().assertBody("f-x-i/j");
+		b.get("/a/b/c?noTrace=true").execute().assertStatus(404);
+		b.get("/z?noTrace=true").execute().assertStatus(404);
+		b.get("/?noTrace=true").execute().assertStatus(404);
+	}
+
+	@Test
+	public void b02_failedMatchers() throws Exception {
+		b.get("/f?noTrace=true").execute().assertStatus(412);
+		b.get("/f/g?noTrace=true").execute().assertStatus(404);
+	}
 }
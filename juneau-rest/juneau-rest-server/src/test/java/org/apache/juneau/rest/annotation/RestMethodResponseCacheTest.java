@@ -0,0 +1,211 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.annotation;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+import static org.apache.juneau.rest.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.encoders.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.exception.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Validates the behavior of @RestMethod(responseCache).
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RestMethodResponseCacheTest {
+
+	//=================================================================================================================
+	// Setup classes
+	//=================================================================================================================
+
+	public static class AllowGuard extends RestGuard {
+		@Override /* RestGuard */
+		public boolean isRequestAllowed(RestRequest req) {
+			return ! "false".equals(req.getHeader("Allow"));
+		}
+	}
+
+	static final AtomicInteger COUNT = new AtomicInteger();
+
+	@RestResource(encoders=GzipEncoder.class)
+	public static class A {
+		@RestMethod(name=GET, path="/a01", responseCache="1M")
+		public String a01() {
+			return "foo" + COUNT.incrementAndGet();
+		}
+		@RestMethod(name=GET, path="/a02", responseCache="1M")
+		public String a02() {
+			return "foo" + COUNT.incrementAndGet();
+		}
+		@RestMethod(name=GET, path="/a03", responseCache="1M", guards=AllowGuard.class)
+		public String a03() {
+			return "foo" + COUNT.incrementAndGet();
+		}
+		@RestMethod(name=GET, path="/a04", responseCache="1M")
+		public String a04() {
+			if (COUNT.incrementAndGet() == 1)
+				throw new NotFound("Not found");
+			return "foo" + COUNT.get();
+		}
+		@RestMethod(name=GET, path="/a05", responseCache="10")
+		public String a05() {
+			return "foobarbazqux" + COUNT.incrementAndGet();
+		}
+		@RestMethod(name=PUT, path="/a06", responseCache="1M")
+		public String a06() {
+			return "foo" + COUNT.incrementAndGet();
+		}
+		@RestMethod(name=GET, path="/a07")
+		public String a07() {
+			return "foo" + COUNT.incrementAndGet();
+		}
+		@RestMethod(name=GET, path="/a08", responseCache="1M")
+		public String a08(RestResponse res) {
+			int i = COUNT.incrementAndGet();
+			res.setHeader("Set-Cookie", "id=" + i);
+			res.setHeader("Content-Language", "en");
+			return "foo" + i;
+		}
+		@RestMethod(name=GET, path="/a10", responseCache="1M", responseCacheTtl="500")
+		public String a10() {
+			return "foo" + COUNT.incrementAndGet();
+		}
+		@RestMethod(name=GET, path="/a11", responseCache="1M")
+		public String a11() {
+			return "foo" + COUNT.incrementAndGet();
+		}
+		@RestMethod(name=PUT, path="/a11")
+		public String a11Put(RestContext context) {
+			context.clearResponseCaches();
+			return "OK";
+		}
+	}
+	static MockRest a = MockRest.create(A.class);
+
+	@Before
+	public void setUp() {
+		COUNT.set(0);
+	}
+
+	//=================================================================================================================
+	// Tests
+	//=================================================================================================================
+
+	@Test
+	public void a01_cached() throws Exception {
+		a.get("/a01").accept("text/plain").execute().assertStatus(200).assertBody("foo1");
+		a.get("/a01").accept("text/plain").execute().assertStatus(200).assertBody("foo1").assertHeaderContains("Content-Type", "text/plain");
+
+		// Query and Accept are part of the key.
+		a.get("/a01?x=1").accept("text/plain").execute().assertBody("foo2");
+		a.get("/a01").accept("text/plain;q=0.9").execute().assertBody("foo3");
+		a.get("/a01").accept("text/plain;q=0.9").execute().assertBody("foo3");
+		assertEquals(3, COUNT.get());
+	}
+
+	@Test
+	public void a02_encoded() throws Exception {
+		byte[] b1 = a.get("/a02").accept("text/plain").acceptEncoding("gzip").execute().assertHeader("content-encoding", "gzip").getBody();
+		byte[] b2 = a.get("/a02").accept("text/plain").acceptEncoding("gzip").execute().assertHeader("content-encoding", "gzip").getBody();
+		assertArrayEquals(b1, b2);
+		assertEquals("foo1", decompress(b2));
+
+		// Accept-Encoding is part of the key.
+		a.get("/a02").accept("text/plain").execute().assertBody("foo2");
+		assertEquals(2, COUNT.get());
+	}
+
+	@Test
+	public void a03_guardsAlwaysApplied() throws Exception {
+		a.get("/a03").accept("text/plain").execute().assertStatus(200).assertBody("foo1");
+		a.get("/a03").accept("text/plain").header("Allow", "false").execute().assertStatus(403);
+		a.get("/a03").accept("text/plain").execute().assertStatus(200).assertBody("foo1");
+	}
+
+	@Test
+	public void a04_errorsNotCached() throws Exception {
+		a.get("/a04?noTrace=true").accept("text/plain").execute().assertStatus(404);
+		a.get("/a04?noTrace=true").accept("text/plain").execute().assertStatus(200).assertBody("foo2");
+		a.get("/a04?noTrace=true").accept("text/plain").execute().assertStatus(200).assertBody("foo2");
+	}
+
+	@Test
+	public void a05_tooLargeNotCached() throws Exception {
+		a.get("/a05").accept("text/plain").execute().assertBody("foobarbazqux1");
+		a.get("/a05").accept("text/plain").execute().assertBody("foobarbazqux2");
+	}
+
+	@Test
+	public void a06_onlyGetCached() throws Exception {
+		a.put("/a06", "").accept("text/plain").execute().assertBody("foo1");
+		a.put("/a06", "").accept("text/plain").execute().assertBody("foo2");
+	}
+
+	@Test
+	public void a07_notEnabled() throws Exception {
+		a.get("/a07").accept("text/plain").execute().assertBody("foo1");
+		a.get("/a07").accept("text/plain").execute().assertBody("foo2");
+	}
+
+	@Test
+	public void a08_onlyContentHeadersCached() throws Exception {
+		MockServletResponse r = a.get("/a08").accept("text/plain").execute().assertBody("foo1");
+		assertEquals("id=1", r.getHeader("Set-Cookie"));
+
+		r = a.get("/a08").accept("text/plain").execute().assertBody("foo1");
+		assertNull(r.getHeader("Set-Cookie"));
+		assertEquals("en", r.getHeader("Content-Language"));
+		assertEquals(1, r.getHeaders("Content-Language").size());
+	}
+
+	@Test
+	public void a09_localeInKey() throws Exception {
+		a.get("/a01?a09").accept("text/plain").acceptLanguage("en").execute().assertBody("foo1");
+		a.get("/a01?a09").accept("text/plain").acceptLanguage("fr").execute().assertBody("foo2");
+		a.get("/a01?a09").accept("text/plain").header("Accept-Charset", "iso-8859-1").execute().assertBody("foo3");
+		a.get("/a01?a09").accept("text/plain").acceptLanguage("fr").execute().assertBody("foo2");
+	}
+
+	@Test
+	public void a10_ttl() throws Exception {
+		a.get("/a10").accept("text/plain").execute().assertBody("foo1");
+		a.get("/a10").accept("text/plain").execute().assertBody("foo1");
+		Thread.sleep(600);
+		a.get("/a10").accept("text/plain").execute().assertBody("foo2");
+		a.get("/a10").accept("text/plain").execute().assertBody("foo2");
+	}
+
+	@Test
+	public void a11_clear() throws Exception {
+		a.get("/a11").accept("text/plain").execute().assertBody("foo1");
+		a.get("/a11").accept("text/plain").execute().assertBody("foo1");
+		a.put("/a11", "").accept("text/plain").execute().assertBody("OK");
+		a.get("/a11").accept("text/plain").execute().assertBody("foo2");
+	}
+
+	@Test
+	public void a12_vary() throws Exception {
+		String vary = "Accept, Accept-Encoding, Accept-Language, Accept-Charset";
+		a.get("/a11?a12").accept("text/plain").execute().assertBody("foo1").assertHeader("Vary", vary);
+		a.get("/a11?a12").accept("text/plain").execute().assertBody("foo1").assertHeader("Vary", vary);
+		assertNull(a.get("/a07").accept("text/plain").execute().getHeader("Vary"));
+	}
+}
@@ -12,6 +12,12 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.annotation;
 
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.mock.*;
 import org.junit.*;
 import org.junit.runners.*;
@@ -64,4 +70,75 @@ public class RestResourceStaticFilesTest {
 	public void b01() throws Exception {
 		b.get("/xdocs/test.txt").execute().assertHeader("Foo","Bar").assertBodyContains("OK-1");
 	}
+
+	//====================================================================================================
+	// Conditional and range requests.
+	//====================================================================================================
+
+	@RestResource(staticFiles={"xdocs:xdocs"})
+	public static class C {
+		@RestMethod
+		public String c01() {
+			return null;
+		}
+	}
+	static MockRest c = MockRest.create(C.class);
+
+	@Test
+	public void c01_conditional() throws Exception {
+		MockServletResponse r = c.get("/xdocs/test.txt").execute().assertStatus(200).assertHeader("Accept-Ranges", "bytes");
+		String etag = r.getHeader("ETag"), lastModified = r.getHeader("Last-Modified");
+		assertTrue(etag.matches("\"[0-9A-Fa-f]{32}\""));
+		assertNotNull(lastModified);
+
+		c.get("/xdocs/test.txt").ifNoneMatch(etag).execute().assertStatus(304).assertHeader("ETag", etag);
+		c.get("/xdocs/test.txt").ifNoneMatch("\"foo\", W/" + etag).execute().assertStatus(304);
+		c.get("/xdocs/test.txt").ifNoneMatch("*").execute().assertStatus(304);
+		c.get("/xdocs/test.txt").ifNoneMatch("\"foo\"").execute().assertStatus(200).assertBodyContains("OK-1");
+		c.get("/xdocs/test.txt").ifModifiedSince(lastModified).execute().assertStatus(304);
+		c.get("/xdocs/test.txt").ifModifiedSince("Sat, 01 Jan 2000 00:00:00 GMT").execute().assertStatus(200);
+		c.get("/xdocs/test.txt").ifNoneMatch("\"foo\"").ifModifiedSince(lastModified).execute().assertStatus(200);
+	}
+
+	@Test
+	public void c02_range() throws Exception {
+		MockServletResponse r = c.get("/xdocs/test.txt").execute();
+		String body = r.getBodyAsString(), etag = r.getHeader("ETag");
+		int len = body.length();
+
+		c.get("/xdocs/test.txt").range("bytes=0-3").execute().assertStatus(206).assertBody(body.substring(0, 4)).assertHeader("Content-Range", "bytes 0-3/" + len);
+		c.get("/xdocs/test.txt").range("bytes=10-").execute().assertStatus(206).assertBody(body.substring(10)).assertHeader("Content-Range", "bytes 10-" + (len-1) + "/" + len);
+		c.get("/xdocs/test.txt").range("bytes=-5").execute().assertStatus(206).assertBody(body.substring(len-5));
+		c.get("/xdocs/test.txt").range("bytes=5-100000").execute().assertStatus(206).assertBody(body.substring(5));
+		c.get("/xdocs/test.txt").range("bytes=" + len + "-").execute().assertStatus(416).assertHeader("Content-Range", "bytes */" + len);
+
+		// Ignored ranges.
+		c.get("/xdocs/test.txt").range("bytes=0-1,5-6").execute().assertStatus(200).assertBody(body);
+		c.get("/xdocs/test.txt").range("bytes=5-1").execute().assertStatus(200).assertBody(body);
+		c.get("/xdocs/test.txt").range("items=0-1").execute().assertStatus(200).assertBody(body);
+
+		// If-Range.
+		c.get("/xdocs/test.txt").range("bytes=0-3").ifRange(etag).execute().assertStatus(206);
+		c.get("/xdocs/test.txt").range("bytes=0-3").ifRange("\"foo\"").execute().assertStatus(200).assertBody(body);
+		c.get("/xdocs/test.txt").range("bytes=0-3").ifRange(r.getHeader("Last-Modified")).execute().assertStatus(206);
+	}
+
+	@Test
+	public void c03_acceptEncoding() throws Exception {
+		// Static files are never encoded, so ranges still apply.
+		String etag = c.get("/xdocs/test.txt").execute().getHeader("ETag");
+		c.get("/xdocs/test.txt").header("Accept-Encoding", "gzip").range("bytes=0-3").execute().assertStatus(206).assertHeader("ETag", etag);
+	}
+
+	@Test
+	public void c04_head() throws Exception {
+		String etag = c.get("/xdocs/test.txt").execute().getHeader("ETag");
+		c.request("HEAD", "/xdocs/test.txt").execute().assertStatus(200).assertBody("").assertHeader("ETag", etag);
+	}
+
+	@Test
+	public void c05_lastModifiedFromResource() throws Exception {
+		long l = new File(C.class.getResource("xdocs/test.txt").toURI()).lastModified();
+		c.get("/xdocs/test.txt").execute().assertHeader("Last-Modified", DateUtils.formatDate(new Date(l)));
+	}
 }
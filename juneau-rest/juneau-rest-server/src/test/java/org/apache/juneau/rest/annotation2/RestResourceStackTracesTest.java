@@ -0,0 +1,137 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.annotation2;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests related to @RestResource(renderResponseStackTraces) and @RestResource(maxRenderedStackTraces).
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RestResourceStackTracesTest {
+
+	//=================================================================================================================
+	// Unlimited
+	//=================================================================================================================
+
+	@RestResource(renderResponseStackTraces="true")
+	public static class A {
+		@RestMethod(name=GET)
+		public String get() {
+			throw new RuntimeException("foo");
+		}
+	}
+	static MockRest a = MockRest.create(A.class);
+
+	@Test
+	public void a01_unlimited() throws Exception {
+		for (int i = 0; i < 3; i++)
+			assertTrue(a.get("?noTrace=true").execute().assertStatus(500).getBodyAsString().contains("\tat "));
+	}
+
+	//=================================================================================================================
+	// Limited
+	//=================================================================================================================
+
+	@RestResource(renderResponseStackTraces="true", maxRenderedStackTraces="2")
+	public static class B {
+		@RestMethod(name=GET)
+		public String get() {
+			throw new RuntimeException("foo");
+		}
+	}
+	static MockRest b = MockRest.create(B.class);
+
+	@Test
+	public void b01_limited() throws Exception {
+		for (int i = 0; i < 4; i++) {
+			String body = b.get("?noTrace=true").execute().assertStatus(500).getBodyAsString();
+			assertEquals(i < 2, body.contains("\tat "));
+			assertTrue(body.contains("foo"));
+		}
+	}
+
+	//=================================================================================================================
+	// Limited per interval
+	//=================================================================================================================
+
+	@RestResource(renderResponseStackTraces="true", maxRenderedStackTraces="1", maxRenderedStackTracesInterval="1000")
+	public static class C {
+		@RestMethod(name=GET)
+		public String get() {
+			throw new RuntimeException("foo");
+		}
+	}
+	static MockRest c = MockRest.create(C.class);
+
+	@Test
+	public void c01_limitedPerInterval() throws Exception {
+		for (int j = 0; j < 2; j++) {
+			if (j > 0)
+				Thread.sleep(1100);
+			for (int i = 0; i < 3; i++) {
+				String body = c.get("?noTrace=true").execute().assertStatus(500).getBodyAsString();
+				assertEquals(i < 1, body.contains("\tat "));
+			}
+		}
+	}
+
+	//=================================================================================================================
+	// Limited with concurrent errors
+	//=================================================================================================================
+
+	@RestResource(renderResponseStackTraces="true", maxRenderedStackTraces="5")
+	public static class D {
+		// Created once so that the stack trace doesn't change when the reflective method accessor is inflated.
+		static final RuntimeException E = new RuntimeException("foo");
+
+		@RestMethod(name=GET)
+		public String get() {
+			throw E;
+		}
+	}
+	static MockRest d = MockRest.create(D.class);
+
+	@Test
+	public void d01_limitedConcurrent() throws Exception {
+		ExecutorService es = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<Boolean>> l = new ArrayList<>();
+			for (int i = 0; i < 80; i++) {
+				l.add(es.submit(new Callable<Boolean>() {
+					@Override /* Callable */
+					public Boolean call() throws Exception {
+						return d.get("?noTrace=true").execute().assertStatus(500).getBodyAsString().contains("\tat ");
+					}
+				}));
+			}
+			int rendered = 0;
+			for (Future<Boolean> f : l)
+				if (f.get())
+					rendered++;
+			assertEquals(5, rendered);
+		} finally {
+			es.shutdown();
+		}
+	}
+}